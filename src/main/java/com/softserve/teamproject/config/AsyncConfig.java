@@ -0,0 +1,166 @@
+package com.softserve.teamproject.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBodyReturnValueHandler;
+
+/**
+ * Executor of the read endpoints that return {@link java.util.concurrent.Callable}. The request
+ * thread of the server is released while the callable reads the database, so slow reads don't
+ * hold the threads that serve the login and the other requests. The executor is one of:
+ * - pool: as many workers as connections of the database pool and a bounded queue, the requests
+ * over the queue are rejected with 503;
+ * - virtual: a virtual thread per request, needs JDK 21 or newer;
+ * - caller: the request thread, the transaction of the caller is seen by the callable.
+ * The workers of the pool and the virtual threads are bound to the request and the locale of the
+ * request that submitted the callable, the links and the messages of the resources are built from
+ * them.
+ * The streamed responses are written for as long as the client reads them, so they have their own
+ * timeout instead of the timeout of the async requests.
+ */
+@Configuration
+public class AsyncConfig extends WebMvcConfigurerAdapter {
+
+  private static final String POOL = "pool";
+  private static final String VIRTUAL = "virtual";
+  private static final String CALLER = "caller";
+
+  private String executor;
+  private int workers;
+  private int queueCapacity;
+  private long streamTimeout;
+
+  @Value("${web.async.executor:pool}")
+  public void setExecutor(String executor) {
+    this.executor = executor;
+  }
+
+  @Value("${web.async.workers:10}")
+  public void setWorkers(int workers) {
+    this.workers = workers;
+  }
+
+  @Value("${web.async.queue-capacity:100}")
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  @Value("${web.async.stream-timeout:600000}")
+  public void setStreamTimeout(long streamTimeout) {
+    this.streamTimeout = streamTimeout;
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setTaskExecutor(readExecutor());
+    configurer.registerCallableInterceptors(new StreamTimeoutInterceptor(streamTimeout));
+  }
+
+  @Bean
+  public AsyncTaskExecutor readExecutor() {
+    switch (executor) {
+      case POOL:
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(workers);
+        pool.setMaxPoolSize(workers);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("read-");
+        pool.setTaskDecorator(new RequestContextDecorator());
+        return pool;
+      case VIRTUAL:
+        TaskExecutorAdapter virtual = new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+        virtual.setTaskDecorator(new RequestContextDecorator());
+        return virtual;
+      case CALLER:
+        return new TaskExecutorAdapter(new SyncTaskExecutor());
+      default:
+        throw new IllegalArgumentException("Unknown web.async.executor: " + executor);
+    }
+  }
+
+  /**
+   * Looks the factory of virtual threads up at runtime, the application is compiled for Java 8.
+   */
+  private ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Virtual threads need JDK 21 or newer", e);
+    }
+  }
+
+  /**
+   * Binds the request and the locale of the submitting thread to the worker while the task runs.
+   * The attributes of the request are created anew for the worker, because the attributes of the
+   * request thread are completed as soon as the request thread is released.
+   */
+  static class RequestContextDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable task) {
+      RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+      if (!(attributes instanceof ServletRequestAttributes)) {
+        return task;
+      }
+      HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+      HttpServletResponse response = ((ServletRequestAttributes) attributes).getResponse();
+      LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+      return () -> {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        LocaleContextHolder.setLocaleContext(localeContext);
+        try {
+          task.run();
+        } finally {
+          RequestContextHolder.setRequestAttributes(previousAttributes);
+          LocaleContextHolder.setLocaleContext(previousLocaleContext);
+        }
+      };
+    }
+  }
+
+  /**
+   * Sets the timeout of the streamed responses before the async processing of the request is
+   * started. {@link StreamingResponseBodyReturnValueHandler} writes the body in a callable of its
+   * own, the other callables keep the timeout of the async requests.
+   */
+  static class StreamTimeoutInterceptor extends CallableProcessingInterceptorAdapter {
+
+    private final long timeout;
+
+    StreamTimeoutInterceptor(long timeout) {
+      this.timeout = timeout;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+      if (request instanceof AsyncWebRequest && task.getClass().getEnclosingClass()
+          == StreamingResponseBodyReturnValueHandler.class) {
+        ((AsyncWebRequest) request).setTimeout(timeout);
+      }
+    }
+  }
+}
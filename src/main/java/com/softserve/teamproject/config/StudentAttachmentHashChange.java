@@ -0,0 +1,71 @@
+package com.softserve.teamproject.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Fills the hashes of the images and the CVs moved to the student_attachment table. The hashes
+ * are computed the same way as when the files are saved, so the change runs on every database.
+ */
+public class StudentAttachmentHashChange implements CustomTaskChange {
+
+  private static final String SELECT_ATTACHMENTS =
+      "select student_id, image, cv from student_attachment";
+  private static final String UPDATE_HASHES =
+      "update student_attachment set image_hash = ?, cv_hash = ? where student_id = ?";
+
+  @Override
+  public void execute(Database database) throws CustomChangeException {
+    Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+    try (PreparedStatement select = connection.prepareStatement(SELECT_ATTACHMENTS);
+        PreparedStatement update = connection.prepareStatement(UPDATE_HASHES);
+        ResultSet attachments = select.executeQuery()) {
+      while (attachments.next()) {
+        update.setString(1, getHash(attachments.getBinaryStream("image")));
+        update.setString(2, getHash(attachments.getBinaryStream("cv")));
+        update.setInt(3, attachments.getInt("student_id"));
+        update.executeUpdate();
+      }
+    } catch (SQLException | IOException e) {
+      throw new CustomChangeException("Can't fill the hashes of the student files", e);
+    }
+  }
+
+  private String getHash(InputStream content) throws IOException {
+    if (content == null) {
+      return null;
+    }
+    try (InputStream in = content) {
+      return DigestUtils.md5DigestAsHex(in);
+    }
+  }
+
+  @Override
+  public String getConfirmationMessage() {
+    return "Hashes of the student files are filled";
+  }
+
+  @Override
+  public void setUp() {
+  }
+
+  @Override
+  public void setFileOpener(ResourceAccessor resourceAccessor) {
+  }
+
+  @Override
+  public ValidationErrors validate(Database database) {
+    return new ValidationErrors();
+  }
+}
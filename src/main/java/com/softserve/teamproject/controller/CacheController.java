@@ -0,0 +1,55 @@
+package com.softserve.teamproject.controller;
+
+import com.softserve.teamproject.dto.CacheRegionStatistics;
+import com.softserve.teamproject.service.CacheService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller that used for monitoring and eviction of the second-level cache.
+ */
+@RestController
+@Api(value = "cacheController", description = "Operations with second-level cache")
+public class CacheController {
+
+  private CacheService cacheService;
+
+  @Autowired
+  public void setCacheService(CacheService cacheService) {
+    this.cacheService = cacheService;
+  }
+
+  /**
+   * Gets statistics of the cache regions.
+   *
+   * @return hits, misses, puts and size of each region
+   */
+  @GetMapping(value = "/cache/statistics", produces = "application/json")
+  @ApiOperation(value = "Get statistics of the cache regions")
+  public List<CacheRegionStatistics> getCacheStatistics() {
+    return cacheService.getCacheStatistics();
+  }
+
+  /**
+   * Evicts given cache region or all the regions. Use it after the reference data was changed
+   * directly in the database.
+   *
+   * @param region name of the cached entity or of the query cache region, if it isn't specified
+   * all the regions are evicted
+   */
+  @DeleteMapping(value = "/cache", produces = "application/json")
+  @ApiOperation(value = "Evict cache region")
+  public void evictCache(@RequestParam(value = "region", required = false) String region) {
+    if (region == null) {
+      cacheService.evictAll();
+    } else {
+      cacheService.evictRegion(region);
+    }
+  }
+}
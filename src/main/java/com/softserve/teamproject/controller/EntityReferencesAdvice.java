@@ -0,0 +1,74 @@
+package com.softserve.teamproject.controller;
+
+import com.softserve.teamproject.entity.deserializer.EntityReferences;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * Finds the entities referenced in the JSON request bodies before the body is read, so they are
+ * found with one query per type and the body is built with them. The bodies of the types without
+ * entity references are read at once.
+ */
+@ControllerAdvice
+public class EntityReferencesAdvice extends RequestBodyAdviceAdapter {
+
+  private EntityReferences entityReferences;
+
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
+  @Override
+  public boolean supports(MethodParameter methodParameter, Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+        && entityReferences.hasReferences(targetType);
+  }
+
+  @Override
+  public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter,
+      Type targetType, Class<? extends HttpMessageConverter<?>> converterType)
+      throws IOException {
+    byte[] body = StreamUtils.copyToByteArray(inputMessage.getBody());
+    entityReferences.findReferences(body, targetType);
+    return new HttpInputMessage() {
+      @Override
+      public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+      }
+
+      @Override
+      public HttpHeaders getHeaders() {
+        return inputMessage.getHeaders();
+      }
+    };
+  }
+
+  @Override
+  public Object afterBodyRead(Object body, HttpInputMessage inputMessage,
+      MethodParameter parameter, Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    entityReferences.release();
+    return body;
+  }
+
+  @Override
+  public Object handleEmptyBody(Object body, HttpInputMessage inputMessage,
+      MethodParameter parameter, Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    entityReferences.release();
+    return body;
+  }
+}
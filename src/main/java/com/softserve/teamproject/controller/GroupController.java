@@ -1,24 +1,33 @@
 package com.softserve.teamproject.controller;
 
+import com.softserve.teamproject.dto.CompactGroup;
 import com.softserve.teamproject.dto.GroupsFilter;
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.resource.GroupResource;
 import com.softserve.teamproject.service.GroupService;
 import com.softserve.teamproject.service.TeacherGroupsManipulationService;
+import com.softserve.teamproject.utils.KeysetResources;
 import com.softserve.teamproject.validation.GroupValidator;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.security.Principal;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -28,6 +37,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Api(value = "groupController", description = "Operations with groups")
 public class GroupController {
 
+  private static final String COMPACT_VIEW = "view=compact";
+
   private TeacherGroupsManipulationService groupsActions;
   private GroupService groupService;
   private GroupValidator groupValidator;
@@ -56,8 +67,8 @@ public class GroupController {
    */
   @GetMapping(value = "/groups/my", produces = "application/json")
   @ApiOperation(value = "Get all groups of the authorized teacher")
-  public List<GroupResource> getTeachersGroups(Principal principal) {
-    return groupsActions.getAllGroupResourcesOfTheTeacher(principal.getName());
+  public Callable<List<GroupResource>> getTeachersGroups(Principal principal) {
+    return () -> groupsActions.getAllGroupResourcesOfTheTeacher(principal.getName());
   }
 
   /**
@@ -68,8 +79,8 @@ public class GroupController {
    */
   @GetMapping(value = "/groups/mylocation", produces = "application/json")
   @ApiOperation(value = "Get all groups of the authorized user location")
-  public Set<GroupResource> getGroupsFromUserLocation(Principal principal) {
-    return groupService.getGroupResourcesFromUserLocation(principal.getName());
+  public Callable<Set<GroupResource>> getGroupsFromUserLocation(Principal principal) {
+    return () -> groupService.getGroupResourcesFromUserLocation(principal.getName());
   }
 
   /**
@@ -79,8 +90,59 @@ public class GroupController {
    */
   @GetMapping(value = "/groups", produces = "application/json")
   @ApiOperation(value = "Get all groups")
-  public List<GroupResource> getAllGroups() {
-    return groupService.getAllGroupResources();
+  public Callable<List<GroupResource>> getAllGroups() {
+    return () -> groupService.getAllGroupResources();
+  }
+
+  /**
+   * Displays the existing groups in compact form: without links and experts, with ids of the
+   * location, the status, the specialization and the budget owner.
+   *
+   * @return list of compact groups
+   */
+  @GetMapping(value = "/groups", params = COMPACT_VIEW, produces = "application/json")
+  @ApiOperation(value = "Get all groups in compact form")
+  public Callable<List<CompactGroup>> getAllCompactGroups() {
+    return () -> groupService.getCompactGroups(null);
+  }
+
+  /**
+   * Gets page of groups. Groups are filtered by locations request params the same way as in
+   * {@link #getGroupsByFilter(GroupsFilter)}.
+   *
+   * @param filter locations of the groups
+   * @param pageable page number, size and sorting
+   * @param assembler builds links to the other pages
+   * @return page of groups
+   */
+  @GetMapping(value = "/groups", params = {"page", "!" + KeysetResources.AFTER_PARAM},
+      produces = "application/json")
+  @ApiOperation(value = "Get page of groups")
+  public Callable<PagedResources<GroupResource>> getGroupsPage(GroupsFilter filter,
+      @PageableDefault(size = 20, sort = "id") Pageable pageable,
+      PagedResourcesAssembler<GroupResource> assembler) {
+    return () -> assembler.toResource(groupService.getGroupResources(filter, pageable),
+        resource -> resource);
+  }
+
+  /**
+   * Gets groups that follow the group with given id in order of ids. The response links to the
+   * next page while the page is full.
+   *
+   * @param filter locations of the groups
+   * @param afterId id of the last group of the previous page, 0 for the first page
+   * @param size maximal number of groups
+   * @return groups with links
+   */
+  @GetMapping(value = "/groups", params = KeysetResources.AFTER_PARAM,
+      produces = "application/json")
+  @ApiOperation(value = "Get groups after given one")
+  public Callable<Resources<GroupResource>> getGroupsAfter(GroupsFilter filter,
+      @RequestParam(KeysetResources.AFTER_PARAM) Integer afterId,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    return () -> KeysetResources.of(
+        groupService.getGroupResourcesAfter(filter, afterId, size), size,
+        GroupResource::getGroupId);
   }
 
   /**
@@ -133,8 +195,8 @@ public class GroupController {
    * @return group resource with entered id.
    */
   @GetMapping(value = "/groups/{id}")
-  public GroupResource getGroupById(@PathVariable Integer id) {
-    return groupService.getGroupResourceById(id);
+  public Callable<GroupResource> getGroupById(@PathVariable Integer id) {
+    return () -> groupService.getGroupResourceById(id);
   }
 
   /**
@@ -145,7 +207,20 @@ public class GroupController {
    */
   @PostMapping(value = "/groups/filter", produces = "application/json")
   @ApiOperation(value = "Get groups for given location")
-  public Iterable getGroupsByFilter(@RequestBody GroupsFilter requestFilter) {
-    return groupService.getGroupsByFilter(requestFilter);
+  public Callable<Iterable> getGroupsByFilter(@RequestBody GroupsFilter requestFilter) {
+    return () -> groupService.getGroupsByFilter(requestFilter);
+  }
+
+  /**
+   * Get groups like {@link #getGroupsByFilter(GroupsFilter)} in compact form.
+   *
+   * @param requestFilter group dto
+   * @return compact groups
+   */
+  @PostMapping(value = "/groups/filter", params = COMPACT_VIEW, produces = "application/json")
+  @ApiOperation(value = "Get compact groups for given location")
+  public Callable<List<CompactGroup>> getCompactGroupsByFilter(
+      @RequestBody GroupsFilter requestFilter) {
+    return () -> groupService.getCompactGroups(requestFilter);
   }
 }
@@ -3,6 +3,7 @@ package com.softserve.teamproject.controller;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import javax.persistence.EntityNotFoundException;
 import javax.validation.ConstraintViolation;
@@ -10,6 +11,7 @@ import javax.validation.ConstraintViolationException;
 import javax.validation.ValidationException;
 import org.json.simple.JSONObject;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -33,6 +35,7 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
   private static final String MSG_BAD_REQUEST = "Bad request";
   private static final String MSG_ACCESS_DENIED = "Access Denied";
   private static final String MSG_WRONG_TYPE = "Wrong type of request parameter";
+  private static final String MSG_SERVICE_UNAVAILABLE = "Service is busy, try again later";
   private static final String VALIDATION_ERRORS = "validationErrors";
 
   public RestResponseEntityExceptionHandler() {
@@ -69,6 +72,14 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         HttpStatus.NOT_FOUND, request);
   }
 
+  @ExceptionHandler(value = {RejectedExecutionException.class})
+  protected ResponseEntity<Object> handleRejectedExecutionException(
+      final RuntimeException ex, final WebRequest request) {
+    return handleExceptionInternal(
+        ex, createResponseBody(MSG_SERVICE_UNAVAILABLE), new HttpHeaders(),
+        HttpStatus.SERVICE_UNAVAILABLE, request);
+  }
+
   @ExceptionHandler(value = {DataIntegrityViolationException.class})
   protected ResponseEntity<Object> handleDataIntegrityViolationException(
       final RuntimeException ex, final WebRequest request) {
@@ -85,6 +96,14 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
         HttpStatus.BAD_REQUEST, request);
   }
 
+  @ExceptionHandler(value = {PropertyReferenceException.class})
+  protected ResponseEntity<Object> handlePropertyReferenceException(
+      final RuntimeException ex, final WebRequest request) {
+    return handleExceptionInternal(
+        ex, createResponseBody(MSG_BAD_REQUEST + ": " + ex.getMessage()), new HttpHeaders(),
+        HttpStatus.BAD_REQUEST, request);
+  }
+
   @ExceptionHandler(value = {MethodArgumentTypeMismatchException.class})
   protected ResponseEntity<Object> handleMethodArgumentTypeMismatchException(
       final RuntimeException ex, final WebRequest request) {
@@ -1,37 +1,51 @@
 package com.softserve.teamproject.controller;
 
+import com.softserve.teamproject.dto.CompactEvent;
+import com.softserve.teamproject.dto.CopyPasteJob;
 import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
 import com.softserve.teamproject.dto.EventResponseWrapper;
 import com.softserve.teamproject.dto.EventsFilter;
 import com.softserve.teamproject.dto.KeyDateDto;
 import com.softserve.teamproject.dto.KeyDateResponseDto;
 import com.softserve.teamproject.dto.ScheduleResponseWrapper;
+import com.softserve.teamproject.dto.ScheduleVersion;
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.resource.EventResource;
+import com.softserve.teamproject.service.CopyPasteJobService;
 import com.softserve.teamproject.service.ScheduleService;
 import com.softserve.teamproject.validation.ValidCopyPasteSchedule;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
+import java.io.IOException;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
 import javax.validation.ValidationException;
 import javax.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller that used for handle events.
@@ -41,7 +55,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Api(value = "scheduleController", description = "Operations with events")
 public class ScheduleController {
 
+  private static final String COMPACT_VIEW = "view=compact";
+
   private ScheduleService scheduleService;
+  private CopyPasteJobService copyPasteJobService;
   private Validator validator;
 
   @Autowired
@@ -49,13 +66,19 @@ public class ScheduleController {
     this.scheduleService = scheduleService;
   }
 
+  @Autowired
+  public void setCopyPasteJobService(CopyPasteJobService copyPasteJobService) {
+    this.copyPasteJobService = copyPasteJobService;
+  }
+
   @Autowired
   public void setValidator(Validator validator) {
     this.validator = validator;
   }
 
   /**
-   * Get events by groupId and date interval [start,end].
+   * Get events by groupId and date interval [start,end]. The events are written to the response
+   * as they are read from the database, so the list is never kept in memory.
    *
    * @param groupId is received as a request param
    * @param start date is received as a request param
@@ -65,16 +88,58 @@ public class ScheduleController {
   @GetMapping(value = "/events", produces = "application/json")
   @ApiOperation(value = "Get events for given group and dates interval", response = Event.class,
       responseContainer = "List")
-  public Iterable<EventResource> getEvents(
+  public ResponseEntity<StreamingResponseBody> getEvents(
       @RequestParam(value = "groupid", required = false) Integer groupId,
       @RequestParam(value = "start", required = false)
       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
       @RequestParam(value = "end", required = false)
       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
-    if (groupId != null) {
-      return scheduleService.getEventsByGroupId(groupId, start, end);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8)
+        .body(outputStream -> scheduleService.writeEvents(groupId, start, end, outputStream));
+  }
+
+  /**
+   * Get events like {@link #getEvents(Integer, LocalDate, LocalDate)} in compact form: without
+   * links and with ids of the room, the group and the event type.
+   *
+   * @param groupId is received as a request param
+   * @param start date is received as a request param
+   * @param end date is received as a request param
+   * @return compact events by groupId and datetime interval [start,end] or just all events
+   */
+  @GetMapping(value = "/events", params = COMPACT_VIEW, produces = "application/json")
+  @ApiOperation(value = "Get compact events for given group and dates interval",
+      response = CompactEvent.class, responseContainer = "List")
+  public Callable<List<CompactEvent>> getCompactEvents(
+      @RequestParam(value = "groupid", required = false) Integer groupId,
+      @RequestParam(value = "start", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+      @RequestParam(value = "end", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+    return () -> scheduleService.getCompactEvents(groupId, start, end);
+  }
+
+  /**
+   * Get events of the group or of the location in iCalendar format. The events are written to
+   * the response as they are read from the database. Supports conditional requests by ETag and
+   * Last-Modified, so polling calendar clients get 304 when nothing changed.
+   *
+   * @param groupId is received as a request param
+   * @param locationId is received as a request param
+   */
+  @GetMapping(value = "/events/ical", produces = "text/calendar")
+  @ApiOperation(value = "Get events for given group or location as iCalendar")
+  public void getEventsCalendar(
+      @RequestParam(value = "groupid", required = false) Integer groupId,
+      @RequestParam(value = "locationid", required = false) Integer locationId,
+      WebRequest webRequest, HttpServletResponse response) throws IOException {
+    ScheduleVersion version = scheduleService.getCalendarVersion(groupId, locationId);
+    if (webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+      return;
     }
-    return scheduleService.getAllEvents();
+    response.setContentType("text/calendar;charset=UTF-8");
+    response.setHeader("Content-Disposition", "inline; filename=\"schedule.ics\"");
+    scheduleService.writeCalendar(groupId, locationId, response.getWriter());
   }
 
   /**
@@ -86,9 +151,9 @@ public class ScheduleController {
   @GetMapping(value = "/events/lastweek", produces = "application/json")
   @ApiOperation(value = "Get events for given group and last week", response = Event.class,
       responseContainer = "List")
-  public Iterable<EventResource> getEventsForLastWeek(
+  public Callable<Iterable<EventResource>> getEventsForLastWeek(
       @RequestParam(value = "groupid") Integer groupId) {
-    return scheduleService.getLastWeekEvents(groupId);
+    return () -> scheduleService.getLastWeekEvents(groupId);
   }
 
   /**
@@ -100,13 +165,36 @@ public class ScheduleController {
   @PostMapping(value = "/events/filter", produces = "application/json")
   @ApiOperation(value = "Get events for given array of group and dates interval",
       response = Event.class, responseContainer = "List")
-  public Iterable<EventResource> getEventsByFilter(@RequestBody EventsFilter requestFilter) {
-    if (requestFilter.getGroups() != null) {
-      return scheduleService
-          .getEventsByFilter(requestFilter.getGroups(), requestFilter.getStartDate(),
-              requestFilter.getEndDate());
-    }
-    return null;
+  public Callable<Iterable<EventResource>> getEventsByFilter(
+      @RequestBody EventsFilter requestFilter) {
+    return () -> {
+      if (requestFilter.getGroups() != null) {
+        return scheduleService
+            .getEventsByFilter(requestFilter.getGroups(), requestFilter.getStartDate(),
+                requestFilter.getEndDate());
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Get events like {@link #getEventsByFilter(EventsFilter)} in compact form.
+   *
+   * @param requestFilter dto object in json format, need for filter.
+   * @return compact events by array of group ids and datetime interval [start,end]
+   */
+  @PostMapping(value = "/events/filter", params = COMPACT_VIEW, produces = "application/json")
+  @ApiOperation(value = "Get compact events for given array of group and dates interval",
+      response = CompactEvent.class, responseContainer = "List")
+  public Callable<List<CompactEvent>> getCompactEventsByFilter(
+      @RequestBody EventsFilter requestFilter) {
+    return () -> {
+      if (requestFilter.getGroups() != null) {
+        return scheduleService.getCompactEventsByFilter(requestFilter.getGroups(),
+            requestFilter.getStartDate(), requestFilter.getEndDate());
+      }
+      return null;
+    };
   }
 
   /**
@@ -118,12 +206,14 @@ public class ScheduleController {
   @GetMapping(value = "/events/demo", produces = "application/json")
   @ApiOperation(value = "Get key events for given group", response = Event.class,
       responseContainer = "List")
-  public Iterable<EventResource> getKeyEvents(
+  public Callable<Iterable<EventResource>> getKeyEvents(
       @RequestParam(value = "groupid", required = false) Integer groupId) {
-    if (groupId != null) {
-      return scheduleService.getKeyEventsByGroupId(groupId);
-    }
-    return scheduleService.getAllKeyEvents();
+    return () -> {
+      if (groupId != null) {
+        return scheduleService.getKeyEventsByGroupId(groupId);
+      }
+      return scheduleService.getAllKeyEvents();
+    };
   }
 
   /**
@@ -135,11 +225,14 @@ public class ScheduleController {
   @PostMapping(value = "/events/demo/filter", produces = "application/json")
   @ApiOperation(value = "Get key events for given array of group", response = Event.class,
       responseContainer = "List")
-  public Iterable<EventResource> getKeyEventsByFilter(@RequestBody EventsFilter requestFilter) {
-    if (requestFilter.getGroups() != null) {
-      return scheduleService.getKeyEventsByFilter(requestFilter.getGroups());
-    }
-    return null;
+  public Callable<Iterable<EventResource>> getKeyEventsByFilter(
+      @RequestBody EventsFilter requestFilter) {
+    return () -> {
+      if (requestFilter.getGroups() != null) {
+        return scheduleService.getKeyEventsByFilter(requestFilter.getGroups());
+      }
+      return null;
+    };
   }
 
   /**
@@ -150,8 +243,8 @@ public class ScheduleController {
    */
   @GetMapping(value = "/events/{id}", produces = "application/json")
   @ApiOperation(value = "Get event by id", response = Event.class)
-  public EventResource getEvent(@PathVariable Integer id) {
-    return scheduleService.getEvent(id);
+  public Callable<EventResource> getEvent(@PathVariable Integer id) {
+    return () -> scheduleService.getEvent(id);
   }
 
   private String getAllConstraintViolations(
@@ -215,6 +308,46 @@ public class ScheduleController {
     return scheduleService.updateSchedule(events, principal);
   }
 
+  /**
+   * Replaces one occurrence of a repeated event with a stored event.
+   *
+   * @param id id of the repetition
+   * @param date date of the replaced occurrence
+   * @param event changed fields of the occurrence in JSON format
+   */
+  @PutMapping(value = "/events/recurring/{id}/{date}", produces = "application/json")
+  @ApiOperation(value = "Replace an occurrence of a repeated event", response = Event.class)
+  public EventResource overrideOccurrence(@PathVariable Integer id,
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestBody Event event, Principal principal) throws ValidationException {
+    return scheduleService.overrideOccurrence(id, date, event, principal);
+  }
+
+  /**
+   * Removes one occurrence of a repeated event.
+   *
+   * @param id id of the repetition
+   * @param date date of the removed occurrence
+   */
+  @DeleteMapping(value = "/events/recurring/{id}/{date}")
+  @ApiOperation(value = "Cancel an occurrence of a repeated event")
+  public void cancelOccurrence(@PathVariable Integer id,
+      @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      Principal principal) {
+    scheduleService.cancelOccurrence(id, date, principal);
+  }
+
+  /**
+   * Removes a repeated event with all its occurrences.
+   *
+   * @param id id of the repetition
+   */
+  @DeleteMapping(value = "/events/recurring/{id}")
+  @ApiOperation(value = "Delete a repeated event")
+  public void deleteRecurringEvent(@PathVariable Integer id, Principal principal) {
+    scheduleService.deleteRecurringEvent(id, principal);
+  }
+
   /**
    * Method allows to copy paste a schedule for the group with the specified id.
    *
@@ -229,4 +362,29 @@ public class ScheduleController {
     return copyPasteSchedule;
   }
 
+  /**
+   * Queues the copy paste of a schedule for the group with the specified id. The requests with the
+   * same Idempotency-Key header return the already submitted job.
+   *
+   * @param copyPasteSchedule wrapper for request info such as group id, copy date, paste date
+   * @param key idempotency key of the request
+   * @return queued job, the schedule of the job holds the conflicts when it is done
+   */
+  @PostMapping(value = "/events/copypaste/jobs", produces = "application/json")
+  public ResponseEntity<CopyPasteJob> submitCopyPasteJob(
+      @RequestBody @ValidCopyPasteSchedule @Valid CopyPasteScheduleWrapper copyPasteSchedule,
+      @RequestHeader(value = "Idempotency-Key", required = false) String key) {
+    return ResponseEntity.accepted().body(copyPasteJobService.submit(copyPasteSchedule, key));
+  }
+
+  @GetMapping(value = "/events/copypaste/jobs/{id}", produces = "application/json")
+  public CopyPasteJob getCopyPasteJob(@PathVariable String id) {
+    return copyPasteJobService.getJob(id);
+  }
+
+  @GetMapping(value = "/events/copypaste/jobs/{id}/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeCopyPasteJob(@PathVariable String id) {
+    return copyPasteJobService.subscribe(id);
+  }
 }
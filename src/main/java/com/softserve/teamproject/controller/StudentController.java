@@ -1,21 +1,40 @@
 package com.softserve.teamproject.controller;
 
+import com.softserve.teamproject.dto.StudentFile;
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.entity.resource.StudentResource;
 import com.softserve.teamproject.service.StudentService;
+import com.softserve.teamproject.utils.KeysetResources;
 import com.softserve.teamproject.validation.StudentValidator;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLConnection;
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller that used for handle students.
@@ -38,7 +57,8 @@ public class StudentController {
   }
 
   /**
-   * Get students by groupId.
+   * Get students by groupId in order of ids. The students are written to the response as they
+   * are read from the database, so the list is never kept in memory.
    *
    * @param groupId is received as a request param
    * @return students info by groupId or just all students
@@ -46,12 +66,50 @@ public class StudentController {
   @GetMapping(value = "/students", produces = "application/json")
   @ApiOperation(value = "Get students for given group", response = Student.class,
       responseContainer = "List")
-  public Iterable<StudentResource> getStudents(
+  public ResponseEntity<StreamingResponseBody> getStudents(
       @RequestParam(value = "groupid", required = false) Integer groupId) {
-    if (groupId != null) {
-      return studentService.getStudentsByGroupId(groupId);
-    }
-    return studentService.getAllStudents();
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8)
+        .body(outputStream -> studentService.writeStudents(groupId, outputStream));
+  }
+
+  /**
+   * Gets page of students of given group or of all the students.
+   *
+   * @param groupId is received as a request param
+   * @param pageable page number, size and sorting
+   * @param assembler builds links to the other pages
+   * @return page of students
+   */
+  @GetMapping(value = "/students", params = {"page", "!" + KeysetResources.AFTER_PARAM},
+      produces = "application/json")
+  @ApiOperation(value = "Get page of students for given group")
+  public Callable<PagedResources<StudentResource>> getStudentsPage(
+      @RequestParam(value = "groupid", required = false) Integer groupId,
+      @PageableDefault(size = 20, sort = "id") Pageable pageable,
+      PagedResourcesAssembler<StudentResource> assembler) {
+    return () -> assembler.toResource(studentService.getStudents(groupId, pageable),
+        resource -> resource);
+  }
+
+  /**
+   * Gets students of given group or of all the students that follow the student with given id in
+   * order of ids. The response links to the next page while the page is full.
+   *
+   * @param groupId is received as a request param
+   * @param afterId id of the last student of the previous page, 0 for the first page
+   * @param size maximal number of students
+   * @return students with links
+   */
+  @GetMapping(value = "/students", params = KeysetResources.AFTER_PARAM,
+      produces = "application/json")
+  @ApiOperation(value = "Get students for given group after given one")
+  public Callable<Resources<StudentResource>> getStudentsAfter(
+      @RequestParam(value = "groupid", required = false) Integer groupId,
+      @RequestParam(KeysetResources.AFTER_PARAM) Integer afterId,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    return () -> KeysetResources.of(
+        studentService.getStudentsAfter(groupId, afterId, size), size,
+        StudentResource::getStudentId);
   }
 
   @PostMapping(value = "/groups/{id}/students", produces = "application/json")
@@ -79,8 +137,8 @@ public class StudentController {
    */
   @GetMapping(value = "/students/{id}")
   @ApiOperation(value = "Get student by given id", response = Student.class)
-  public StudentResource getStudentById(@PathVariable Integer id) {
-    return studentService.getStudentResourceById(id);
+  public Callable<StudentResource> getStudentById(@PathVariable Integer id) {
+    return () -> studentService.getStudentResourceById(id);
   }
 
   /**
@@ -98,4 +156,96 @@ public class StudentController {
     studentValidator.fillNotUpdatedFields(student);
     return studentService.updateStudent(student);
   }
+
+  /**
+   * Gets image of given student. Supports conditional and range requests.
+   *
+   * @param id given student's id
+   * @return image content
+   */
+  @GetMapping(value = "/students/{id}/image")
+  @ApiOperation(value = "Get image of given student")
+  public ResponseEntity<StreamingResponseBody> getStudentImage(@PathVariable Integer id,
+      @RequestHeader HttpHeaders headers, WebRequest webRequest) {
+    StudentFile image = studentService.getStudentImage(id);
+    if (webRequest.checkNotModified(image.getHash())) {
+      return null;
+    }
+    return getFileResponse(image, headers, (start, end, outputStream) ->
+        studentService.writeStudentImage(id, start, end, outputStream));
+  }
+
+  /**
+   * Gets CV of given student. Supports conditional and range requests.
+   *
+   * @param id given student's id
+   * @return CV content
+   */
+  @GetMapping(value = "/students/{id}/cv")
+  @ApiOperation(value = "Get CV of given student")
+  public ResponseEntity<StreamingResponseBody> getStudentCv(@PathVariable Integer id,
+      @RequestHeader HttpHeaders headers, WebRequest webRequest) {
+    StudentFile cv = studentService.getStudentCv(id);
+    if (webRequest.checkNotModified(cv.getHash())) {
+      return null;
+    }
+    return getFileResponse(cv, headers, (start, end, outputStream) ->
+        studentService.writeStudentCv(id, start, end, outputStream));
+  }
+
+  /**
+   * Streams the file or the requested range of it. Requests of several ranges get the whole
+   * file, the ranges out of the file get 416 status.
+   */
+  private ResponseEntity<StreamingResponseBody> getFileResponse(StudentFile file,
+      HttpHeaders requestHeaders, FileContent content) {
+    String name = file.getName() == null ? "file" : file.getName().replace("\"", "");
+    String contentType = URLConnection.guessContentTypeFromName(name);
+    long size = file.getSize();
+    long start = 0;
+    long end = size - 1;
+    List<HttpRange> ranges;
+    try {
+      ranges = requestHeaders.getRange();
+      if (ranges.size() == 1) {
+        start = ranges.get(0).getRangeStart(size);
+        end = ranges.get(0).getRangeEnd(size);
+      }
+    } catch (IllegalArgumentException e) {
+      return getRangeNotSatisfiableResponse(size);
+    }
+    if (ranges.size() == 1 && (start >= size || start > end)) {
+      return getRangeNotSatisfiableResponse(size);
+    }
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (ranges.size() == 1) {
+      response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+          .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+    }
+    response.contentType(contentType == null ? MediaType.APPLICATION_OCTET_STREAM
+        : MediaType.parseMediaType(contentType))
+        .contentLength(end - start + 1)
+        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + name + "\"");
+    if (file.getHash() != null) {
+      response.eTag(file.getHash());
+    }
+    long first = start;
+    long last = end;
+    return response.body(outputStream -> content.write(first, last, outputStream));
+  }
+
+  private ResponseEntity<StreamingResponseBody> getRangeNotSatisfiableResponse(long size) {
+    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size).build();
+  }
+
+  /**
+   * Writes the bytes of a file from start to end inclusive.
+   */
+  @FunctionalInterface
+  private interface FileContent {
+
+    void write(long start, long end, OutputStream outputStream) throws IOException;
+  }
 }
@@ -0,0 +1,44 @@
+package com.softserve.teamproject.dto;
+
+import org.hibernate.stat.SecondLevelCacheStatistics;
+
+/**
+ * Statistics of a second-level cache region since the application start or the last eviction of
+ * the region.
+ */
+public class CacheRegionStatistics {
+
+  private final String region;
+  private final long hitCount;
+  private final long missCount;
+  private final long putCount;
+  private final long elementCountInMemory;
+
+  public CacheRegionStatistics(String region, SecondLevelCacheStatistics statistics) {
+    this.region = region;
+    this.hitCount = statistics.getHitCount();
+    this.missCount = statistics.getMissCount();
+    this.putCount = statistics.getPutCount();
+    this.elementCountInMemory = statistics.getElementCountInMemory();
+  }
+
+  public String getRegion() {
+    return region;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getPutCount() {
+    return putCount;
+  }
+
+  public long getElementCountInMemory() {
+    return elementCountInMemory;
+  }
+}
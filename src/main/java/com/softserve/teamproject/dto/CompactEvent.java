@@ -0,0 +1,87 @@
+package com.softserve.teamproject.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.serializer.LocalDateTimeSerializer;
+import java.time.LocalDateTime;
+
+/**
+ * Event without links for the calendar views. The stored events are read by constructor
+ * projections, the occurrences of the repetitions have no event id.
+ */
+public class CompactEvent {
+
+  @JsonInclude(Include.NON_NULL)
+  private final Integer eventId;
+
+  @JsonInclude(Include.NON_NULL)
+  private final Integer recurringEventId;
+
+  @JsonSerialize(using = LocalDateTimeSerializer.class)
+  private final LocalDateTime start;
+
+  @JsonSerialize(using = LocalDateTimeSerializer.class)
+  private final LocalDateTime end;
+
+  private final Integer roomId;
+  private final Integer groupId;
+  private final Integer eventTypeId;
+
+  public CompactEvent(Integer eventId, LocalDateTime start, LocalDateTime end, Integer roomId,
+      Integer groupId, Integer eventTypeId) {
+    this(eventId, null, start, end, roomId, groupId, eventTypeId);
+  }
+
+  private CompactEvent(Integer eventId, Integer recurringEventId, LocalDateTime start,
+      LocalDateTime end, Integer roomId, Integer groupId, Integer eventTypeId) {
+    this.eventId = eventId;
+    this.recurringEventId = recurringEventId;
+    this.start = start;
+    this.end = end;
+    this.roomId = roomId;
+    this.groupId = groupId;
+    this.eventTypeId = eventTypeId;
+  }
+
+  /**
+   * Creates the compact event of the occurrence of a repetition.
+   *
+   * @param occurrence generated occurrence
+   * @return compact event with the id of the repetition
+   */
+  public static CompactEvent ofOccurrence(Event occurrence) {
+    return new CompactEvent(null, occurrence.getRecurringEvent().getId(), occurrence.getStart(),
+        occurrence.getEnd(), occurrence.getRoom() == null ? null : occurrence.getRoom().getId(),
+        occurrence.getGroup().getId(), occurrence.getEventType().getId());
+  }
+
+  public Integer getEventId() {
+    return eventId;
+  }
+
+  public Integer getRecurringEventId() {
+    return recurringEventId;
+  }
+
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  public Integer getRoomId() {
+    return roomId;
+  }
+
+  public Integer getGroupId() {
+    return groupId;
+  }
+
+  public Integer getEventTypeId() {
+    return eventTypeId;
+  }
+}
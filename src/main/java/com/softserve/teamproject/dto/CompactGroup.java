@@ -0,0 +1,70 @@
+package com.softserve.teamproject.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.softserve.teamproject.entity.serializer.LocalDateSerializer;
+import java.time.LocalDate;
+
+/**
+ * Group without links and experts for the views that only need the names and the ids of the
+ * references. Read by constructor projections.
+ */
+public class CompactGroup {
+
+  private final Integer groupId;
+  private final String name;
+
+  @JsonSerialize(using = LocalDateSerializer.class)
+  private final LocalDate startDate;
+
+  @JsonSerialize(using = LocalDateSerializer.class)
+  private final LocalDate finishDate;
+
+  private final Integer locationId;
+  private final Integer statusId;
+  private final Integer specializationId;
+  private final Integer budgetOwnerId;
+
+  public CompactGroup(Integer groupId, String name, LocalDate startDate, LocalDate finishDate,
+      Integer locationId, Integer statusId, Integer specializationId, Integer budgetOwnerId) {
+    this.groupId = groupId;
+    this.name = name;
+    this.startDate = startDate;
+    this.finishDate = finishDate;
+    this.locationId = locationId;
+    this.statusId = statusId;
+    this.specializationId = specializationId;
+    this.budgetOwnerId = budgetOwnerId;
+  }
+
+  public Integer getGroupId() {
+    return groupId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  public LocalDate getFinishDate() {
+    return finishDate;
+  }
+
+  public Integer getLocationId() {
+    return locationId;
+  }
+
+  public Integer getStatusId() {
+    return statusId;
+  }
+
+  public Integer getSpecializationId() {
+    return specializationId;
+  }
+
+  public Integer getBudgetOwnerId() {
+    return budgetOwnerId;
+  }
+}
@@ -0,0 +1,72 @@
+package com.softserve.teamproject.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.time.Instant;
+
+/**
+ * Copy paste of a schedule executed in the background. The schedule holds the conflicts when the
+ * job is done.
+ */
+public class CopyPasteJob {
+
+  public enum Status {
+    QUEUED, RUNNING, DONE, FAILED;
+
+    public boolean isFinished() {
+      return this == DONE || this == FAILED;
+    }
+  }
+
+  private final String id;
+  private final String owner;
+  private final CopyPasteScheduleWrapper schedule;
+  private volatile Status status = Status.QUEUED;
+  private volatile String message;
+  private volatile Instant finishedAt;
+
+  public CopyPasteJob(String id, String owner, CopyPasteScheduleWrapper schedule) {
+    this.id = id;
+    this.owner = owner;
+    this.schedule = schedule;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  @JsonIgnore
+  public String getOwner() {
+    return owner;
+  }
+
+  public CopyPasteScheduleWrapper getSchedule() {
+    return schedule;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+    if (status.isFinished()) {
+      finishedAt = Instant.now();
+    }
+  }
+
+  @JsonInclude(Include.NON_NULL)
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @JsonIgnore
+  public Instant getFinishedAt() {
+    return finishedAt;
+  }
+}
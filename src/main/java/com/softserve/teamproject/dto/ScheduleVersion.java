@@ -0,0 +1,58 @@
+package com.softserve.teamproject.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of a set of events: the number of the events and the time of the latest change. Used
+ * to answer conditional requests without reading the events.
+ */
+public class ScheduleVersion {
+
+  private final long eventsCount;
+  private final LocalDateTime lastModified;
+
+  public ScheduleVersion(long eventsCount, LocalDateTime lastModified) {
+    this.eventsCount = eventsCount;
+    this.lastModified = lastModified;
+  }
+
+  public long getEventsCount() {
+    return eventsCount;
+  }
+
+  public LocalDateTime getLastModified() {
+    return lastModified;
+  }
+
+  /**
+   * Combines the versions of two sets of events.
+   *
+   * @param other version of the other set
+   * @return version of both sets
+   */
+  public ScheduleVersion plus(ScheduleVersion other) {
+    LocalDateTime latest = lastModified;
+    if (latest == null || other.lastModified != null && other.lastModified.isAfter(latest)) {
+      latest = other.lastModified;
+    }
+    return new ScheduleVersion(eventsCount + other.eventsCount, latest);
+  }
+
+  /**
+   * Returns the time of the latest change in milliseconds or -1 if it is unknown.
+   */
+  public long getLastModifiedMillis() {
+    if (lastModified == null) {
+      return -1;
+    }
+    return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  /**
+   * Returns the entity tag that changes when events are added, changed or deleted.
+   */
+  public String getETag() {
+    return "\"" + eventsCount + "-" + getLastModifiedMillis() + "\"";
+  }
+}
@@ -7,9 +7,7 @@ public class StudentDto {
   private int id;
   private String firstName;
   private String lastName;
-  private byte[] image;
   private String imageName;
-  private byte[] cv;
   private String cvName;
   private String group;
   private String englishLevel;
@@ -21,9 +19,7 @@ public class StudentDto {
     this.id = student.getId();
     this.firstName = student.getFirstName();
     this.lastName = student.getLastName();
-    this.image = student.getImage();
     this.imageName = student.getImageName();
-    this.cv = student.getCv();
     this.cvName = student.getCvName();
     this.group = student.getGroup().getName();
     this.englishLevel = student.getEnglishLevel().getName();
@@ -81,14 +77,6 @@ public class StudentDto {
     this.lastName = lastName;
   }
 
-  public byte[] getImage() {
-    return image;
-  }
-
-  public void setImage(byte[] image) {
-    this.image = image;
-  }
-
   public String getImageName() {
     return imageName;
   }
@@ -97,14 +85,6 @@ public class StudentDto {
     this.imageName = imageName;
   }
 
-  public byte[] getCv() {
-    return cv;
-  }
-
-  public void setCv(byte[] cv) {
-    this.cv = cv;
-  }
-
   public String getCvName() {
     return cvName;
   }
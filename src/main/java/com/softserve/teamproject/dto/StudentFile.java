@@ -0,0 +1,34 @@
+package com.softserve.teamproject.dto;
+
+/**
+ * Name, content hash and size of an image or CV of a student. Used to answer conditional and
+ * range requests without loading the content.
+ */
+public class StudentFile {
+
+  private final String name;
+  private final String hash;
+  private final long size;
+
+  /**
+   * Creates the description of the file. The size is a number because the type of the length
+   * of a blob depends on the database dialect.
+   */
+  public StudentFile(String name, String hash, Number size) {
+    this.name = name;
+    this.hash = hash;
+    this.size = size.longValue();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  public long getSize() {
+    return size;
+  }
+}
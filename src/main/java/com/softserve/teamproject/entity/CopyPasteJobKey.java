@@ -0,0 +1,109 @@
+package com.softserve.teamproject.entity;
+
+import com.softserve.teamproject.dto.CopyPasteJob.Status;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Idempotency key of a copy paste job with the status of the job. The keys are unique per owner,
+ * so the retries of a request that reach any node find the job submitted first. The key of a
+ * failed job is released, its status is kept. The time of the last update of the status lets the
+ * keys of the jobs lost by a stopped node expire.
+ */
+@Entity
+@Table(name = "copy_paste_job_key")
+public class CopyPasteJobKey {
+
+  @Id
+  @Column(name = "job_id")
+  private String jobId;
+
+  @Column(name = "owner", nullable = false)
+  private String owner;
+
+  @Column(name = "idempotency_key")
+  private String idempotencyKey;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private Status status = Status.QUEUED;
+
+  @Column(name = "message")
+  private String message;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt = LocalDateTime.now();
+
+  public CopyPasteJobKey() {
+  }
+
+  public CopyPasteJobKey(String jobId, String owner, String idempotencyKey) {
+    this.jobId = jobId;
+    this.owner = owner;
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  public String getJobId() {
+    return jobId;
+  }
+
+  public void setJobId(String jobId) {
+    this.jobId = jobId;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public void setIdempotencyKey(String idempotencyKey) {
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public void setFinishedAt(LocalDateTime finishedAt) {
+    this.finishedAt = finishedAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
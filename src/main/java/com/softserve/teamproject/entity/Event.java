@@ -1,5 +1,6 @@
 package com.softserve.teamproject.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.softserve.teamproject.entity.deserializer.EventTypeDeserializer;
@@ -45,6 +46,14 @@ public class Event {
   @JsonDeserialize(using = EventTypeDeserializer.class)
   private EventType eventType;
 
+  @JsonIgnore
+  @Column(name = "last_modified")
+  private LocalDateTime lastModified;
+
+  @JsonIgnore
+  @Transient
+  private RecurringEvent recurringEvent;
+
   public Event(Integer id, LocalDateTime start, LocalDateTime end, Room room, Group group,
       EventType eventType) {
     this.id = id;
@@ -114,6 +123,31 @@ public class Event {
     this.room = room;
   }
 
+  public LocalDateTime getLastModified() {
+    return lastModified;
+  }
+
+  public void setLastModified(LocalDateTime lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  /**
+   * Returns the repetition the event is generated from or null if the event is stored.
+   */
+  public RecurringEvent getRecurringEvent() {
+    return recurringEvent;
+  }
+
+  public void setRecurringEvent(RecurringEvent recurringEvent) {
+    this.recurringEvent = recurringEvent;
+  }
+
+  @PrePersist
+  @PreUpdate
+  private void updateLastModified() {
+    lastModified = LocalDateTime.now();
+  }
+
   @Override
   public boolean equals(Object otherObject) {
     if (this == otherObject) {
@@ -0,0 +1,89 @@
+package com.softserve.teamproject.entity;
+
+import com.softserve.teamproject.utils.DateUtil;
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+/**
+ * Days a key date of the group may be set on, generated from the key event templates of the
+ * strategy of the group.
+ */
+@Entity
+@Table(name = "key_date_window")
+public class KeyDateWindow {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private int id;
+
+  @ManyToOne
+  @JoinColumn(name = "group_id", referencedColumnName = "id", nullable = false)
+  private Group group;
+
+  @ManyToOne
+  @JoinColumn(name = "event_type_id", referencedColumnName = "id", nullable = false)
+  private EventType eventType;
+
+  @Column(name = "start_date", nullable = false)
+  private LocalDate startDate;
+
+  @Column(name = "end_date", nullable = false)
+  private LocalDate endDate;
+
+  public int getId() {
+    return id;
+  }
+
+  public void setId(int id) {
+    this.id = id;
+  }
+
+  public Group getGroup() {
+    return group;
+  }
+
+  public void setGroup(Group group) {
+    this.group = group;
+  }
+
+  public EventType getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(EventType eventType) {
+    this.eventType = eventType;
+  }
+
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(LocalDate startDate) {
+    this.startDate = startDate;
+  }
+
+  public LocalDate getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(LocalDate endDate) {
+    this.endDate = endDate;
+  }
+
+  /**
+   * Checks whether the date is within the window, both ends included.
+   *
+   * @param date date of a key event
+   * @return true if the date is within the window
+   */
+  public boolean contains(LocalDate date) {
+    return DateUtil.isInRange(date, startDate, endDate);
+  }
+}
@@ -0,0 +1,304 @@
+package com.softserve.teamproject.entity;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+
+/**
+ * Event repeated every {@code intervalWeeks} weeks on the weekday of its first occurrence till
+ * the until date. The occurrences aren't stored, they are generated for the requested period.
+ * The dates of the exceptions have no occurrence, a changed occurrence is stored as a concrete
+ * {@link Event} and its date is added to the exceptions.
+ */
+@Entity
+@Table(name = "recurring_event")
+public class RecurringEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private Integer id;
+
+  @Column(name = "start", nullable = false)
+  private LocalDateTime start;
+
+  @Column(name = "end", nullable = false)
+  private LocalDateTime end;
+
+  @Column(name = "interval_weeks", nullable = false)
+  private int intervalWeeks = 1;
+
+  @Column(name = "until_date", columnDefinition = "DATE", nullable = false)
+  private LocalDate untilDate;
+
+  @ManyToOne
+  @JoinColumn(name = "room_id", referencedColumnName = "id")
+  private Room room;
+
+  @ManyToOne
+  @JoinColumn(name = "group_id", referencedColumnName = "id", nullable = false)
+  private Group group;
+
+  @ManyToOne
+  @JoinColumn(name = "event_type_id", referencedColumnName = "id", nullable = false)
+  private EventType eventType;
+
+  @ElementCollection
+  @CollectionTable(name = "recurring_event_exception",
+      joinColumns = @JoinColumn(name = "recurring_event_id"))
+  @Column(name = "date", columnDefinition = "DATE")
+  private Set<LocalDate> exceptions = new HashSet<>();
+
+  @Column(name = "last_modified")
+  private LocalDateTime lastModified;
+
+  public RecurringEvent() {
+  }
+
+  /**
+   * Creates the weekly repetition of the event.
+   *
+   * @param first first occurrence
+   * @param untilDate date of the last possible occurrence
+   */
+  public RecurringEvent(Event first, LocalDate untilDate) {
+    this.start = first.getStart();
+    this.end = first.getEnd();
+    this.room = first.getRoom();
+    this.group = first.getGroup();
+    this.eventType = first.getEventType();
+    this.untilDate = untilDate;
+  }
+
+  public Integer getId() {
+    return id;
+  }
+
+  public void setId(Integer id) {
+    this.id = id;
+  }
+
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  public void setStart(LocalDateTime start) {
+    this.start = start;
+  }
+
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  public void setEnd(LocalDateTime end) {
+    this.end = end;
+  }
+
+  public int getIntervalWeeks() {
+    return intervalWeeks;
+  }
+
+  public void setIntervalWeeks(int intervalWeeks) {
+    this.intervalWeeks = intervalWeeks;
+  }
+
+  public LocalDate getUntilDate() {
+    return untilDate;
+  }
+
+  public void setUntilDate(LocalDate untilDate) {
+    this.untilDate = untilDate;
+  }
+
+  public Room getRoom() {
+    return room;
+  }
+
+  public void setRoom(Room room) {
+    this.room = room;
+  }
+
+  public Group getGroup() {
+    return group;
+  }
+
+  public void setGroup(Group group) {
+    this.group = group;
+  }
+
+  public EventType getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(EventType eventType) {
+    this.eventType = eventType;
+  }
+
+  public Set<LocalDate> getExceptions() {
+    return exceptions;
+  }
+
+  public void setExceptions(Set<LocalDate> exceptions) {
+    this.exceptions = exceptions;
+  }
+
+  public LocalDateTime getLastModified() {
+    return lastModified;
+  }
+
+  public void setLastModified(LocalDateTime lastModified) {
+    this.lastModified = lastModified;
+  }
+
+  public DayOfWeek getDayOfWeek() {
+    return start.getDayOfWeek();
+  }
+
+  /**
+   * Removes the occurrence of the date from the repetition.
+   *
+   * @param date date of the occurrence
+   */
+  public void addException(LocalDate date) {
+    exceptions.add(date);
+    updateLastModified();
+  }
+
+  /**
+   * Checks whether the event occurs on the date.
+   *
+   * @param date checked date
+   * @return true if the date is a repetition of the first occurrence and isn't an exception
+   */
+  public boolean occursOn(LocalDate date) {
+    long days = ChronoUnit.DAYS.between(start.toLocalDate(), date);
+    return days >= 0 && days % (7L * intervalWeeks) == 0 && !date.isAfter(untilDate)
+        && !exceptions.contains(date);
+  }
+
+  /**
+   * Creates the occurrence of the date, the date isn't checked.
+   *
+   * @param date date of the occurrence
+   * @return event without id
+   */
+  public Event getOccurrence(LocalDate date) {
+    LocalDateTime occurrenceStart = date.atTime(start.toLocalTime());
+    Event occurrence = new Event(null, occurrenceStart,
+        occurrenceStart.plus(Duration.between(start, end)), room, group, eventType);
+    occurrence.setLastModified(lastModified);
+    occurrence.setRecurringEvent(this);
+    return occurrence;
+  }
+
+  /**
+   * Generates the occurrences that cross the period, the weeks before the period are skipped
+   * without generating their occurrences.
+   *
+   * @param from start of the period
+   * @param to end of the period
+   * @return occurrences ordered by start
+   */
+  public List<Event> getOccurrences(LocalDateTime from, LocalDateTime to) {
+    List<Event> occurrences = new ArrayList<>();
+    iterateOccurrences(from, to).forEachRemaining(occurrences::add);
+    return occurrences;
+  }
+
+  /**
+   * Generates the occurrences that cross the period one by one, an occurrence is created only
+   * when the iterator is advanced to it.
+   *
+   * @param from start of the period
+   * @param to end of the period
+   * @return iterator of the occurrences ordered by start
+   */
+  public Iterator<Event> iterateOccurrences(LocalDateTime from, LocalDateTime to) {
+    Duration duration = Duration.between(start, end);
+    LocalDateTime firstStart = start;
+    if (firstStart.plus(duration).isBefore(from)) {
+      long intervals = ChronoUnit.WEEKS.between(firstStart.plus(duration), from)
+          / intervalWeeks;
+      firstStart = firstStart.plusWeeks(intervals * intervalWeeks);
+    }
+    LocalDateTime skippedStart = firstStart;
+    return new Iterator<Event>() {
+
+      private LocalDateTime nextStart = findFrom(skippedStart);
+
+      @Override
+      public boolean hasNext() {
+        return nextStart != null;
+      }
+
+      @Override
+      public Event next() {
+        if (nextStart == null) {
+          throw new NoSuchElementException();
+        }
+        Event occurrence = getOccurrence(nextStart.toLocalDate());
+        nextStart = findFrom(nextStart.plusWeeks(intervalWeeks));
+        return occurrence;
+      }
+
+      private LocalDateTime findFrom(LocalDateTime occurrenceStart) {
+        while (occurrenceStart.isBefore(to)
+            && !occurrenceStart.toLocalDate().isAfter(untilDate)) {
+          if (occurrenceStart.plus(duration).isAfter(from)
+              && !exceptions.contains(occurrenceStart.toLocalDate())) {
+            return occurrenceStart;
+          }
+          occurrenceStart = occurrenceStart.plusWeeks(intervalWeeks);
+        }
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Checks whether an occurrence takes the room of the event at the same time. Only the
+   * occurrence of the day the event starts is checked.
+   *
+   * @param event checked event
+   * @return true if the occurrence crosses the event
+   */
+  public boolean isCrossing(Event event) {
+    if (room == null || event.getRoom() == null
+        || !Objects.equals(room.getId(), event.getRoom().getId())) {
+      return false;
+    }
+    LocalDate date = event.getStart().toLocalDate();
+    if (!occursOn(date)) {
+      return false;
+    }
+    LocalDateTime occurrenceStart = date.atTime(start.toLocalTime());
+    return occurrenceStart.isBefore(event.getEnd())
+        && occurrenceStart.plus(Duration.between(start, end)).isAfter(event.getStart());
+  }
+
+  @PrePersist
+  @PreUpdate
+  private void updateLastModified() {
+    lastModified = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,58 @@
+package com.softserve.teamproject.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Lease of a partition of the scheduled tasks. The tasks of a group belong to the partition
+ * given by the group id modulo the number of partitions, they are applied only by the node that
+ * holds the lease of the partition until it expires.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+
+  @Id
+  @Column(name = "partition_id")
+  private Integer partitionId;
+
+  @Column(name = "owner")
+  private String owner;
+
+  @Column(name = "expires_at")
+  private LocalDateTime expiresAt;
+
+  public SchedulerLease() {
+  }
+
+  public SchedulerLease(Integer partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public Integer getPartitionId() {
+    return partitionId;
+  }
+
+  public void setPartitionId(Integer partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  public LocalDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(LocalDateTime expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
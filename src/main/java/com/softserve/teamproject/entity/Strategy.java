@@ -1,17 +1,25 @@
 package com.softserve.teamproject.entity;
 
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Strategy {
 
   @Id
   @GeneratedValue
   private int id;
+  @Version
+  private int version;
   @OneToMany(mappedBy = "strategy")
   private List<KeyEventTemplate> keyEventTemplates;
   @OneToMany(mappedBy = "strategy")
@@ -45,6 +53,14 @@ public class Strategy {
     this.id = id;
   }
 
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
   public List<KeyEventTemplate> getKeyEventTemplates() {
     return keyEventTemplates;
   }
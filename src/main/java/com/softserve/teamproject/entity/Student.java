@@ -1,5 +1,7 @@
 package com.softserve.teamproject.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.softserve.teamproject.entity.deserializer.ExpertDeserializer;
 import com.softserve.teamproject.entity.enums.ActiveCommunicator;
@@ -8,7 +10,6 @@ import com.softserve.teamproject.entity.enums.LearningAbility;
 import com.softserve.teamproject.entity.enums.OverallTechnicalCompetence;
 import com.softserve.teamproject.entity.enums.PassionalInitiative;
 import com.softserve.teamproject.entity.enums.TeamWork;
-import java.util.Arrays;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -18,9 +19,9 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
-import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
@@ -42,8 +43,12 @@ public class Student {
   @Pattern(regexp = "[\\p{IsAlphabetic}\\p{IsWhite_Space}-/]+", message = "Wrong pattern")
   private String lastName;
 
-  @Lob
-  @Column(name = "image")
+  /**
+   * Content of the image received with the student, it is stored in {@link StudentAttachment}
+   * and is not loaded with the student.
+   */
+  @Transient
+  @JsonProperty(access = Access.WRITE_ONLY)
   private byte[] image;
 
   @Column(name = "image_name")
@@ -51,8 +56,12 @@ public class Student {
       message = "{illegalArgs.student.cvOrImage.name}")
   private String imageName;
 
-  @Lob
-  @Column(name = "cv")
+  /**
+   * Content of the CV received with the student, it is stored in {@link StudentAttachment} and is
+   * not loaded with the student.
+   */
+  @Transient
+  @JsonProperty(access = Access.WRITE_ONLY)
   private byte[] cv;
 
   @Column(name = "cv_name")
@@ -523,7 +532,6 @@ public class Student {
         + "id=" + id
         + ", firstName='" + firstName + '\''
         + ", lastName='" + lastName + '\''
-        + ", image=" + Arrays.toString(image)
         + ", group='" + group.getName() + '\''
         + ", englishLevel='" + englishLevel.getName() + '\''
         + '}';
@@ -0,0 +1,83 @@
+package com.softserve.teamproject.entity;
+
+import java.sql.Blob;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+/**
+ * Image and CV of a student. They are kept apart from the student so that student lists don't
+ * load the binaries, the content is streamed from the blobs by the separate endpoints of the
+ * student.
+ */
+@Entity
+@Table(name = "student_attachment")
+public class StudentAttachment {
+
+  @Id
+  @Column(name = "student_id")
+  private Integer studentId;
+
+  @Lob
+  @Column(name = "image")
+  private Blob image;
+
+  @Column(name = "image_hash")
+  private String imageHash;
+
+  @Lob
+  @Column(name = "cv")
+  private Blob cv;
+
+  @Column(name = "cv_hash")
+  private String cvHash;
+
+  public StudentAttachment() {
+  }
+
+  public StudentAttachment(Integer studentId) {
+    this.studentId = studentId;
+  }
+
+  public Integer getStudentId() {
+    return studentId;
+  }
+
+  public void setStudentId(Integer studentId) {
+    this.studentId = studentId;
+  }
+
+  public Blob getImage() {
+    return image;
+  }
+
+  public void setImage(Blob image) {
+    this.image = image;
+  }
+
+  public String getImageHash() {
+    return imageHash;
+  }
+
+  public void setImageHash(String imageHash) {
+    this.imageHash = imageHash;
+  }
+
+  public Blob getCv() {
+    return cv;
+  }
+
+  public void setCv(Blob cv) {
+    this.cv = cv;
+  }
+
+  public String getCvHash() {
+    return cvHash;
+  }
+
+  public void setCvHash(String cvHash) {
+    this.cvHash = cvHash;
+  }
+}
@@ -7,7 +7,6 @@ import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.Room;
 import com.softserve.teamproject.entity.resource.EventResource;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.mvc.ResourceAssemblerSupport;
 import org.springframework.stereotype.Component;
@@ -18,12 +17,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class EventResourceAssembler extends ResourceAssemblerSupport<Event, EventResource> {
 
-  private RepositoryEntityLinks repositoryEntityLinks;
+  private LinkTemplates linkTemplates;
 
   @Autowired
-  public void setRepositoryEntityLinks(
-      RepositoryEntityLinks repositoryEntityLinks) {
-    this.repositoryEntityLinks = repositoryEntityLinks;
+  public void setLinkTemplates(LinkTemplates linkTemplates) {
+    this.linkTemplates = linkTemplates;
   }
 
   public EventResourceAssembler() {
@@ -34,7 +32,9 @@ public class EventResourceAssembler extends ResourceAssemblerSupport<Event, Even
   public EventResource toResource(Event event) {
     EventResource eventResource = instantiateResource(event);
     initResourceFields(eventResource, event);
-    addSelfLinkToResource(eventResource, event);
+    if (event.getId() != null) {
+      addSelfLinkToResource(eventResource, event);
+    }
 
     addEntityFieldLinkToResource(eventResource, event.getGroup().getId(), Group.class);
     addEntityFieldLinkToResource(eventResource, event.getEventType().getId(), EventType.class);
@@ -46,19 +46,17 @@ public class EventResourceAssembler extends ResourceAssemblerSupport<Event, Even
 
   private void addCollectionFieldLinkToResource(EventResource eventResource, Event event,
       String relationName) {
-    Link collectionLink = repositoryEntityLinks.linkForSingleResource(Event.class, event.getId())
-        .slash(relationName).withRel(relationName);
+    Link collectionLink = linkTemplates.linkToRelation(Event.class, event.getId(), relationName);
     eventResource.add(collectionLink);
   }
 
   private void addEntityFieldLinkToResource(EventResource eventResource, int fieldId, Class clazz) {
-    Link entityLink = repositoryEntityLinks
-        .linkToSingleResource(clazz, fieldId);
+    Link entityLink = linkTemplates.linkToSingleResource(clazz, fieldId);
     eventResource.add(entityLink);
   }
 
   private void addSelfLinkToResource(EventResource eventResource, Event event) {
-    Link eventLink = repositoryEntityLinks.linkToSingleResource(Event.class, event.getId());
+    Link eventLink = linkTemplates.linkToSingleResource(Event.class, event.getId());
     Link selfLink = new Link(eventLink.getHref(), Link.REL_SELF);
     eventResource.add(selfLink);
     eventResource.add(eventLink);
@@ -66,7 +64,12 @@ public class EventResourceAssembler extends ResourceAssemblerSupport<Event, Even
 
   private void initResourceFields(EventResource eventResource, Event event) {
 
-    eventResource.setEventId(event.getId());
+    if (event.getId() != null) {
+      eventResource.setEventId(event.getId());
+    }
+    if (event.getRecurringEvent() != null) {
+      eventResource.setRecurringEventId(event.getRecurringEvent().getId());
+    }
     eventResource.setStart(event.getStart());
     eventResource.setEnd(event.getEnd());
   }
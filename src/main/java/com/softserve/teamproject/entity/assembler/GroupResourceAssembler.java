@@ -8,7 +8,6 @@ import com.softserve.teamproject.entity.Specialization;
 import com.softserve.teamproject.entity.Status;
 import com.softserve.teamproject.entity.resource.GroupResource;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.mvc.ResourceAssemblerSupport;
 import org.springframework.stereotype.Component;
@@ -19,16 +18,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class GroupResourceAssembler extends ResourceAssemblerSupport<Group, GroupResource> {
 
-  private RepositoryEntityLinks repositoryEntityLinks;
+  private LinkTemplates linkTemplates;
 
   public GroupResourceAssembler() {
     super(GroupController.class, GroupResource.class);
   }
 
   @Autowired
-  public void setRepositoryEntityLinks(
-      RepositoryEntityLinks repositoryEntityLinks) {
-    this.repositoryEntityLinks = repositoryEntityLinks;
+  public void setLinkTemplates(LinkTemplates linkTemplates) {
+    this.linkTemplates = linkTemplates;
   }
 
   @Override
@@ -51,19 +49,17 @@ public class GroupResourceAssembler extends ResourceAssemblerSupport<Group, Grou
 
   private void addCollectionFieldLinkToResource(GroupResource groupResource, Group group,
       String relationName) {
-    Link collectionLink = repositoryEntityLinks.linkForSingleResource(Group.class, group.getId())
-        .slash(relationName).withRel(relationName);
+    Link collectionLink = linkTemplates.linkToRelation(Group.class, group.getId(), relationName);
     groupResource.add(collectionLink);
   }
 
   private void addEntityFieldLinkToResource(GroupResource groupResource, int fieldId, Class clazz) {
-    Link entityLink = repositoryEntityLinks
-        .linkToSingleResource(clazz, fieldId);
+    Link entityLink = linkTemplates.linkToSingleResource(clazz, fieldId);
     groupResource.add(entityLink);
   }
 
   private void addSelfLinkToResource(GroupResource groupResource, Group group) {
-    Link groupLink = repositoryEntityLinks.linkToSingleResource(Group.class, group.getId());
+    Link groupLink = linkTemplates.linkToSingleResource(Group.class, group.getId());
     Link selfLink = new Link(groupLink.getHref(), Link.REL_SELF);
     groupResource.add(selfLink);
     groupResource.add(groupLink);
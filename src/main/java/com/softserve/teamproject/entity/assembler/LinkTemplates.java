@@ -0,0 +1,97 @@
+package com.softserve.teamproject.entity.assembler;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Builds the repository links of the resources from templates. A template is resolved by
+ * {@link RepositoryEntityLinks} once per request and type, the ids are put into it by
+ * concatenation. The templates are kept in the attributes of the current request, because the
+ * base URI of the links is taken from the request. Without a bound request every link is built
+ * by {@link RepositoryEntityLinks}.
+ */
+@Component
+public class LinkTemplates {
+
+  private static final String TEMPLATES_ATTRIBUTE = LinkTemplates.class.getName() + ".TEMPLATES";
+  private static final int TEMPLATE_ID = Integer.MIN_VALUE;
+
+  private RepositoryEntityLinks repositoryEntityLinks;
+
+  @Autowired
+  public void setRepositoryEntityLinks(RepositoryEntityLinks repositoryEntityLinks) {
+    this.repositoryEntityLinks = repositoryEntityLinks;
+  }
+
+  /**
+   * Creates the same link as {@link RepositoryEntityLinks#linkToSingleResource(Class, Object)}.
+   *
+   * @param type type of the entity
+   * @param id id of the entity
+   * @return link to the entity with the item relation of its repository
+   */
+  public Link linkToSingleResource(Class<?> type, int id) {
+    return getTemplate(type, null).expand(id);
+  }
+
+  /**
+   * Creates the link to the relation of the entity, the relation name is the rel of the link.
+   *
+   * @param type type of the entity
+   * @param id id of the entity
+   * @param relation name of the relation
+   * @return link to the relation
+   */
+  public Link linkToRelation(Class<?> type, int id, String relation) {
+    return getTemplate(type, relation).expand(id);
+  }
+
+  private LinkTemplate getTemplate(Class<?> type, String relation) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return resolveTemplate(type, relation);
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, LinkTemplate> templates = (Map<String, LinkTemplate>) attributes
+        .getAttribute(TEMPLATES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (templates == null) {
+      templates = new HashMap<>();
+      attributes.setAttribute(TEMPLATES_ATTRIBUTE, templates, RequestAttributes.SCOPE_REQUEST);
+    }
+    return templates.computeIfAbsent(type.getName() + "/" + relation,
+        key -> resolveTemplate(type, relation));
+  }
+
+  private LinkTemplate resolveTemplate(Class<?> type, String relation) {
+    Link link = relation == null
+        ? repositoryEntityLinks.linkToSingleResource(type, TEMPLATE_ID)
+        : repositoryEntityLinks.linkForSingleResource(type, TEMPLATE_ID).slash(relation)
+            .withRel(relation);
+    return new LinkTemplate(link, String.valueOf(TEMPLATE_ID));
+  }
+
+  private static class LinkTemplate {
+
+    private final String prefix;
+    private final String suffix;
+    private final String rel;
+
+    private LinkTemplate(Link link, String id) {
+      String href = link.getHref();
+      int idIndex = href.lastIndexOf(id);
+      this.prefix = href.substring(0, idIndex);
+      this.suffix = href.substring(idIndex + id.length());
+      this.rel = link.getRel();
+    }
+
+    private Link expand(int id) {
+      return new Link(prefix + id + suffix, rel);
+    }
+  }
+}
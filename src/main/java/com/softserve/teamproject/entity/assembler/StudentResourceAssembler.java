@@ -7,7 +7,6 @@ import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.entity.resource.StudentResource;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.mvc.ResourceAssemblerSupport;
 import org.springframework.stereotype.Component;
@@ -18,12 +17,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class StudentResourceAssembler extends ResourceAssemblerSupport<Student, StudentResource> {
 
-  private RepositoryEntityLinks repositoryEntityLinks;
+  private LinkTemplates linkTemplates;
 
   @Autowired
-  public void setRepositoryEntityLinks(
-      RepositoryEntityLinks repositoryEntityLinks) {
-    this.repositoryEntityLinks = repositoryEntityLinks;
+  public void setLinkTemplates(LinkTemplates linkTemplates) {
+    this.linkTemplates = linkTemplates;
   }
 
   public StudentResourceAssembler() {
@@ -41,27 +39,31 @@ public class StudentResourceAssembler extends ResourceAssemblerSupport<Student,
         EnglishLevel.class);
     addEntityFieldLinkToResource(studentResource, student.getTestApprovedByExpert().getId(),
         Expert.class);
+    if (student.getImageName() != null) {
+      addCollectionFieldLinkToResource(studentResource, student, "image");
+    }
+    if (student.getCvName() != null) {
+      addCollectionFieldLinkToResource(studentResource, student, "cv");
+    }
 
     return studentResource;
   }
 
   private void addCollectionFieldLinkToResource(StudentResource studentResource, Student student,
       String relationName) {
-    Link collectionLink = repositoryEntityLinks
-        .linkForSingleResource(Student.class, student.getId())
-        .slash(relationName).withRel(relationName);
+    Link collectionLink = linkTemplates
+        .linkToRelation(Student.class, student.getId(), relationName);
     studentResource.add(collectionLink);
   }
 
   private void addEntityFieldLinkToResource(StudentResource studentResource, int fieldId,
       Class clazz) {
-    Link entityLink = repositoryEntityLinks
-        .linkToSingleResource(clazz, fieldId);
+    Link entityLink = linkTemplates.linkToSingleResource(clazz, fieldId);
     studentResource.add(entityLink);
   }
 
   private void addSelfLinkToResource(StudentResource studentResource, Student student) {
-    Link studentLink = repositoryEntityLinks.linkToSingleResource(Student.class, student.getId());
+    Link studentLink = linkTemplates.linkToSingleResource(Student.class, student.getId());
     Link selfLink = new Link(studentLink.getHref(), Link.REL_SELF);
     studentResource.add(selfLink);
     studentResource.add(studentLink);
@@ -72,9 +74,7 @@ public class StudentResourceAssembler extends ResourceAssemblerSupport<Student,
     studentResource.setStudentId(student.getId());
     studentResource.setFirstName(student.getFirstName());
     studentResource.setLastName(student.getLastName());
-    studentResource.setImage(student.getImage());
     studentResource.setImageName(student.getImageName());
-    studentResource.setCv(student.getCv());
     studentResource.setCvName(student.getCvName());
     studentResource.setEntryScore(student.getEntryScore());
     studentResource.setIncomingTest(student.getIncomingTest());
@@ -11,21 +11,29 @@ import com.softserve.teamproject.repository.EnglishLevelRepository;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public class EnglishLevelDeserializer extends JsonDeserializer<EnglishLevel> {
+public class EnglishLevelDeserializer extends JsonDeserializer<EnglishLevel>
+    implements ReferenceDeserializer {
 
   private EnglishLevelRepository englishLevelRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setEnglishLevelRepository(EnglishLevelRepository englishLevelRepository) {
     this.englishLevelRepository = englishLevelRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public EnglishLevel deserialize(JsonParser jsonParser,
       DeserializationContext deserializationContext) throws IOException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    EnglishLevel englishLevel = englishLevelRepository.findOne(node.get("id").asInt());
+    EnglishLevel englishLevel = entityReferences.getReference(deserializationContext,
+        EnglishLevel.class, node.get("id").asInt(), englishLevelRepository);
     return englishLevel;
   }
 }
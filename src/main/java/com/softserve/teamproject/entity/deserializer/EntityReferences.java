@@ -0,0 +1,241 @@
+package com.softserve.teamproject.entity.deserializer;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnitUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Finds the entities referenced by id in request bodies. Before a body is read it is parsed with
+ * {@link ReferenceIds} in the attributes of the deserialization context, then the deserializers
+ * only collect the ids. The entities of every type are found with one query and kept in the
+ * request until the body is read, so the deserializers return the found entities and the setters
+ * of the body get them. Out of reading a body the entities are found at once. Only the bodies
+ * of the types that have properties read by a {@link ReferenceDeserializer} are parsed twice.
+ */
+@Component
+public class EntityReferences {
+
+  private static final String IDS_ATTRIBUTE = ReferenceIds.class.getName();
+  private static final String FOUND_ATTRIBUTE = EntityReferences.class.getName() + ".FOUND";
+
+  private final Map<Type, Boolean> referencingTypes = new ConcurrentHashMap<>();
+  private ObjectMapper objectMapper;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  public void setObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Collects the references of the body and finds them for the current request. If the body
+   * can't be parsed nothing is found, reading the body reports the error.
+   *
+   * @param body content of the body
+   * @param type type the body is read as
+   */
+  public void findReferences(byte[] body, Type type) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return;
+    }
+    ReferenceIds ids = new ReferenceIds();
+    try {
+      objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type))
+          .withAttribute(IDS_ATTRIBUTE, ids).readValue(body);
+    } catch (IOException e) {
+      return;
+    }
+    attributes.setAttribute(FOUND_ATTRIBUTE, ids.find(getPersistenceUnitUtil()),
+        RequestAttributes.SCOPE_REQUEST);
+  }
+
+  /**
+   * Checks whether the type or the types of its properties, elements included, have properties
+   * read by a {@link ReferenceDeserializer}. The result is computed once per type.
+   *
+   * @param type type a body is read as
+   * @return true if the bodies of the type may reference entities
+   */
+  public boolean hasReferences(Type type) {
+    return referencingTypes.computeIfAbsent(type, key -> hasReferences(
+        objectMapper.getTypeFactory().constructType(key), new HashSet<>()));
+  }
+
+  /**
+   * Forgets the entities found for the body of the current request.
+   */
+  public void release() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.removeAttribute(FOUND_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  /**
+   * Gets the entity. While the references are collected only the id is kept and null is returned.
+   *
+   * @param context context of the deserialization
+   * @param type type of the entity
+   * @param id id of the entity
+   * @param repository repository of the entity
+   * @return entity or null if there is no entity with the id
+   */
+  public <T> T getReference(DeserializationContext context, Class<T> type, int id,
+      JpaRepository<T, Integer> repository) {
+    ReferenceIds ids = (ReferenceIds) context.getAttribute(IDS_ATTRIBUTE);
+    if (ids != null) {
+      ids.add(type, id, repository);
+      return null;
+    }
+    Map<Integer, Object> found = getFound(type);
+    if (found != null && found.containsKey(id)) {
+      return type.cast(found.get(id));
+    }
+    return repository.findOne(id);
+  }
+
+  /**
+   * Gets the set of the entities, the missing entities are skipped. While the references are
+   * collected only the ids are kept and the set is empty.
+   *
+   * @param context context of the deserialization
+   * @param type type of the entities
+   * @param ids ids of the entities
+   * @param repository repository of the entities
+   * @return set of the entities
+   */
+  public <T> Set<T> getReferences(DeserializationContext context, Class<T> type,
+      List<Integer> ids, JpaRepository<T, Integer> repository) {
+    ReferenceIds referenceIds = (ReferenceIds) context.getAttribute(IDS_ATTRIBUTE);
+    if (referenceIds != null) {
+      ids.forEach(id -> referenceIds.add(type, id, repository));
+      return new HashSet<>();
+    }
+    Map<Integer, Object> found = getFound(type);
+    if (found != null && found.keySet().containsAll(ids)) {
+      return ids.stream().map(found::get).filter(Objects::nonNull).map(type::cast)
+          .collect(Collectors.toSet());
+    }
+    return new HashSet<>(repository.findAll(ids));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Integer, Object> getFound(Class<?> type) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    Map<Class<?>, Map<Integer, Object>> found = (Map<Class<?>, Map<Integer, Object>>) attributes
+        .getAttribute(FOUND_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return found == null ? null : found.get(type);
+  }
+
+  private boolean hasReferences(JavaType type, Set<JavaType> visited) {
+    if (type.isContainerType()) {
+      return (type.getKeyType() != null && hasReferences(type.getKeyType(), visited))
+          || hasReferences(type.getContentType(), visited);
+    }
+    if (type.isPrimitive() || type.isEnumType() || type.getRawClass().getName()
+        .startsWith("java.") || !visited.add(type)) {
+      return false;
+    }
+    BeanDescription description = objectMapper.getDeserializationConfig().introspect(type);
+    if (isReadByReferenceDeserializer(description.getClassInfo())) {
+      return true;
+    }
+    for (BeanPropertyDefinition property : description.findProperties()) {
+      Annotated[] members = {property.getField(), property.getSetter(),
+          property.getConstructorParameter(), property.getGetter()};
+      boolean customDeserializer = false;
+      for (Annotated member : members) {
+        if (member == null || member.getAnnotation(JsonDeserialize.class) == null) {
+          continue;
+        }
+        if (isReadByReferenceDeserializer(member)) {
+          return true;
+        }
+        customDeserializer |= member.getAnnotation(JsonDeserialize.class).using()
+            != JsonDeserializer.None.class;
+      }
+      if (!customDeserializer && hasReferences(getPropertyType(property), visited)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private JavaType getPropertyType(BeanPropertyDefinition property) {
+    AnnotatedMethod setter = property.getSetter();
+    return setter != null ? setter.getParameterType(0) : property.getPrimaryMember().getType();
+  }
+
+  private boolean isReadByReferenceDeserializer(Annotated annotated) {
+    JsonDeserialize deserialize = annotated.getAnnotation(JsonDeserialize.class);
+    return deserialize != null && (ReferenceDeserializer.class.isAssignableFrom(
+        deserialize.using()) || ReferenceDeserializer.class.isAssignableFrom(
+        deserialize.contentUsing()));
+  }
+
+  private PersistenceUnitUtil getPersistenceUnitUtil() {
+    return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+  }
+
+  /**
+   * Ids of the references of a body by the type of the entity.
+   */
+  private static class ReferenceIds {
+
+    private final Map<Class<?>, JpaRepository<?, Integer>> repositories = new HashMap<>();
+    private final Map<Class<?>, Set<Integer>> ids = new HashMap<>();
+
+    private void add(Class<?> type, int id, JpaRepository<?, Integer> repository) {
+      repositories.putIfAbsent(type, repository);
+      ids.computeIfAbsent(type, key -> new HashSet<>()).add(id);
+    }
+
+    /**
+     * Finds the entities of every type with one query.
+     *
+     * @param persistenceUnitUtil gets the ids of the entities
+     * @return entities by type and id, the ids of the missing entities are mapped to null
+     */
+    private Map<Class<?>, Map<Integer, Object>> find(PersistenceUnitUtil persistenceUnitUtil) {
+      Map<Class<?>, Map<Integer, Object>> found = new HashMap<>();
+      ids.forEach((type, typeIds) -> {
+        Map<Integer, Object> entities = new HashMap<>();
+        typeIds.forEach(id -> entities.put(id, null));
+        for (Object entity : repositories.get(type).findAll(typeIds)) {
+          entities.put((Integer) persistenceUnitUtil.getIdentifier(entity), entity);
+        }
+        found.put(type, entities);
+      });
+      return found;
+    }
+  }
+}
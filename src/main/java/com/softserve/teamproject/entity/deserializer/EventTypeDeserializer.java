@@ -12,21 +12,29 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 
-public class EventTypeDeserializer extends JsonDeserializer<EventType> {
+public class EventTypeDeserializer extends JsonDeserializer<EventType>
+    implements ReferenceDeserializer {
 
     private EventTypeRepository eventTypeRepository;
+    private EntityReferences entityReferences;
 
     @Autowired
     public void setEventTypeRepository(EventTypeRepository eventTypeRepository) {
         this.eventTypeRepository = eventTypeRepository;
     }
 
+    @Autowired
+    public void setEntityReferences(EntityReferences entityReferences) {
+        this.entityReferences = entityReferences;
+    }
+
     @Override
     public EventType deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
             throws IOException, JsonProcessingException {
         ObjectCodec oc = jsonParser.getCodec();
         JsonNode node = oc.readTree(jsonParser);
-        return eventTypeRepository.findOne(node.get("id").asInt());
+        return entityReferences.getReference(deserializationContext,
+            EventType.class, node.get("id").asInt(), eventTypeRepository);
     }
 
 }
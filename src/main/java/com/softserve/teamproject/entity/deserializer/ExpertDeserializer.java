@@ -11,21 +11,28 @@ import com.softserve.teamproject.repository.ExpertRepository;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public class ExpertDeserializer extends JsonDeserializer<Expert> {
+public class ExpertDeserializer extends JsonDeserializer<Expert> implements ReferenceDeserializer {
 
   private ExpertRepository expertRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setExpertRepository(ExpertRepository expertRepository) {
     this.expertRepository = expertRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Expert deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException, JsonProcessingException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    return expertRepository.findOne(node.get("id").asInt());
+    return entityReferences.getReference(deserializationContext,
+        Expert.class, node.get("id").asInt(), expertRepository);
   }
 
 }
\ No newline at end of file
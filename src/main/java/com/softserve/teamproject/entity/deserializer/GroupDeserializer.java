@@ -13,21 +13,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class GroupDeserializer extends JsonDeserializer<Group> {
+public class GroupDeserializer extends JsonDeserializer<Group> implements ReferenceDeserializer {
 
   private GroupRepository groupRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setGroupRepository(GroupRepository groupRepository) {
     this.groupRepository = groupRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Group deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException, JsonProcessingException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    Group group = groupRepository.findOne(node.get("id").asInt());
+    Group group = entityReferences.getReference(deserializationContext,
+        Group.class, node.get("id").asInt(), groupRepository);
     return group;
   }
 }
@@ -12,9 +12,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class LocationDeserializer extends JsonDeserializer<Location> {
+public class LocationDeserializer extends JsonDeserializer<Location>
+    implements ReferenceDeserializer {
 
   private LocationRepository locationRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setLocationRepository(
@@ -22,11 +24,17 @@ public class LocationDeserializer extends JsonDeserializer<Location> {
     this.locationRepository = locationRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Location deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    return locationRepository.findOne(node.get("id").asInt());
+    return entityReferences.getReference(deserializationContext,
+        Location.class, node.get("id").asInt(), locationRepository);
   }
 }
@@ -0,0 +1,10 @@
+package com.softserve.teamproject.entity.deserializer;
+
+/**
+ * Marks the deserializers that get the entities referenced in a body through
+ * {@link EntityReferences}, the references of the bodies that use them are found before the
+ * bodies are read.
+ */
+public interface ReferenceDeserializer {
+
+}
@@ -13,21 +13,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class RoomDeserializer extends JsonDeserializer<Room> {
+public class RoomDeserializer extends JsonDeserializer<Room> implements ReferenceDeserializer {
 
   private RoomRepository roomRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setRoomRepository(RoomRepository roomRepository) {
     this.roomRepository = roomRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Room deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException, JsonProcessingException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    Room room = roomRepository.findOne(node.get("id").asInt());
+    Room room = entityReferences.getReference(deserializationContext,
+        Room.class, node.get("id").asInt(), roomRepository);
     return room;
   }
 }
@@ -13,20 +13,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class SpecializationDeserializer extends JsonDeserializer<Specialization> {
+public class SpecializationDeserializer extends JsonDeserializer<Specialization>
+    implements ReferenceDeserializer {
 
   private SpecializationRepository specializationRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setSpecializationRepository(SpecializationRepository specializationRepository) {
     this.specializationRepository = specializationRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Specialization deserialize(JsonParser jsonParser,
       DeserializationContext deserializationContext) throws IOException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    return specializationRepository.findOne(node.get("id").asInt());
+    return entityReferences.getReference(deserializationContext,
+        Specialization.class, node.get("id").asInt(), specializationRepository);
   }
 }
@@ -12,20 +12,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class StatusDeserializer extends JsonDeserializer<Status> {
+public class StatusDeserializer extends JsonDeserializer<Status> implements ReferenceDeserializer {
 
   private StatusRepository statusRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setStatusRepository(StatusRepository statusRepository) {
     this.statusRepository = statusRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Status deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException {
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
-    return statusRepository.findOne(node.get("id").asInt());
+    return entityReferences.getReference(deserializationContext,
+        Status.class, node.get("id").asInt(), statusRepository);
   }
 }
\ No newline at end of file
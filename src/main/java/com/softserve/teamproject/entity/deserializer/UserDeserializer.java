@@ -8,33 +8,40 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.repository.UserRepository;
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class UserDeserializer extends JsonDeserializer<Set<User>> {
+public class UserDeserializer extends JsonDeserializer<Set<User>> implements ReferenceDeserializer {
 
   private UserRepository userRepository;
+  private EntityReferences entityReferences;
 
   @Autowired
   public void setUserRepository(UserRepository userRepository) {
     this.userRepository = userRepository;
   }
 
+  @Autowired
+  public void setEntityReferences(EntityReferences entityReferences) {
+    this.entityReferences = entityReferences;
+  }
+
   @Override
   public Set<User> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
       throws IOException {
-    Set<User> users = new HashSet<>();
+    List<Integer> ids = new ArrayList<>();
     ObjectCodec oc = jsonParser.getCodec();
     JsonNode node = oc.readTree(jsonParser);
     if (node.isArray()) {
       for (final JsonNode objNode : node) {
-        User user = userRepository.findOne(objNode.get("id").asInt());
-        users.add(user);
+        ids.add(objNode.get("id").asInt());
       }
     }
-    return users;
+    return entityReferences.getReferences(deserializationContext,
+        User.class, ids, userRepository);
   }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.softserve.teamproject.entity.resource;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.softserve.teamproject.entity.serializer.LocalDateTimeSerializer;
 import java.time.LocalDateTime;
@@ -10,7 +12,11 @@ import org.springframework.hateoas.ResourceSupport;
  */
 public class EventResource extends ResourceSupport {
 
-  private int eventId;
+  @JsonInclude(Include.NON_NULL)
+  private Integer eventId;
+
+  @JsonInclude(Include.NON_NULL)
+  private Integer recurringEventId;
 
   @JsonSerialize(using = LocalDateTimeSerializer.class)
   private LocalDateTime start;
@@ -18,14 +24,28 @@ public class EventResource extends ResourceSupport {
   @JsonSerialize(using = LocalDateTimeSerializer.class)
   private LocalDateTime end;
 
-  public int getEventId() {
+  /**
+   * Returns the id of the stored event, the occurrences of the repetitions have no event id.
+   */
+  public Integer getEventId() {
     return eventId;
   }
 
-  public void setEventId(int eventId) {
+  public void setEventId(Integer eventId) {
     this.eventId = eventId;
   }
 
+  /**
+   * Returns the id of the repetition if the event is its occurrence.
+   */
+  public Integer getRecurringEventId() {
+    return recurringEventId;
+  }
+
+  public void setRecurringEventId(Integer recurringEventId) {
+    this.recurringEventId = recurringEventId;
+  }
+
   public LocalDateTime getStart() {
     return start;
   }
@@ -21,12 +21,8 @@ public class StudentResource extends ResourceSupport {
 
   private String lastName;
 
-  private byte[] image;
-
   private String imageName;
 
-  private byte[] cv;
-
   private String cvName;
 
   private Integer incomingTest;
@@ -127,14 +123,6 @@ public class StudentResource extends ResourceSupport {
     this.lastName = lastName;
   }
 
-  public byte[] getImage() {
-    return image;
-  }
-
-  public void setImage(byte[] image) {
-    this.image = image;
-  }
-
   public String getImageName() {
     return imageName;
   }
@@ -143,14 +131,6 @@ public class StudentResource extends ResourceSupport {
     this.imageName = imageName;
   }
 
-  public byte[] getCv() {
-    return cv;
-  }
-
-  public void setCv(byte[] cv) {
-    this.cv = cv;
-  }
-
   public String getCvName() {
     return cvName;
   }
@@ -0,0 +1,172 @@
+package com.softserve.teamproject.generator;
+
+import com.softserve.teamproject.entity.KeyEventTemplate;
+import com.softserve.teamproject.entity.Strategy;
+import com.softserve.teamproject.entity.Template;
+import com.softserve.teamproject.service.KeyDateWindowService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Follows the changes of the templates of the strategies. When templates are inserted, updated
+ * or deleted, the plans of their strategies are evicted from the template generators, since
+ * saving a template doesn't change the version of its strategy. The stored key date windows of
+ * the groups of a strategy whose key event templates are changed are generated again.
+ *
+ * <p>The plans are evicted after the commit, so a plan resolved from the old templates during
+ * the transaction isn't kept either. The windows are written once the Spring transaction that
+ * saved the templates is committed, in a new transaction and once per strategy.
+ */
+@Component
+public class TemplateChangeListener implements PostCommitInsertEventListener,
+    PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+  private static final String STRATEGY_PROPERTY = "strategy";
+
+  private transient EntityManagerFactory entityManagerFactory;
+  private transient List<TemplateGenerator<?, ?>> generators;
+  private transient KeyDateWindowService keyDateWindowService;
+  private transient TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Autowired
+  public void setGenerators(List<TemplateGenerator<?, ?>> generators) {
+    this.generators = generators;
+  }
+
+  @Autowired
+  public void setKeyDateWindowService(KeyDateWindowService keyDateWindowService) {
+    this.keyDateWindowService = keyDateWindowService;
+  }
+
+  @Autowired
+  public void setTransactionManager(PlatformTransactionManager transactionManager) {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    // the resources of the committed transaction are still bound in afterCommit
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @PostConstruct
+  public void register() {
+    EventListenerRegistry registry = entityManagerFactory
+        .unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+        .getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    changed(event.getEntity(), getStrategy(event.getEntity()));
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    changed(event.getEntity(), getStrategy(event.getEntity()));
+    if (event.getEntity() instanceof Template && event.getOldState() != null) {
+      int strategyIndex = event.getPersister().getEntityMetamodel()
+          .getPropertyIndex(STRATEGY_PROPERTY);
+      changed(event.getEntity(), (Strategy) event.getOldState()[strategyIndex]);
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    changed(event.getEntity(), getStrategy(event.getEntity()));
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+  }
+
+  @Override
+  public boolean requiresPostCommitHanding(EntityPersister persister) {
+    return Template.class.isAssignableFrom(persister.getMappedClass());
+  }
+
+  private Strategy getStrategy(Object entity) {
+    return entity instanceof Template ? ((Template) entity).getStrategy() : null;
+  }
+
+  private void changed(Object template, Strategy strategy) {
+    if (strategy == null) {
+      return;
+    }
+    generators.forEach(generator -> generator.evict(strategy.getId()));
+    if (template instanceof KeyEventTemplate) {
+      updateWindows(strategy.getId());
+    }
+  }
+
+  /**
+   * Generates the windows of the groups of the strategy again once the Spring transaction is
+   * committed, or at once if the templates were saved out of it.
+   */
+  @SuppressWarnings("unchecked")
+  private void updateWindows(int strategyId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      keyDateWindowService.updateStrategyWindows(strategyId);
+      return;
+    }
+    Set<Integer> strategies = (Set<Integer>) TransactionSynchronizationManager.getResource(this);
+    if (strategies == null) {
+      Set<Integer> changedStrategies = new LinkedHashSet<>();
+      TransactionSynchronizationManager.bindResource(this, changedStrategies);
+      TransactionSynchronizationManager.registerSynchronization(getWindowsUpdate(
+          changedStrategies));
+      strategies = changedStrategies;
+    }
+    strategies.add(strategyId);
+  }
+
+  private TransactionSynchronization getWindowsUpdate(Set<Integer> strategies) {
+    return new TransactionSynchronizationAdapter() {
+      @Override
+      public void afterCommit() {
+        transactionTemplate.execute(status -> {
+          strategies.forEach(keyDateWindowService::updateStrategyWindows);
+          return null;
+        });
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(TemplateChangeListener.this);
+      }
+    };
+  }
+}
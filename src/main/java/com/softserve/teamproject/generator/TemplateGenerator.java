@@ -1,55 +1,65 @@
 package com.softserve.teamproject.generator;
 
 import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Strategy;
 import com.softserve.teamproject.entity.Template;
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-public class TemplateGenerator {
+/**
+ * Generates the dates of a group from the templates of its strategy. The templates are resolved
+ * once per version of the strategy and the resolved plans are cached, so the generators keep no
+ * state of a single call and may be used by several threads. The plan of a strategy is evicted
+ * when its templates are saved, see {@link TemplateChangeListener}.
+ *
+ * @param <T> type of the templates
+ * @param <K> type of the generated keys
+ */
+public abstract class TemplateGenerator<T extends Template, K> {
 
-  private Map<Template, LocalDate> validationTemplate;
-  private List<Template> templates;
+  private final ConcurrentMap<Integer, TemplatePlan<K>> plans = new ConcurrentHashMap<>();
 
-  protected Map<Template, LocalDate> generateTemplates(List<Template> templates, Group group) {
-    this.templates = templates;
-    this.templates.sort(Comparator.naturalOrder());
-    Template template = getFirst();
-    validationTemplate = new HashMap<>();
-    validationTemplate.put(template, group.getStartDate().plusDays(template.getDuration()));
-    validationTemplate.put(getLast(), group.getFinishDate());
-    while (this.templates.size() > 0) {
-      fillOtherTemplates();
-    }
-    return validationTemplate;
-  }
+  /**
+   * Returns the key the date of the template is generated for.
+   *
+   * @param template template of a strategy
+   * @return key of the date
+   */
+  protected abstract K getKey(T template);
 
-  private Template getFirst() {
-    Template template = templates.get(0);
-    templates.remove(template);
-    return template;
+  /**
+   * Forgets the plan of the strategy, so it is resolved again from the current templates.
+   *
+   * @param strategyId id of the strategy
+   */
+  public void evict(int strategyId) {
+    plans.remove(strategyId);
   }
 
-  private Template getLast() {
-    Template template = templates.get(templates.size() - 1);
-    templates.remove(template);
-    return template;
+  /**
+   * Forgets the plans of all the strategies.
+   */
+  public void evictAll() {
+    plans.clear();
   }
 
-  private void fillOtherTemplates() {
-    Template template = getFirst();
-    LocalDate from = getDateByLink(template.getRel());
-    validationTemplate.put(template,from.plusDays(template.getDuration()));
+  protected Map<K, LocalDate> generateTemplates(List<T> templates, Group group) {
+    return getPlan(templates).expand(group);
   }
 
-  private LocalDate getDateByLink(Integer rel) {
-    for (Map.Entry<Template, LocalDate>  entry : validationTemplate.entrySet()) {
-      if (entry.getKey().getRel() == rel) {
-        return entry.getValue();
-      }
+  private TemplatePlan<K> getPlan(List<T> templates) {
+    Strategy strategy = templates.isEmpty() ? null : templates.get(0).getStrategy();
+    if (strategy == null) {
+      return TemplatePlan.compile(templates, this::getKey, 0);
+    }
+    TemplatePlan<K> plan = plans.get(strategy.getId());
+    if (plan == null || plan.getVersion() != strategy.getVersion()) {
+      plan = TemplatePlan.compile(templates, this::getKey, strategy.getVersion());
+      plans.put(strategy.getId(), plan);
     }
-    throw new IllegalArgumentException();
+    return plan;
   }
 }
@@ -0,0 +1,103 @@
+package com.softserve.teamproject.generator;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Template;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Templates of a strategy resolved to offsets from the start or the finish date of a group. The
+ * first template in order is bound to the start date, the last one to the finish date and every
+ * other template to the one of them that has the same rel. The plan is immutable, so it may be
+ * shared between threads.
+ *
+ * @param <K> type of the generated keys
+ */
+final class TemplatePlan<K> {
+
+  private final int version;
+  private final List<Step<K>> steps;
+
+  private TemplatePlan(int version, List<Step<K>> steps) {
+    this.version = version;
+    this.steps = Collections.unmodifiableList(steps);
+  }
+
+  /**
+   * Sorts the templates and resolves the links between them.
+   *
+   * @param templates templates of a strategy, the list is not changed
+   * @param keyMapper maps a template to the key of its date
+   * @param version version of the strategy
+   * @throws IllegalArgumentException if a template is linked to neither the first nor the last
+   * template
+   */
+  static <T extends Template, K> TemplatePlan<K> compile(List<T> templates,
+      Function<T, K> keyMapper, int version) {
+    List<T> sorted = new ArrayList<>(templates);
+    sorted.sort(Comparator.naturalOrder());
+    List<Step<K>> steps = new ArrayList<>(sorted.size());
+    if (sorted.isEmpty()) {
+      return new TemplatePlan<>(version, steps);
+    }
+    Map<Integer, Step<K>> anchors = new HashMap<>();
+    T first = sorted.get(0);
+    Step<K> start = new Step<>(keyMapper.apply(first), false, first.getDuration());
+    steps.add(start);
+    anchors.put(first.getRel(), start);
+    if (sorted.size() > 1) {
+      T last = sorted.get(sorted.size() - 1);
+      Step<K> finish = new Step<>(keyMapper.apply(last), true, 0);
+      steps.add(finish);
+      anchors.putIfAbsent(last.getRel(), finish);
+    }
+    for (T template : sorted.subList(1, Math.max(sorted.size() - 1, 1))) {
+      Step<K> anchor = anchors.get(template.getRel());
+      if (anchor == null) {
+        throw new IllegalArgumentException("Template " + template.getId()
+            + " is linked to an unknown template: " + template.getRel());
+      }
+      steps.add(new Step<>(keyMapper.apply(template), anchor.fromFinish,
+          anchor.offset + template.getDuration()));
+    }
+    return new TemplatePlan<>(version, steps);
+  }
+
+  int getVersion() {
+    return version;
+  }
+
+  /**
+   * Generates the dates of the group in one pass over the resolved templates.
+   *
+   * @param group group with the start and the finish dates
+   * @return generated dates by the keys of the templates
+   */
+  Map<K, LocalDate> expand(Group group) {
+    Map<K, LocalDate> dates = new HashMap<>(steps.size() * 2);
+    for (Step<K> step : steps) {
+      LocalDate from = step.fromFinish ? group.getFinishDate() : group.getStartDate();
+      dates.put(step.key, from.plusDays(step.offset));
+    }
+    return dates;
+  }
+
+  private static final class Step<K> {
+
+    private final K key;
+    private final boolean fromFinish;
+    private final long offset;
+
+    private Step(K key, boolean fromFinish, long offset) {
+      this.key = key;
+      this.fromFinish = fromFinish;
+      this.offset = offset;
+    }
+  }
+}
@@ -1,11 +1,16 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.BudgetOwner;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface BudgetOwnerRepository extends JpaRepository<BudgetOwner, Integer>,
     QueryDslPredicateExecutor {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   BudgetOwner findByName(String name);
 }
@@ -0,0 +1,28 @@
+package com.softserve.teamproject.repository;
+
+import com.softserve.teamproject.entity.CopyPasteJobKey;
+import java.time.LocalDateTime;
+import javax.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource(exported = false)
+public interface CopyPasteJobKeyRepository extends JpaRepository<CopyPasteJobKey, String> {
+
+  CopyPasteJobKey findByOwnerAndIdempotencyKey(String owner, String idempotencyKey);
+
+  CopyPasteJobKey findByJobIdAndOwner(String jobId, String owner);
+
+  /**
+   * Deletes the keys of the jobs finished before the time and of the unfinished jobs whose status
+   * wasn't updated since then, the node that ran them was stopped.
+   */
+  @Transactional
+  @Modifying
+  @Query("delete from CopyPasteJobKey k where k.finishedAt < :expired"
+      + " or (k.finishedAt is null and k.updatedAt < :expired)")
+  int deleteExpired(@Param("expired") LocalDateTime expired);
+}
@@ -1,12 +1,17 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.EnglishLevel;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface EnglishLevelRepository extends JpaRepository<EnglishLevel, Integer>,
     QueryDslPredicateExecutor<EnglishLevel> {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   EnglishLevel findByName(String name);
 
 }
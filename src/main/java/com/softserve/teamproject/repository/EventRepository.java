@@ -1,11 +1,38 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.repository.custom.EventRepositoryCustom;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface EventRepository extends JpaRepository<Event, Integer>,
     QueryDslPredicateExecutor<Event>,EventRepositoryCustom {
 
+  @Query("select e from Event e join fetch e.group g join fetch e.eventType "
+      + "left join fetch e.room where g.id = ?1 order by e.start")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Event> streamByGroupId(Integer groupId);
+
+  @Query("select e from Event e join fetch e.group g join fetch e.eventType "
+      + "left join fetch e.room where g.location.id = ?1 order by e.start")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Event> streamByLocationId(Integer locationId);
+
+  @Query("select e from Event e join fetch e.group g join fetch e.eventType "
+      + "left join fetch e.room where g.id = ?1 and e.start between ?2 and ?3 order by e.start")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Event> streamByGroupIdAndStartBetween(Integer groupId, LocalDateTime from,
+      LocalDateTime to);
+
+  @Query("select e from Event e join fetch e.group join fetch e.eventType "
+      + "left join fetch e.room order by e.start")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Event> streamAll();
 }
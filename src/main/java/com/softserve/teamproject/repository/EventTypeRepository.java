@@ -1,10 +1,22 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.EventType;
+import java.util.List;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface EventTypeRepository extends JpaRepository<EventType, Integer>,
     QueryDslPredicateExecutor {
 
+  @Override
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+  List<EventType> findAll();
+
+  @Override
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+  List<EventType> findAll(Iterable<Integer> ids);
 }
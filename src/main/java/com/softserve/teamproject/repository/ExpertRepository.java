@@ -1,12 +1,17 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.Expert;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface ExpertRepository extends JpaRepository<Expert, Integer>,
     QueryDslPredicateExecutor {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   Expert findByExpertName(String name);
 
 }
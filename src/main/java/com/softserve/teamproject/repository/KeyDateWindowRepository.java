@@ -0,0 +1,20 @@
+package com.softserve.teamproject.repository;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.KeyDateWindow;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource(exported = false)
+public interface KeyDateWindowRepository extends JpaRepository<KeyDateWindow, Integer> {
+
+  List<KeyDateWindow> findByGroupId(int groupId);
+
+  @Modifying
+  @Query("delete from KeyDateWindow w where w.group = :group")
+  void deleteByGroup(@Param("group") Group group);
+}
@@ -1,11 +1,21 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.Location;
+import java.util.List;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface LocationRepository extends JpaRepository<Location, Integer>,
     QueryDslPredicateExecutor {
 
+  @Override
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+  List<Location> findAll();
+
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   public Location findByName(String name);
 }
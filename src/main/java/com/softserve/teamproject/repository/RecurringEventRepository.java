@@ -0,0 +1,12 @@
+package com.softserve.teamproject.repository;
+
+import com.softserve.teamproject.entity.RecurringEvent;
+import com.softserve.teamproject.repository.custom.RecurringEventRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource(exported = false)
+public interface RecurringEventRepository extends JpaRepository<RecurringEvent, Integer>,
+    RecurringEventRepositoryCustom {
+
+}
@@ -1,11 +1,16 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.Role;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface RoleRepository extends JpaRepository<Role, Integer>,
     QueryDslPredicateExecutor {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   public Role findByName(String name);
 }
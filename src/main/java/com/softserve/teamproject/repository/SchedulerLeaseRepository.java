@@ -0,0 +1,30 @@
+package com.softserve.teamproject.repository;
+
+import com.softserve.teamproject.entity.SchedulerLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource(exported = false)
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, Integer> {
+
+  /**
+   * Takes the lease of the partition if it is free, expired or already held by the owner. The
+   * updated row stays locked till the end of the transaction, so only one node gets the lease.
+   *
+   * @param partitionId id of the partition
+   * @param owner id of the node
+   * @param now current time
+   * @param expiresAt time the lease expires
+   * @return 1 if the lease is taken, 0 otherwise
+   */
+  @Modifying
+  @Query("update SchedulerLease l set l.owner = :owner, l.expiresAt = :expiresAt "
+      + "where l.partitionId = :partitionId "
+      + "and (l.owner is null or l.owner = :owner or l.expiresAt < :now)")
+  int claim(@Param("partitionId") Integer partitionId, @Param("owner") String owner,
+      @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -1,11 +1,16 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.Specialization;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface SpecializationRepository extends JpaRepository<Specialization, Integer>,
     QueryDslPredicateExecutor {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   Specialization findByName(String name);
 }
@@ -1,12 +1,17 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 import com.softserve.teamproject.entity.Status;
 import com.softserve.teamproject.repository.custom.StatusRepositoryCustom;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface StatusRepository extends JpaRepository<Status, Integer>,
     QueryDslPredicateExecutor, StatusRepositoryCustom {
 
+  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   Status findByName(String name);
 }
@@ -0,0 +1,23 @@
+package com.softserve.teamproject.repository;
+
+import com.softserve.teamproject.dto.StudentFile;
+import com.softserve.teamproject.entity.StudentAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+@RepositoryRestResource(exported = false)
+public interface StudentAttachmentRepository extends JpaRepository<StudentAttachment, Integer> {
+
+  @Query("select new com.softserve.teamproject.dto.StudentFile(s.imageName, a.imageHash, "
+      + "length(a.image)) "
+      + "from Student s, StudentAttachment a "
+      + "where a.studentId = s.id and s.id = ?1 and a.image is not null")
+  StudentFile findImageByStudentId(Integer studentId);
+
+  @Query("select new com.softserve.teamproject.dto.StudentFile(s.cvName, a.cvHash, "
+      + "length(a.cv)) "
+      + "from Student s, StudentAttachment a "
+      + "where a.studentId = s.id and s.id = ?1 and a.cv is not null")
+  StudentFile findCvByStudentId(Integer studentId);
+}
@@ -1,9 +1,15 @@
 package com.softserve.teamproject.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.repository.custom.StudentRepositoryCustom;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import javax.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 
 public interface StudentRepository extends JpaRepository<Student, Integer>,
@@ -12,4 +18,13 @@ public interface StudentRepository extends JpaRepository<Student, Integer>,
   @Transactional
   void deleteById(int id);
 
+  @Query("select s from Student s join fetch s.group g left join fetch s.englishLevel "
+      + "left join fetch s.testApprovedByExpert where g.id = ?1 order by s.id")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Student> streamByGroupId(Integer groupId);
+
+  @Query("select s from Student s join fetch s.group left join fetch s.englishLevel "
+      + "left join fetch s.testApprovedByExpert order by s.id")
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+  Stream<Student> streamAll();
 }
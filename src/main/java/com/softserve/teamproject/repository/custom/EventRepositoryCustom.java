@@ -1,7 +1,10 @@
 package com.softserve.teamproject.repository.custom;
 
+import com.softserve.teamproject.dto.CompactEvent;
+import com.softserve.teamproject.dto.ScheduleVersion;
 import com.softserve.teamproject.entity.Event;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface EventRepositoryCustom {
@@ -20,10 +23,24 @@ public interface EventRepositoryCustom {
 
   Event getCrossEvents(LocalDateTime start, LocalDateTime finish, Integer roomId, Integer eventId);
 
+  List<Event> getCrossEvents(LocalDateTime start, LocalDateTime finish,
+      Collection<Integer> roomIds);
+
   Event getEventByEventTypeId(Integer eventTypeId, Integer groupId);
 
   List<Event> getNotKeyEventsByGroupId(Integer groupId, LocalDateTime start,
       LocalDateTime finish);
 
   List<Event> getEventsByGroupId(Integer groupId);
+
+  List<CompactEvent> getAllCompactEvents();
+
+  List<CompactEvent> getCompactEventsByGroupId(Integer groupId);
+
+  List<CompactEvent> getCompactEventsByGroupId(List<Integer> groups, LocalDateTime start,
+      LocalDateTime finish);
+
+  ScheduleVersion getScheduleVersionByGroupId(Integer groupId);
+
+  ScheduleVersion getScheduleVersionByLocationId(Integer locationId);
 }
@@ -1,15 +1,25 @@
 package com.softserve.teamproject.repository.custom;
 
+import static com.softserve.teamproject.repository.custom.FetchGraphs.fetchEvent;
 import static com.softserve.teamproject.repository.expression.EventExpressions.eventByEventTypeId;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getCrossedEvents;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getEventBetweenDates;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getEventByGroupId;
+import static com.softserve.teamproject.repository.expression.EventExpressions.getEventByLocationId;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getKeyDates;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getNotKeyDates;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
+import com.softserve.teamproject.dto.CompactEvent;
+import com.softserve.teamproject.dto.ScheduleVersion;
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.QEvent;
+import com.softserve.teamproject.entity.QRoom;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.support.QueryDslRepositorySupport;
 
@@ -26,64 +36,119 @@ public class EventRepositoryImpl extends QueryDslRepositorySupport implements
 
   @Override
   public List<Event> getKeyEventsByGroupId(Integer groupId) {
-    return from(QEvent.event).where(getKeyDates().and(getEventByGroupId(groupId))).fetch();
+    return fromEvents().where(getKeyDates().and(getEventByGroupId(groupId))).fetch();
   }
 
   @Override
   public List<Event> getKeyEventsByGroupId(List<Integer> groups) {
-    return from(QEvent.event).where(getKeyDates().and(getEventByGroupId(groups))).fetch();
+    return fromEvents().where(getKeyDates().and(getEventByGroupId(groups))).fetch();
   }
 
   @Override
   public List<Event> getEventsByGroupId(List<Integer> groups, LocalDateTime start,
       LocalDateTime finish) {
-    return from(QEvent.event)
+    return fromEvents()
         .where(getEventByGroupId(groups).and(getEventBetweenDates(start, finish))).fetch();
   }
 
   @Override
   public List<Event> getEventsByTime(LocalDateTime start,
       LocalDateTime finish) {
-    return from(QEvent.event)
+    return fromEvents()
         .where((getEventBetweenDates(start, finish))).fetch();
   }
 
   @Override
   public Event getCrossEvents(LocalDateTime start,
       LocalDateTime finish, Integer roomId) {
-    return from(QEvent.event).where(getCrossedEvents(start, finish, roomId)).fetchFirst();
+    return fromEvents().where(getCrossedEvents(start, finish, roomId)).fetchFirst();
   }
 
   @Override
   public Event getCrossEvents(LocalDateTime start,
       LocalDateTime finish, Integer roomId, Integer eventId) {
-    return from(QEvent.event)
+    return fromEvents()
         .where(getCrossedEvents(start, finish, roomId), QEvent.event.id.ne(eventId)).fetchFirst();
   }
 
+  @Override
+  public List<Event> getCrossEvents(LocalDateTime start, LocalDateTime finish,
+      Collection<Integer> roomIds) {
+    return fromEvents().where(getCrossedEvents(start, finish, roomIds)).fetch();
+  }
+
   @Override
   public List<Event> getEventsByGroupId(Integer groupId, LocalDateTime start,
       LocalDateTime finish) {
-    return from(QEvent.event)
+    return fromEvents()
         .where(getEventByGroupId(groupId).and(getEventBetweenDates(start, finish))).fetch();
   }
 
   @Override
   public List<Event> getEventsByGroupId(Integer groupId) {
-    return from(QEvent.event)
+    return fromEvents()
         .where(getEventByGroupId(groupId)).fetch();
   }
 
   public Event getEventByEventTypeId(Integer eventTypeId, Integer groupId) {
-    return from(QEvent.event)
+    return fromEvents()
         .where(eventByEventTypeId(eventTypeId).and(getEventByGroupId(groupId))).fetchOne();
   }
 
   @Override
   public List<Event> getNotKeyEventsByGroupId(Integer groupId, LocalDateTime start,
       LocalDateTime finish) {
-    return from(QEvent.event).where(getNotKeyDates().and(getEventByGroupId(groupId)
+    return fromEvents().where(getNotKeyDates().and(getEventByGroupId(groupId)
         .and(getEventBetweenDates(start, finish)))).fetch();
   }
 
+  @Override
+  public List<CompactEvent> getAllCompactEvents() {
+    return getCompactEvents(null);
+  }
+
+  @Override
+  public List<CompactEvent> getCompactEventsByGroupId(Integer groupId) {
+    return getCompactEvents(getEventByGroupId(groupId));
+  }
+
+  @Override
+  public List<CompactEvent> getCompactEventsByGroupId(List<Integer> groups, LocalDateTime start,
+      LocalDateTime finish) {
+    return getCompactEvents(getEventByGroupId(groups).and(getEventBetweenDates(start, finish)));
+  }
+
+  @Override
+  public ScheduleVersion getScheduleVersionByGroupId(Integer groupId) {
+    return getScheduleVersion(getEventByGroupId(groupId));
+  }
+
+  @Override
+  public ScheduleVersion getScheduleVersionByLocationId(Integer locationId) {
+    return getScheduleVersion(getEventByLocationId(locationId));
+  }
+
+  private JPQLQuery<Event> fromEvents() {
+    return fetchEvent(from(QEvent.event), QEvent.event);
+  }
+
+  /**
+   * Selects the columns of the compact events only, the events and their associations aren't
+   * loaded. The room is joined explicitly, the events without rooms are selected too.
+   */
+  private List<CompactEvent> getCompactEvents(Predicate predicate) {
+    QEvent event = QEvent.event;
+    QRoom room = QRoom.room;
+    return from(event).leftJoin(event.room, room).where(predicate)
+        .select(Projections.constructor(CompactEvent.class, event.id, event.start, event.end,
+            room.id, event.group.id, event.eventType.id))
+        .fetch();
+  }
+
+  private ScheduleVersion getScheduleVersion(Predicate predicate) {
+    QEvent event = QEvent.event;
+    Tuple version = from(event).where(predicate)
+        .select(event.count(), event.lastModified.max()).fetchOne();
+    return new ScheduleVersion(version.get(0, Long.class), version.get(1, LocalDateTime.class));
+  }
 }
@@ -0,0 +1,117 @@
+package com.softserve.teamproject.repository.custom;
+
+import com.querydsl.jpa.JPQLQuery;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.QBudgetOwner;
+import com.softserve.teamproject.entity.QEnglishLevel;
+import com.softserve.teamproject.entity.QEvent;
+import com.softserve.teamproject.entity.QEventType;
+import com.softserve.teamproject.entity.QExpert;
+import com.softserve.teamproject.entity.QGroup;
+import com.softserve.teamproject.entity.QLocation;
+import com.softserve.teamproject.entity.QRole;
+import com.softserve.teamproject.entity.QRoleCategory;
+import com.softserve.teamproject.entity.QRoom;
+import com.softserve.teamproject.entity.QSpecialization;
+import com.softserve.teamproject.entity.QStatus;
+import com.softserve.teamproject.entity.QStatusCategory;
+import com.softserve.teamproject.entity.QStrategy;
+import com.softserve.teamproject.entity.QStudent;
+import com.softserve.teamproject.entity.QUser;
+import java.util.List;
+
+/**
+ * Fetch joins of the eager to-one associations read by the listings. Without them Hibernate loads
+ * every association of every listed row with a separate select. The aliases are prefixed with the
+ * name of the joined path, so one query can fetch the same entity type through several paths.
+ */
+final class FetchGraphs {
+
+  private FetchGraphs() {
+  }
+
+  /**
+   * Fetches the location, budget owner, status and specialization of the group with their own
+   * associations.
+   *
+   * @param query listing query
+   * @param group path of the listed or joined group
+   * @param prefix prefix of the aliases
+   * @return the same query
+   */
+  static <T> JPQLQuery<T> fetchGroup(JPQLQuery<T> query, QGroup group, String prefix) {
+    QLocation location = new QLocation(prefix + "Location");
+    QStatus status = new QStatus(prefix + "Status");
+    QSpecialization specialization = new QSpecialization(prefix + "Specialization");
+    query.innerJoin(group.location, location).fetchJoin();
+    fetchLocation(query, location, prefix + "Location");
+    query.leftJoin(group.budgetOwner, new QBudgetOwner(prefix + "BudgetOwner")).fetchJoin()
+        .leftJoin(group.status, status).fetchJoin()
+        .leftJoin(status.statusCategory, new QStatusCategory(prefix + "StatusCategory"))
+        .fetchJoin()
+        .innerJoin(group.specialization, specialization).fetchJoin()
+        .leftJoin(specialization.strategy, new QStrategy(prefix + "Strategy")).fetchJoin();
+    return query;
+  }
+
+  /**
+   * Fetches the group, the room with its location and the event type of the event.
+   *
+   * @param query listing query
+   * @param event path of the listed event
+   * @return the same query
+   */
+  static <T> JPQLQuery<T> fetchEvent(JPQLQuery<T> query, QEvent event) {
+    QGroup group = new QGroup("eventGroup");
+    QRoom room = new QRoom("eventRoom");
+    QLocation roomLocation = new QLocation("roomLocation");
+    query.innerJoin(event.group, group).fetchJoin();
+    fetchGroup(query, group, "eventGroup");
+    query.innerJoin(event.eventType, new QEventType("eventEventType")).fetchJoin()
+        .leftJoin(event.room, room).fetchJoin()
+        .leftJoin(room.location, roomLocation).fetchJoin();
+    fetchLocation(query, roomLocation, "roomLocation");
+    return query;
+  }
+
+  /**
+   * Fetches the group, the English level and the expert who approved the test of the student.
+   *
+   * @param query listing query
+   * @param student path of the listed student
+   * @return the same query
+   */
+  static <T> JPQLQuery<T> fetchStudent(JPQLQuery<T> query, QStudent student) {
+    QGroup group = new QGroup("studentGroup");
+    query.innerJoin(student.group, group).fetchJoin();
+    fetchGroup(query, group, "studentGroup");
+    query.leftJoin(student.englishLevel, new QEnglishLevel("studentEnglishLevel")).fetchJoin()
+        .leftJoin(student.testApprovedByExpert, new QExpert("studentExpert")).fetchJoin();
+    return query;
+  }
+
+  /**
+   * Initializes the experts of the groups with one query. The collection isn't fetched by the
+   * listing itself, the rows of its elements would break the limit of the page.
+   *
+   * @param query query of the groups with the experts
+   * @param groups listed groups
+   * @return the same groups
+   */
+  static List<Group> fetchExperts(JPQLQuery<Group> query, List<Group> groups) {
+    if (!groups.isEmpty()) {
+      query.leftJoin(QGroup.group.experts).fetchJoin().where(QGroup.group.in(groups)).fetch();
+    }
+    return groups;
+  }
+
+  private static <T> void fetchLocation(JPQLQuery<T> query, QLocation location, String prefix) {
+    QUser coordinator = new QUser(prefix + "Coordinator");
+    QRole role = new QRole(prefix + "Role");
+    query.leftJoin(location.coordinator, coordinator).fetchJoin()
+        .leftJoin(coordinator.role, role).fetchJoin()
+        .leftJoin(role.roleCategory, new QRoleCategory(prefix + "RoleCategory")).fetchJoin()
+        .leftJoin(coordinator.location, new QLocation(prefix + "CoordinatorLocation"))
+        .fetchJoin();
+  }
+}
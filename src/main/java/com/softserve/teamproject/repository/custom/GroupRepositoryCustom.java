@@ -1,5 +1,7 @@
 package com.softserve.teamproject.repository.custom;
 
+import com.querydsl.core.types.Predicate;
+import com.softserve.teamproject.dto.CompactGroup;
 import com.softserve.teamproject.entity.Group;
 import java.util.List;
 
@@ -10,4 +12,31 @@ public interface GroupRepositoryCustom {
   List<Group> getGroupsByLocationId(Integer id);
 
   List<Group> getGroupsByLocationIds(Integer[] ids);
+
+  /**
+   * Gets the page of groups that follows the group with given id in order of ids.
+   *
+   * @param predicate filter of the groups
+   * @param afterId id of the last group of the previous page
+   * @param size maximal number of groups in the page
+   * @return groups ordered by id
+   */
+  List<Group> getGroupsAfter(Predicate predicate, Integer afterId, int size);
+
+  /**
+   * Gets the compact groups selected by the predicate, the groups aren't loaded.
+   *
+   * @param predicate filter of the groups
+   * @return groups ordered by id
+   */
+  List<CompactGroup> getCompactGroups(Predicate predicate);
+
+  /**
+   * Gets the groups that have no stored key date windows.
+   *
+   * @return groups without windows
+   */
+  List<Group> getGroupsWithoutKeyDateWindows();
+
+  List<Group> getGroupsByStrategyId(int strategyId);
 }
@@ -1,15 +1,29 @@
 package com.softserve.teamproject.repository.custom;
 
+import static com.softserve.teamproject.repository.custom.FetchGraphs.fetchExperts;
+import static com.softserve.teamproject.repository.custom.FetchGraphs.fetchGroup;
+import static com.softserve.teamproject.repository.expression.GroupExpressions.getAfterId;
 import static com.softserve.teamproject.repository.expression.GroupExpressions.getByLocationId;
 import static com.softserve.teamproject.repository.expression.GroupExpressions.getByLocationIds;
+import static com.softserve.teamproject.repository.expression.GroupExpressions.getByStrategyId;
 import static com.softserve.teamproject.repository.expression.GroupExpressions.getUndeleted;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.softserve.teamproject.dto.CompactGroup;
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.QGroup;
+import com.softserve.teamproject.entity.QKeyDateWindow;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.support.QueryDslRepositorySupport;
 
+/**
+ * The listed groups are fetched with their to-one associations. The experts of the groups mapped
+ * to resources are initialized with one more query.
+ */
 public class GroupRepositoryImpl extends QueryDslRepositorySupport implements
     GroupRepositoryCustom {
 
@@ -19,16 +33,48 @@ public class GroupRepositoryImpl extends QueryDslRepositorySupport implements
 
   @Override
   public List<Group> getUndeletedGroups() {
-    return from(QGroup.group).where(getUndeleted()).fetch();
+    return fetchExperts(from(QGroup.group), fromGroups().where(getUndeleted()).fetch());
   }
 
   @Override
   public List<Group> getGroupsByLocationId(Integer id) {
-    return from(QGroup.group).where(getByLocationId(id)).fetch();
+    return fromGroups().where(getByLocationId(id)).fetch();
   }
 
   @Override
   public List<Group> getGroupsByLocationIds(Integer[] ids) {
-    return from(QGroup.group).where(getByLocationIds(ids)).fetch();
+    return fromGroups().where(getByLocationIds(ids)).fetch();
+  }
+
+  @Override
+  public List<Group> getGroupsAfter(Predicate predicate, Integer afterId, int size) {
+    return fetchExperts(from(QGroup.group), fromGroups().where(predicate, getAfterId(afterId))
+        .orderBy(QGroup.group.id.asc()).limit(size).fetch());
+  }
+
+  @Override
+  public List<CompactGroup> getCompactGroups(Predicate predicate) {
+    QGroup group = QGroup.group;
+    return from(group).where(predicate)
+        .select(Projections.constructor(CompactGroup.class, group.id, group.name,
+            group.startDate, group.finishDate, group.location.id, group.status.id,
+            group.specialization.id, group.budgetOwner.id))
+        .orderBy(group.id.asc()).fetch();
+  }
+
+  @Override
+  public List<Group> getGroupsWithoutKeyDateWindows() {
+    QKeyDateWindow window = QKeyDateWindow.keyDateWindow;
+    return fromGroups().where(JPAExpressions.selectOne().from(window)
+        .where(window.group.eq(QGroup.group)).notExists()).fetch();
+  }
+
+  @Override
+  public List<Group> getGroupsByStrategyId(int strategyId) {
+    return fromGroups().where(getByStrategyId(strategyId)).fetch();
+  }
+
+  private JPQLQuery<Group> fromGroups() {
+    return fetchGroup(from(QGroup.group), QGroup.group, "group");
   }
 }
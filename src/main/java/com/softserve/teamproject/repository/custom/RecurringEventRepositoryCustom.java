@@ -0,0 +1,26 @@
+package com.softserve.teamproject.repository.custom;
+
+import com.softserve.teamproject.dto.ScheduleVersion;
+import com.softserve.teamproject.entity.RecurringEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RecurringEventRepositoryCustom {
+
+  List<RecurringEvent> getAllRecurringEvents();
+
+  List<RecurringEvent> getRecurringEventsByGroupId(Integer groupId);
+
+  List<RecurringEvent> getRecurringEventsByGroupId(Collection<Integer> groups,
+      LocalDateTime start, LocalDateTime finish);
+
+  List<RecurringEvent> getRecurringEventsByLocationId(Integer locationId);
+
+  List<RecurringEvent> getCrossRecurringEvents(LocalDateTime start, LocalDateTime finish,
+      Collection<Integer> roomIds);
+
+  ScheduleVersion getScheduleVersionByGroupId(Integer groupId);
+
+  ScheduleVersion getScheduleVersionByLocationId(Integer locationId);
+}
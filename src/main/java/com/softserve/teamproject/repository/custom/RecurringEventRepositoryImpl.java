@@ -0,0 +1,80 @@
+package com.softserve.teamproject.repository.custom;
+
+import static com.softserve.teamproject.repository.expression.RecurringEventExpressions.getRecurringEventByGroupId;
+import static com.softserve.teamproject.repository.expression.RecurringEventExpressions.getRecurringEventByLocationId;
+import static com.softserve.teamproject.repository.expression.RecurringEventExpressions.getRecurringEventByRoomId;
+import static com.softserve.teamproject.repository.expression.RecurringEventExpressions.getRecurringEventInPeriod;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.softserve.teamproject.dto.ScheduleVersion;
+import com.softserve.teamproject.entity.QRecurringEvent;
+import com.softserve.teamproject.entity.RecurringEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.support.QueryDslRepositorySupport;
+
+/**
+ * The exceptions of the repetitions are fetched with them, because every read expands the
+ * repetitions to occurrences.
+ */
+public class RecurringEventRepositoryImpl extends QueryDslRepositorySupport implements
+    RecurringEventRepositoryCustom {
+
+  public RecurringEventRepositoryImpl() {
+    super(RecurringEvent.class);
+  }
+
+  @Override
+  public List<RecurringEvent> getAllRecurringEvents() {
+    return fetchWithExceptions(null);
+  }
+
+  @Override
+  public List<RecurringEvent> getRecurringEventsByGroupId(Integer groupId) {
+    return fetchWithExceptions(getRecurringEventByGroupId(groupId));
+  }
+
+  @Override
+  public List<RecurringEvent> getRecurringEventsByGroupId(Collection<Integer> groups,
+      LocalDateTime start, LocalDateTime finish) {
+    return fetchWithExceptions(
+        getRecurringEventByGroupId(groups).and(getRecurringEventInPeriod(start, finish)));
+  }
+
+  @Override
+  public List<RecurringEvent> getRecurringEventsByLocationId(Integer locationId) {
+    return fetchWithExceptions(getRecurringEventByLocationId(locationId));
+  }
+
+  @Override
+  public List<RecurringEvent> getCrossRecurringEvents(LocalDateTime start,
+      LocalDateTime finish, Collection<Integer> roomIds) {
+    return fetchWithExceptions(
+        getRecurringEventByRoomId(roomIds).and(getRecurringEventInPeriod(start, finish)));
+  }
+
+  @Override
+  public ScheduleVersion getScheduleVersionByGroupId(Integer groupId) {
+    return getScheduleVersion(getRecurringEventByGroupId(groupId));
+  }
+
+  @Override
+  public ScheduleVersion getScheduleVersionByLocationId(Integer locationId) {
+    return getScheduleVersion(getRecurringEventByLocationId(locationId));
+  }
+
+  private List<RecurringEvent> fetchWithExceptions(Predicate predicate) {
+    QRecurringEvent recurringEvent = QRecurringEvent.recurringEvent;
+    return from(recurringEvent).leftJoin(recurringEvent.exceptions).fetchJoin()
+        .where(predicate).distinct().fetch();
+  }
+
+  private ScheduleVersion getScheduleVersion(Predicate predicate) {
+    QRecurringEvent recurringEvent = QRecurringEvent.recurringEvent;
+    Tuple version = from(recurringEvent).where(predicate)
+        .select(recurringEvent.count(), recurringEvent.lastModified.max()).fetchOne();
+    return new ScheduleVersion(version.get(0, Long.class), version.get(1, LocalDateTime.class));
+  }
+}
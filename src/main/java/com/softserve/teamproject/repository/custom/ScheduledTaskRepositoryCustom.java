@@ -2,7 +2,10 @@ package com.softserve.teamproject.repository.custom;
 
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.ScheduledTask;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import javax.transaction.Transactional;
 
 public interface ScheduledTaskRepositoryCustom {
 
@@ -11,4 +14,26 @@ public interface ScheduledTaskRepositoryCustom {
   List<ScheduledTask> getOldTasks();
 
   List<ScheduledTask> getTasksByGroupId(Group group);
+
+  /**
+   * Gets the partitions that have tasks due today or earlier, the partition of a task is the id
+   * of its group modulo the number of partitions.
+   *
+   * @param today current date
+   * @param partitionCount number of partitions
+   * @return ids of the partitions
+   */
+  List<Integer> getDuePartitions(LocalDate today, int partitionCount);
+
+  List<ScheduledTask> getDueTasks(LocalDate today, Collection<Integer> partitions,
+      int partitionCount);
+
+  /**
+   * Sets the groups of the tasks to the updated statuses and deletes the tasks. If a group has
+   * several tasks, the status of the last task in the given order is set.
+   *
+   * @param tasks due tasks
+   */
+  @Transactional
+  void applyTasks(List<ScheduledTask> tasks);
 }
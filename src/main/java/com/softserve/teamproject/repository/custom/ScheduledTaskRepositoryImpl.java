@@ -2,17 +2,41 @@ package com.softserve.teamproject.repository.custom;
 
 import static com.querydsl.jpa.JPAExpressions.select;
 import static com.softserve.teamproject.repository.expression.ScheduledTaskExpression.getTasksBeforeTomorrow;
+import static com.softserve.teamproject.repository.expression.ScheduledTaskExpression.isDueBy;
 import static com.softserve.teamproject.repository.expression.ScheduledTaskExpression.isEqualToGroup;
+import static com.softserve.teamproject.repository.expression.ScheduledTaskExpression.isInPartitions;
 
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.QScheduledTask;
 import com.softserve.teamproject.entity.ScheduledTask;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.repository.support.QueryDslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 public class ScheduledTaskRepositoryImpl extends QueryDslRepositorySupport implements
     ScheduledTaskRepositoryCustom {
 
+  private static final String UPDATE_GROUP_STATUS =
+      "update educational_group set status_id = ? where id = ?";
+  private static final String DELETE_TASK = "delete from task_scheduler where id = ?";
+
+  private JdbcTemplate jdbcTemplate;
+
+  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+  private int batchSize;
+
+  @Autowired
+  public void setJdbcTemplate(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
   public ScheduledTaskRepositoryImpl() {
     super(ScheduledTask.class);
   }
@@ -55,4 +79,35 @@ public class ScheduledTaskRepositoryImpl extends QueryDslRepositorySupport imple
   public List<ScheduledTask> getTasksByGroupId(Group group) {
     return from(QScheduledTask.scheduledTask).where(isEqualToGroup(group)).fetch();
   }
+
+  @Override
+  public List<Integer> getDuePartitions(LocalDate today, int partitionCount) {
+    QScheduledTask task = QScheduledTask.scheduledTask;
+    return from(task).select(task.group.id.mod(partitionCount)).distinct()
+        .where(isDueBy(today)).fetch();
+  }
+
+  @Override
+  public List<ScheduledTask> getDueTasks(LocalDate today, Collection<Integer> partitions,
+      int partitionCount) {
+    return from(QScheduledTask.scheduledTask)
+        .where(isDueBy(today), isInPartitions(partitions, partitionCount)).fetch();
+  }
+
+  @Override
+  public void applyTasks(List<ScheduledTask> tasks) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+    Map<Integer, Integer> statuses = new LinkedHashMap<>();
+    tasks.forEach(
+        task -> statuses.put(task.getGroup().getId(), task.getUpdatedStatus().getId()));
+    jdbcTemplate.batchUpdate(UPDATE_GROUP_STATUS, new ArrayList<>(statuses.entrySet()),
+        batchSize, (statement, groupStatus) -> {
+          statement.setInt(1, groupStatus.getValue());
+          statement.setInt(2, groupStatus.getKey());
+        });
+    jdbcTemplate.batchUpdate(DELETE_TASK, tasks, batchSize,
+        (statement, task) -> statement.setInt(1, task.getId()));
+  }
 }
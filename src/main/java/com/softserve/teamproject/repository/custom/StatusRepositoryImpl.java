@@ -1,7 +1,9 @@
 package com.softserve.teamproject.repository.custom;
 
 import static com.softserve.teamproject.repository.expression.StatusExpressions.getByName;
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
 
+import com.querydsl.jpa.impl.JPAQuery;
 import com.softserve.teamproject.entity.QStatus;
 import com.softserve.teamproject.entity.Status;
 import org.springframework.data.jpa.repository.support.QueryDslRepositorySupport;
@@ -15,6 +17,7 @@ public class StatusRepositoryImpl extends QueryDslRepositorySupport
 
   @Override
   public Status getStatusByName(String name) {
-    return from(QStatus.status).where(getByName(name)).fetchFirst();
+    return new JPAQuery<>(getEntityManager()).select(QStatus.status).from(QStatus.status)
+        .where(getByName(name)).setHint(CACHEABLE, true).fetchFirst();
   }
 }
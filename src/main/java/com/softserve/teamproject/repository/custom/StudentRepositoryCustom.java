@@ -1,9 +1,20 @@
 package com.softserve.teamproject.repository.custom;
 
+import com.querydsl.core.types.Predicate;
 import com.softserve.teamproject.entity.Student;
 import java.util.List;
 
 public interface StudentRepositoryCustom {
 
   List<Student> getStudentsByGroupId(Integer groupId);
+
+  /**
+   * Gets the page of students that follows the student with given id in order of ids.
+   *
+   * @param predicate filter of the students
+   * @param afterId id of the last student of the previous page
+   * @param size maximal number of students in the page
+   * @return students ordered by id
+   */
+  List<Student> getStudentsAfter(Predicate predicate, Integer afterId, int size);
 }
@@ -1,7 +1,11 @@
 package com.softserve.teamproject.repository.custom;
 
+import static com.softserve.teamproject.repository.custom.FetchGraphs.fetchStudent;
+import static com.softserve.teamproject.repository.expression.StudentExpressions.getAfterId;
 import static com.softserve.teamproject.repository.expression.StudentExpressions.getByGroupId;
 
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.JPQLQuery;
 import com.softserve.teamproject.entity.QStudent;
 import com.softserve.teamproject.entity.Student;
 import java.util.List;
@@ -15,6 +19,16 @@ public class StudentRepositoryImpl extends QueryDslRepositorySupport implements
   }
 
   public List<Student> getStudentsByGroupId(Integer groupId) {
-    return from(QStudent.student).where(getByGroupId(groupId)).fetch();
+    return fromStudents().where(getByGroupId(groupId)).fetch();
+  }
+
+  @Override
+  public List<Student> getStudentsAfter(Predicate predicate, Integer afterId, int size) {
+    return fromStudents().where(predicate, getAfterId(afterId))
+        .orderBy(QStudent.student.id.asc()).limit(size).fetch();
+  }
+
+  private JPQLQuery<Student> fromStudents() {
+    return fetchStudent(from(QStudent.student), QStudent.student);
   }
 }
@@ -4,6 +4,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.softserve.teamproject.entity.QEvent;
 import com.softserve.teamproject.entity.Room;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public class EventExpressions {
@@ -20,6 +21,10 @@ public class EventExpressions {
     return QEvent.event.group.id.in(groups);
   }
 
+  public static BooleanExpression getEventByLocationId(Integer id) {
+    return QEvent.event.group.location.id.eq(id);
+  }
+
   public static BooleanExpression getEventBetweenDates(LocalDateTime start, LocalDateTime finish) {
     return QEvent.event.start.between(start, finish);
   }
@@ -41,4 +46,10 @@ public class EventExpressions {
     return QEvent.event.start.before(finish).and(QEvent.event.end.after(start))
         .and(QEvent.event.room.id.eq(roomId));
   }
+
+  public static BooleanExpression getCrossedEvents(LocalDateTime start, LocalDateTime finish,
+      Collection<Integer> roomIds) {
+    return QEvent.event.start.before(finish).and(QEvent.event.end.after(start))
+        .and(QEvent.event.room.id.in(roomIds));
+  }
 }
@@ -16,4 +16,12 @@ public class GroupExpressions {
   public static BooleanExpression getUndeleted() {
     return QGroup.group.isDeleted.isFalse();
   }
+
+  public static BooleanExpression getAfterId(Integer id) {
+    return QGroup.group.id.gt(id);
+  }
+
+  public static BooleanExpression getByStrategyId(int strategy) {
+    return QGroup.group.specialization.strategy.id.eq(strategy);
+  }
 }
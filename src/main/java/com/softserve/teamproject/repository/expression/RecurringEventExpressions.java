@@ -0,0 +1,35 @@
+package com.softserve.teamproject.repository.expression;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.softserve.teamproject.entity.QRecurringEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public class RecurringEventExpressions {
+
+  public static BooleanExpression getRecurringEventByGroupId(Integer id) {
+    return QRecurringEvent.recurringEvent.group.id.eq(id);
+  }
+
+  public static BooleanExpression getRecurringEventByGroupId(Collection<Integer> groups) {
+    return QRecurringEvent.recurringEvent.group.id.in(groups);
+  }
+
+  public static BooleanExpression getRecurringEventByLocationId(Integer id) {
+    return QRecurringEvent.recurringEvent.group.location.id.eq(id);
+  }
+
+  /**
+   * Selects the repetitions that may have occurrences in the period: started before its end and
+   * not finished before its start.
+   */
+  public static BooleanExpression getRecurringEventInPeriod(LocalDateTime start,
+      LocalDateTime finish) {
+    return QRecurringEvent.recurringEvent.start.before(finish)
+        .and(QRecurringEvent.recurringEvent.untilDate.goe(start.toLocalDate()));
+  }
+
+  public static BooleanExpression getRecurringEventByRoomId(Collection<Integer> roomIds) {
+    return QRecurringEvent.recurringEvent.room.id.in(roomIds);
+  }
+}
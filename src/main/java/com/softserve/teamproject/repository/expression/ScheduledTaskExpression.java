@@ -4,6 +4,7 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.QScheduledTask;
 import java.time.LocalDate;
+import java.util.Collection;
 
 public class ScheduledTaskExpression {
 
@@ -14,4 +15,13 @@ public class ScheduledTaskExpression {
   public static BooleanExpression isEqualToGroup(Group group) {
     return QScheduledTask.scheduledTask.group.eq(group);
   }
+
+  public static BooleanExpression isDueBy(LocalDate today) {
+    return QScheduledTask.scheduledTask.dayOfUpdate.before(today.plusDays(1));
+  }
+
+  public static BooleanExpression isInPartitions(Collection<Integer> partitions,
+      int partitionCount) {
+    return QScheduledTask.scheduledTask.group.id.mod(partitionCount).in(partitions);
+  }
 }
@@ -8,4 +8,8 @@ public class StudentExpressions {
   public static BooleanExpression getByGroupId(Integer id) {
     return QStudent.student.group.id.eq(id);
   }
+
+  public static BooleanExpression getAfterId(Integer id) {
+    return QStudent.student.id.gt(id);
+  }
 }
@@ -0,0 +1,17 @@
+package com.softserve.teamproject.service;
+
+import com.softserve.teamproject.dto.CacheRegionStatistics;
+import java.util.List;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+public interface CacheService {
+
+  @PreAuthorize("hasAuthority('admin')")
+  List<CacheRegionStatistics> getCacheStatistics();
+
+  @PreAuthorize("hasAuthority('admin')")
+  void evictRegion(String region);
+
+  @PreAuthorize("hasAuthority('admin')")
+  void evictAll();
+}
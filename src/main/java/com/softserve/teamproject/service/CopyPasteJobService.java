@@ -0,0 +1,47 @@
+package com.softserve.teamproject.service;
+
+import com.softserve.teamproject.dto.CopyPasteJob;
+import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Runs the copy paste of schedules in a bounded pool of workers. The jobs are visible to the
+ * users who submitted them only.
+ */
+public interface CopyPasteJobService {
+
+  /**
+   * Queues the copy paste. A job submitted by the same user with the same key is returned
+   * instead of queueing a new one, so the retries of a request don't paste the events twice. The
+   * key of a failed job is released, a retry with it queues a new job.
+   *
+   * @param copyPasteSchedule validated copy paste request
+   * @param key idempotency key of the client, may be null
+   * @return queued or already submitted job
+   * @throws java.util.concurrent.RejectedExecutionException if the queue of the jobs is full
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  CopyPasteJob submit(CopyPasteScheduleWrapper copyPasteSchedule, String key);
+
+  /**
+   * Gets the job of the current user.
+   *
+   * @param id id of the job
+   * @return job
+   * @throws javax.persistence.EntityNotFoundException if the user has no job with the id
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  CopyPasteJob getJob(String id);
+
+  /**
+   * Subscribes to the changes of the status of the job. Every change is sent as a "status" event
+   * with the job, the emitter is completed when the job is finished.
+   *
+   * @param id id of the job
+   * @return emitter of the job events
+   * @throws javax.persistence.EntityNotFoundException if the user has no job with the id
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  SseEmitter subscribe(String id);
+}
@@ -0,0 +1,16 @@
+package com.softserve.teamproject.service;
+
+import com.softserve.teamproject.entity.User;
+
+/**
+ * Provides the users that are checked for permissions. A user is loaded once per request and is
+ * kept for a short time after it, so it must not be changed by the callers.
+ */
+public interface CurrentUserService {
+
+  User getUser(String nickName);
+
+  User getCurrentUser();
+
+  void evict(int userId);
+}
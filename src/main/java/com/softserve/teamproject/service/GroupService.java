@@ -1,5 +1,6 @@
 package com.softserve.teamproject.service;
 
+import com.softserve.teamproject.dto.CompactGroup;
 import com.softserve.teamproject.dto.EditGroupDto;
 import com.softserve.teamproject.dto.GroupDto;
 import com.softserve.teamproject.dto.GroupsFilter;
@@ -10,6 +11,8 @@ import java.util.List;
 import java.util.Set;
 import javax.transaction.Transactional;
 import javax.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 
@@ -36,6 +39,18 @@ public interface GroupService {
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
   Iterable<GroupResource> getGroupsByFilter(GroupsFilter filter);
 
+  /**
+   * Gets the groups like {@link #getGroupsByFilter(GroupsFilter)} in compact form.
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  List<CompactGroup> getCompactGroups(GroupsFilter filter);
+
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  Page<GroupResource> getGroupResources(GroupsFilter filter, Pageable pageable);
+
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  List<GroupResource> getGroupResourcesAfter(GroupsFilter filter, Integer afterId, int size);
+
   /**
    * Retrieve from database all groups in current user location
    * @param principalName user nick name
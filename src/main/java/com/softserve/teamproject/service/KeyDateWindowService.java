@@ -0,0 +1,51 @@
+package com.softserve.teamproject.service;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.KeyDateWindow;
+import java.util.List;
+import javax.transaction.Transactional;
+
+/**
+ * Keeps the windows of the key dates of the groups, so the key dates are validated without
+ * generating the templates of the strategy.
+ */
+public interface KeyDateWindowService {
+
+  /**
+   * Returns the stored windows of the group, the windows of a group that has none are generated
+   * but not stored. Nothing is written, so the concurrent validations don't conflict.
+   *
+   * @param group saved group
+   * @return windows of the key dates of the group
+   */
+  @Transactional
+  List<KeyDateWindow> getWindows(Group group);
+
+  /**
+   * Generates and stores the windows of the group again, must be called when the group is saved,
+   * so the windows follow the dates and the specialization of the group.
+   *
+   * @param group saved group
+   * @return new windows of the key dates of the group
+   */
+  @Transactional
+  List<KeyDateWindow> updateWindows(Group group);
+
+  /**
+   * Generates and stores the windows of the groups saved before the windows were stored. The
+   * groups without a strategy or with templates that can't be resolved are skipped.
+   *
+   * @return number of the groups whose windows are stored
+   */
+  @Transactional
+  int storeMissingWindows();
+
+  /**
+   * Generates and stores the windows of the groups of the strategy again, must be called when
+   * the key event templates of the strategy are changed.
+   *
+   * @param strategyId id of the strategy
+   */
+  @Transactional
+  void updateStrategyWindows(int strategyId);
+}
@@ -1,15 +1,21 @@
 package com.softserve.teamproject.service;
 
+import com.softserve.teamproject.dto.CompactEvent;
 import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
 import com.softserve.teamproject.dto.EventDto;
 import com.softserve.teamproject.dto.EventResponseWrapper;
 import com.softserve.teamproject.dto.KeyDateDto;
 import com.softserve.teamproject.dto.ScheduleResponseWrapper;
+import com.softserve.teamproject.dto.ScheduleVersion;
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.resource.EventResource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.util.List;
+import javax.transaction.Transactional;
 import javax.validation.ValidationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -35,6 +41,20 @@ public interface ScheduleService {
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
   Iterable<EventResource> getKeyEventsByFilter(List<Integer> groupId);
 
+  /**
+   * Gets the events like {@link #getEventsByGroupId(Integer, LocalDate, LocalDate)} in compact
+   * form, the events of all the groups are returned when the group isn't set.
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  List<CompactEvent> getCompactEvents(Integer groupId, LocalDate start, LocalDate end);
+
+  /**
+   * Gets the events like {@link #getEventsByFilter(List, LocalDate, LocalDate)} in compact form.
+   */
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  List<CompactEvent> getCompactEventsByFilter(List<Integer> groupId, LocalDate start,
+      LocalDate end);
+
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
   EventResource getEvent(Integer id);
 
@@ -49,9 +69,40 @@ public interface ScheduleService {
   ScheduleResponseWrapper updateSchedule(List<Event> events, Principal principal)
       throws AccessDeniedException, ValidationException;
 
+  @Transactional
+  @PreAuthorize("hasAuthority('coordinator')")
+  EventResource overrideOccurrence(Integer recurringEventId, LocalDate date, Event event,
+      Principal principal) throws AccessDeniedException, ValidationException;
+
+  @Transactional
+  @PreAuthorize("hasAuthority('coordinator')")
+  void cancelOccurrence(Integer recurringEventId, LocalDate date, Principal principal)
+      throws AccessDeniedException;
+
+  @Transactional
+  @PreAuthorize("hasAuthority('coordinator')")
+  void deleteRecurringEvent(Integer recurringEventId, Principal principal)
+      throws AccessDeniedException;
+
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
   Iterable<EventDto> copyPasteSchedule(CopyPasteScheduleWrapper copyPasteSchedule);
 
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
   List<EventResource> getLastWeekEvents(Integer groupId);
+
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  ScheduleVersion getCalendarVersion(Integer groupId, Integer locationId);
+
+  @Transactional
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  void writeCalendar(Integer groupId, Integer locationId, Writer writer) throws IOException;
+
+  /**
+   * Writes the events like {@link #getEventsByGroupId(Integer, LocalDate, LocalDate)} or
+   * {@link #getAllEvents()} when the group isn't set to the stream as JSON array.
+   */
+  @Transactional
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin')")
+  void writeEvents(Integer groupId, LocalDate start, LocalDate end, OutputStream outputStream)
+      throws IOException;
 }
@@ -2,11 +2,16 @@ package com.softserve.teamproject.service;
 
 import com.softserve.teamproject.dto.EditStudentDto;
 import com.softserve.teamproject.dto.StudentDto;
+import com.softserve.teamproject.dto.StudentFile;
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.entity.resource.StudentResource;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import javax.transaction.Transactional;
 import javax.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 public interface StudentService {
@@ -17,9 +22,21 @@ public interface StudentService {
   @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin','tes')")
   Iterable<StudentResource> getAllStudents();
 
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin','tes')")
+  Page<StudentResource> getStudents(Integer groupId, Pageable pageable);
+
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin','tes')")
+  List<StudentResource> getStudentsAfter(Integer groupId, Integer afterId, int size);
+
+  @Transactional
+  @PreAuthorize("hasAnyAuthority('teacher','coordinator', 'admin','tes')")
+  void writeStudents(Integer groupId, OutputStream outputStream) throws IOException;
+
+  @Transactional
   @PreAuthorize("hasAnyAuthority('coordinator', 'admin', 'tes')")
   Iterable<StudentResource> addStudents(@Valid List<Student> students, Integer groupId, String userName);
 
+  @Transactional
   @PreAuthorize("hasAnyAuthority('coordinator', 'admin', 'tes')")
   Iterable<StudentResource> updateStudents(@Valid List<Student> students, String userName);
 
@@ -29,9 +46,26 @@ public interface StudentService {
   @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
   StudentResource getStudentResourceById(Integer id);
 
+  @Transactional
   @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
   StudentResource updateStudent(@Valid Student student);
 
+  @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
+  StudentFile getStudentImage(Integer id);
+
+  @Transactional
+  @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
+  void writeStudentImage(Integer id, long start, long end, OutputStream outputStream)
+      throws IOException;
+
+  @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
+  StudentFile getStudentCv(Integer id);
+
+  @Transactional
+  @PreAuthorize("hasAnyAuthority('teacher', 'coordinator', 'admin', 'tes')")
+  void writeStudentCv(Integer id, long start, long end, OutputStream outputStream)
+      throws IOException;
+
   @PreAuthorize("hasAnyAuthority('coordinator', 'admin', 'tes')")
   public List<StudentDto> getAllStudentDto();
 
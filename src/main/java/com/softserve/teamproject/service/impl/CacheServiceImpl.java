@@ -0,0 +1,92 @@
+package com.softserve.teamproject.service.impl;
+
+import com.softserve.teamproject.dto.CacheRegionStatistics;
+import com.softserve.teamproject.generator.TemplateGenerator;
+import com.softserve.teamproject.service.CacheService;
+import com.softserve.teamproject.service.MessageByLocaleService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.internal.StandardQueryCache;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheServiceImpl implements CacheService {
+
+  private EntityManagerFactory entityManagerFactory;
+  private MessageByLocaleService messageByLocaleService;
+  private List<TemplateGenerator<?, ?>> templateGenerators;
+
+  @Autowired
+  public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Autowired
+  public void setMessageByLocaleService(MessageByLocaleService messageByLocaleService) {
+    this.messageByLocaleService = messageByLocaleService;
+  }
+
+  @Autowired
+  public void setTemplateGenerators(List<TemplateGenerator<?, ?>> templateGenerators) {
+    this.templateGenerators = templateGenerators;
+  }
+
+  /**
+   * Gets statistics of all the second-level cache regions, the entity regions are named after the
+   * entities. The hits, misses and puts are counted only when hibernate.generate_statistics is
+   * enabled, it is off by default because counting costs on every session.
+   *
+   * @return statistics of the regions ordered by region name
+   */
+  @Override
+  public List<CacheRegionStatistics> getCacheStatistics() {
+    Statistics statistics = getSessionFactory().getStatistics();
+    return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+        .sorted()
+        .map(region -> new CacheRegionStatistics(region,
+            statistics.getSecondLevelCacheStatistics(region)))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Evicts all the data of an entity region or of the query cache region.
+   *
+   * @param region name of the cached entity or of the query cache region
+   * @throws IllegalArgumentException if there is no such region
+   */
+  @Override
+  public void evictRegion(String region) {
+    Cache cache = getSessionFactory().getCache();
+    if (StandardQueryCache.class.getName().equals(region)) {
+      cache.evictDefaultQueryRegion();
+      return;
+    }
+    boolean isEntityRegion = entityManagerFactory.getMetamodel().getEntities().stream()
+        .anyMatch(entity -> entity.getJavaType().getName().equals(region));
+    if (!isEntityRegion) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.cache.region", region));
+    }
+    cache.evictEntityRegion(region);
+  }
+
+  /**
+   * Evicts the data of all the regions and the template plans of the strategies, so the rows
+   * changed right in the database are read again.
+   */
+  @Override
+  public void evictAll() {
+    getSessionFactory().getCache().evictAllRegions();
+    templateGenerators.forEach(TemplateGenerator::evictAll);
+  }
+
+  private SessionFactory getSessionFactory() {
+    return entityManagerFactory.unwrap(SessionFactory.class);
+  }
+}
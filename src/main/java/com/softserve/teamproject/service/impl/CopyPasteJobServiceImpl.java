@@ -0,0 +1,257 @@
+package com.softserve.teamproject.service.impl;
+
+import com.softserve.teamproject.dto.CopyPasteJob;
+import com.softserve.teamproject.dto.CopyPasteJob.Status;
+import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
+import com.softserve.teamproject.entity.CopyPasteJobKey;
+import com.softserve.teamproject.repository.CopyPasteJobKeyRepository;
+import com.softserve.teamproject.service.CopyPasteJobService;
+import com.softserve.teamproject.service.ScheduleService;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Keeps the jobs in memory, the finished jobs are removed after the configured time. The jobs are
+ * executed with the security context of the user who submitted them. The idempotency keys and the
+ * statuses of their jobs are stored in the database, so a retry that reaches another node or comes
+ * after a restart gets the status of the job submitted first. The schedule and the conflicts of a
+ * job are known only to the node that ran it. The keys of the jobs that are queued or running
+ * longer than the configured time are expired as well, so the jobs lost by a stopped node can be
+ * submitted again.
+ */
+@Service
+public class CopyPasteJobServiceImpl implements CopyPasteJobService {
+
+  private static final String STATUS_EVENT = "status";
+
+  private final Map<String, CopyPasteJob> jobs = new ConcurrentHashMap<>();
+  private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  private ScheduleService scheduleService;
+  private CopyPasteJobKeyRepository jobKeyRepository;
+  private ThreadPoolExecutor executor;
+  private int workers;
+  private int queueCapacity;
+  private Duration jobTtl;
+  private long emitterTimeoutMillis;
+
+  @Autowired
+  public void setScheduleService(ScheduleService scheduleService) {
+    this.scheduleService = scheduleService;
+  }
+
+  @Autowired
+  public void setJobKeyRepository(CopyPasteJobKeyRepository jobKeyRepository) {
+    this.jobKeyRepository = jobKeyRepository;
+  }
+
+  @Value("${schedule.copypaste.workers:2}")
+  public void setWorkers(int workers) {
+    this.workers = workers;
+  }
+
+  @Value("${schedule.copypaste.queue-capacity:20}")
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  @Value("${schedule.copypaste.job-ttl-minutes:60}")
+  public void setJobTtlMinutes(long jobTtlMinutes) {
+    this.jobTtl = Duration.ofMinutes(jobTtlMinutes);
+  }
+
+  @Value("${schedule.copypaste.emitter-timeout-seconds:300}")
+  public void setEmitterTimeoutSeconds(long emitterTimeoutSeconds) {
+    this.emitterTimeoutMillis = TimeUnit.SECONDS.toMillis(emitterTimeoutSeconds);
+  }
+
+  @PostConstruct
+  public void start() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+      Thread thread = new Thread(runnable, "copy-paste-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  @Override
+  public CopyPasteJob submit(CopyPasteScheduleWrapper copyPasteSchedule, String key) {
+    removeFinishedJobs();
+    String owner = SecurityContextHolder.getContext().getAuthentication().getName();
+    CopyPasteJob job = new CopyPasteJob(UUID.randomUUID().toString(), owner, copyPasteSchedule);
+    if (key == null || key.isEmpty()) {
+      return queue(job);
+    }
+    CopyPasteJobKey submitted = jobKeyRepository.findByOwnerAndIdempotencyKey(owner, key);
+    if (submitted != null) {
+      return getJob(submitted);
+    }
+    try {
+      jobKeyRepository.saveAndFlush(new CopyPasteJobKey(job.getId(), owner, key));
+    } catch (DataIntegrityViolationException e) {
+      return getJob(jobKeyRepository.findByOwnerAndIdempotencyKey(owner, key));
+    }
+    try {
+      return queue(job);
+    } catch (RejectedExecutionException e) {
+      jobKeyRepository.delete(job.getId());
+      throw e;
+    }
+  }
+
+  @Override
+  public CopyPasteJob getJob(String id) {
+    String user = SecurityContextHolder.getContext().getAuthentication().getName();
+    CopyPasteJob job = jobs.get(id);
+    if (job == null) {
+      CopyPasteJobKey jobKey = jobKeyRepository.findByJobIdAndOwner(id, user);
+      if (jobKey != null) {
+        return getJob(jobKey);
+      }
+    }
+    if (job == null || !job.getOwner().equals(user)) {
+      throw new EntityNotFoundException();
+    }
+    return job;
+  }
+
+  @Override
+  public SseEmitter subscribe(String id) {
+    CopyPasteJob job = getJob(id);
+    SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+    synchronized (job) {
+      send(emitter, job);
+      if (job.getStatus().isFinished() || !jobs.containsKey(id)) {
+        emitter.complete();
+        return emitter;
+      }
+      List<SseEmitter> jobEmitters = emitters.computeIfAbsent(id,
+          jobId -> new CopyOnWriteArrayList<>());
+      jobEmitters.add(emitter);
+      emitter.onCompletion(() -> jobEmitters.remove(emitter));
+      emitter.onTimeout(() -> jobEmitters.remove(emitter));
+    }
+    return emitter;
+  }
+
+  private CopyPasteJob queue(CopyPasteJob job) {
+    jobs.put(job.getId(), job);
+    try {
+      executor.execute(new DelegatingSecurityContextRunnable(() -> run(job),
+          SecurityContextHolder.getContext()));
+    } catch (RejectedExecutionException e) {
+      jobs.remove(job.getId());
+      throw e;
+    }
+    return job;
+  }
+
+  /**
+   * Gets the job of the key from the memory, the jobs of the other nodes are restored from the
+   * key without their schedules.
+   */
+  private CopyPasteJob getJob(CopyPasteJobKey jobKey) {
+    CopyPasteJob job = jobs.get(jobKey.getJobId());
+    if (job != null) {
+      return job;
+    }
+    job = new CopyPasteJob(jobKey.getJobId(), jobKey.getOwner(), null);
+    job.setMessage(jobKey.getMessage());
+    job.setStatus(jobKey.getStatus());
+    return job;
+  }
+
+  private void run(CopyPasteJob job) {
+    updateStatus(job, Status.RUNNING);
+    try {
+      CopyPasteScheduleWrapper schedule = job.getSchedule();
+      schedule.setConflicts(scheduleService.copyPasteSchedule(schedule));
+      updateStatus(job, Status.DONE);
+    } catch (RuntimeException e) {
+      job.setMessage(e.getMessage());
+      updateStatus(job, Status.FAILED);
+    }
+  }
+
+  private void updateStatus(CopyPasteJob job, Status status) {
+    storeStatus(job, status);
+    synchronized (job) {
+      job.setStatus(status);
+      List<SseEmitter> jobEmitters = status.isFinished()
+          ? emitters.remove(job.getId()) : emitters.get(job.getId());
+      if (jobEmitters == null) {
+        return;
+      }
+      for (SseEmitter emitter : jobEmitters) {
+        send(emitter, job);
+        if (status.isFinished()) {
+          emitter.complete();
+        }
+      }
+    }
+  }
+
+  /**
+   * Stores the status of a job submitted with a key, the key of a failed job is released so that
+   * a retry runs the copy paste again.
+   */
+  private void storeStatus(CopyPasteJob job, Status status) {
+    CopyPasteJobKey jobKey = jobKeyRepository.findOne(job.getId());
+    if (jobKey == null) {
+      return;
+    }
+    jobKey.setStatus(status);
+    jobKey.setUpdatedAt(LocalDateTime.now());
+    jobKey.setMessage(job.getMessage());
+    if (status.isFinished()) {
+      jobKey.setFinishedAt(LocalDateTime.now());
+    }
+    if (status == Status.FAILED) {
+      jobKey.setIdempotencyKey(null);
+    }
+    jobKeyRepository.save(jobKey);
+  }
+
+  private void send(SseEmitter emitter, CopyPasteJob job) {
+    try {
+      emitter.send(SseEmitter.event().name(STATUS_EVENT).data(job));
+    } catch (IOException | IllegalStateException e) {
+      emitter.completeWithError(e);
+    }
+  }
+
+  private void removeFinishedJobs() {
+    Instant expired = Instant.now().minus(jobTtl);
+    jobs.values().removeIf(job -> job.getFinishedAt() != null
+        && job.getFinishedAt().isBefore(expired));
+    jobKeyRepository.deleteExpired(LocalDateTime.now().minus(jobTtl));
+  }
+}
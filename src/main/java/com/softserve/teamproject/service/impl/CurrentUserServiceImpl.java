@@ -0,0 +1,119 @@
+package com.softserve.teamproject.service.impl;
+
+import com.softserve.teamproject.entity.User;
+import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
+import com.softserve.teamproject.service.SecurityService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * The class implements CurrentUserService interface. The users are memoized in the attributes of
+ * the current request and in a map whose entries expire after the configured number of seconds.
+ * The entries of a user are evicted when the user is saved or deleted.
+ */
+@Service
+public class CurrentUserServiceImpl implements CurrentUserService {
+
+  private static final String REQUEST_ATTRIBUTE_PREFIX =
+      CurrentUserServiceImpl.class.getName() + ".";
+
+  private final Map<String, CachedUser> users = new ConcurrentHashMap<>();
+  private UserRepository userRepository;
+  private SecurityService securityService;
+  private long ttlNanos;
+
+  @Autowired
+  public void setUserRepository(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  @Autowired
+  public void setSecurityService(SecurityService securityService) {
+    this.securityService = securityService;
+  }
+
+  @Value("${security.current-user.ttl-seconds:30}")
+  public void setTtlSeconds(long ttlSeconds) {
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+  }
+
+  /**
+   * Gets the user by nickname. The user is read from the current request first, then from the
+   * map, and is loaded from the repository only if it isn't found there.
+   *
+   * @param nickName nickname of the user
+   * @return user or null if there is no user with such nickname
+   */
+  @Override
+  public User getUser(String nickName) {
+    if (nickName == null) {
+      return null;
+    }
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    String attribute = REQUEST_ATTRIBUTE_PREFIX + nickName;
+    if (request != null) {
+      User user = (User) request.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+      if (user != null) {
+        return user;
+      }
+    }
+    User user = getCachedUser(nickName);
+    if (user != null && request != null) {
+      request.setAttribute(attribute, user, RequestAttributes.SCOPE_REQUEST);
+    }
+    return user;
+  }
+
+  /**
+   * Gets the logged in user.
+   *
+   * @return user or null if nobody is logged in
+   */
+  @Override
+  public User getCurrentUser() {
+    return getUser(securityService.findLoggedInUsername());
+  }
+
+  /**
+   * Removes the user from the map, the requests that already use the user keep it.
+   *
+   * @param userId id of the saved or deleted user
+   */
+  @Override
+  public void evict(int userId) {
+    users.values().removeIf(cached -> cached.user.getId() == userId);
+  }
+
+  private User getCachedUser(String nickName) {
+    long now = System.nanoTime();
+    CachedUser cached = users.get(nickName);
+    if (cached != null && cached.expiresAt - now > 0) {
+      return cached.user;
+    }
+    User user = userRepository.getUserByNickName(nickName);
+    if (user == null || ttlNanos <= 0) {
+      users.remove(nickName);
+    } else {
+      users.put(nickName, new CachedUser(user, now + ttlNanos));
+    }
+    return user;
+  }
+
+  private static class CachedUser {
+
+    private final User user;
+    private final long expiresAt;
+
+    private CachedUser(User user, long expiresAt) {
+      this.user = user;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -2,29 +2,65 @@ package com.softserve.teamproject.service.impl;
 
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.ScheduledTask;
+import com.softserve.teamproject.entity.SchedulerLease;
 import com.softserve.teamproject.entity.Status;
 import com.softserve.teamproject.generator.StatusGenerator;
-import com.softserve.teamproject.repository.GroupRepository;
 import com.softserve.teamproject.repository.ScheduledTaskRepository;
+import com.softserve.teamproject.repository.SchedulerLeaseRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Changes statuses of the groups on the dates generated from the status templates of their
+ * strategies. The tasks are kept in a queue ordered by the date of update, which is rebuilt from
+ * the task_scheduler table at startup. The scheduler wakes up once, at the start of the day of
+ * the earliest task, and applies all the due tasks in one batch.
+ *
+ * <p>Several nodes may share the database, so the tasks are partitioned by group id and a node
+ * applies the tasks of a partition only while it holds the lease of the partition. A node also
+ * wakes up once per lease period to take over the partitions of the nodes that stopped.
+ */
 @Service
 public class GroupScheduler implements Runnable {
 
+  private static final Comparator<ScheduledTask> DUE_ORDER = Comparator
+      .comparing(ScheduledTask::getDayOfUpdate).thenComparing(Comparator.naturalOrder());
+  private static final long RETRY_DELAY_MINUTES = 1;
+
+  private final PriorityQueue<ScheduledTask> queue = new PriorityQueue<>(DUE_ORDER);
   private StatusGenerator generator;
-  private GroupRepository groupRepository;
   private ScheduledTaskRepository schedulerRepo;
-  private boolean firstRun = true;
+  private SchedulerLeaseRepository leaseRepo;
+  private TransactionTemplate transactionTemplate;
+  private Clock clock = Clock.systemDefaultZone();
+  private String nodeId;
+  private int partitionCount;
+  private Duration leaseDuration;
+  private ScheduledExecutorService executor;
+  private ScheduledFuture<?> wakeUp;
 
   @Autowired
   public void setGenerator(StatusGenerator generator) {
@@ -32,33 +68,117 @@ public class GroupScheduler implements Runnable {
   }
 
   @Autowired
-  public GroupScheduler(GroupRepository groupRepository, ScheduledTaskRepository schedulerRepo) {
-    this.groupRepository = groupRepository;
+  public void setLeaseRepo(SchedulerLeaseRepository leaseRepo) {
+    this.leaseRepo = leaseRepo;
+  }
+
+  @Autowired
+  public void setTransactionManager(PlatformTransactionManager transactionManager) {
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Autowired(required = false)
+  public void setClock(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Value("${scheduler.node-id:}")
+  public void setNodeId(String nodeId) {
+    this.nodeId = nodeId.isEmpty() ? UUID.randomUUID().toString() : nodeId;
+  }
+
+  @Value("${scheduler.partitions:16}")
+  public void setPartitionCount(int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  @Value("${scheduler.lease-seconds:300}")
+  public void setLeaseSeconds(long leaseSeconds) {
+    this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+  }
+
+  @Autowired
+  public GroupScheduler(ScheduledTaskRepository schedulerRepo) {
     this.schedulerRepo = schedulerRepo;
-    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-    scheduler.schedule(this, 10, TimeUnit.SECONDS);
-    LocalDateTime nextScanning = LocalDate.now().plusDays(1).atTime(0, 0);
-    scheduler.scheduleWithFixedDelay(
-        this, LocalDateTime.now().until(nextScanning, ChronoUnit.SECONDS),
-        TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS);
   }
 
+  /**
+   * Creates the missing leases, loads the stored tasks and schedules the first wake up.
+   */
+  @PostConstruct
+  public void start() {
+    for (int partition = 0; partition < partitionCount; partition++) {
+      createLease(partition);
+    }
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "group-scheduler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    synchronized (this) {
+      queue.addAll(schedulerRepo.findAll());
+      scheduleWakeUp();
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Applies the tasks that are due today or earlier in the partitions whose leases the node gets
+   * and schedules the next wake up. The due tasks are read from the database, so the tasks added
+   * on the other nodes are applied as well. If the tasks can't be applied, they are retried
+   * later.
+   */
   @Override
-  public void run() {
-    List<ScheduledTask> tasks = schedulerRepo.getOldTasks();
+  public synchronized void run() {
+    LocalDate today = LocalDate.now(clock);
+    List<ScheduledTask> dueTasks = new ArrayList<>();
+    while (!queue.isEmpty() && !queue.peek().getDayOfUpdate().isAfter(today)) {
+      dueTasks.add(queue.poll());
+    }
+    try {
+      transactionTemplate.execute(status -> applyDueTasks(today));
+    } catch (RuntimeException e) {
+      queue.addAll(dueTasks);
+      wakeUp = executor.schedule(this, RETRY_DELAY_MINUTES, TimeUnit.MINUTES);
+      throw e;
+    }
+    scheduleWakeUp();
+  }
+
+  private List<ScheduledTask> applyDueTasks(LocalDate today) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    LocalDateTime expiresAt = now.plus(leaseDuration);
+    List<Integer> partitions = new ArrayList<>();
+    for (Integer partition : schedulerRepo.getDuePartitions(today, partitionCount)) {
+      if (leaseRepo.claim(partition, nodeId, now, expiresAt) > 0) {
+        partitions.add(partition);
+      }
+    }
+    if (partitions.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<ScheduledTask> tasks = schedulerRepo.getDueTasks(today, partitions, partitionCount);
     tasks.sort(Comparator.naturalOrder());
-    tasks.forEach(task -> {
-      task.getGroup().setStatus(task.getUpdatedStatus());
-      groupRepository.save(task.getGroup());
-      schedulerRepo.delete(task);
-    });
+    schedulerRepo.applyTasks(tasks);
+    return tasks;
   }
 
+  /**
+   * Replaces the tasks of the group with the ones generated from its current status. The queue
+   * is changed after the transaction of the caller is committed.
+   *
+   * @param group saved group
+   */
   public void updateTasks(Group group) {
-    Map<Status,LocalDate> template = generator.generateKeyEventTemplates(
+    Map<Status, LocalDate> template = generator.generateKeyEventTemplates(
         group.getSpecialization().getStrategy().getStatusTemplates(), group);
-    clearTasks(group);
-    template.forEach((status,date)->{
+    schedulerRepo.delete(schedulerRepo.getTasksByGroupId(group));
+    List<ScheduledTask> tasks = new ArrayList<>();
+    template.forEach((status, date) -> {
       if (status.getId() <= group.getStatus().getId()) {
         return;
       }
@@ -66,12 +186,63 @@ public class GroupScheduler implements Runnable {
       task.setDayOfUpdate(date);
       task.setGroup(group);
       task.setUpdatedStatus(status);
-      schedulerRepo.save(task);
+      tasks.add(schedulerRepo.save(task));
     });
-    run();
+    afterCommit(() -> replaceQueuedTasks(group.getId(), tasks));
   }
 
+  /**
+   * Deletes the tasks of the group.
+   *
+   * @param group group that is deleted
+   */
   public void clearTasks(Group group) {
     schedulerRepo.delete(schedulerRepo.getTasksByGroupId(group));
+    afterCommit(() -> replaceQueuedTasks(group.getId(), new ArrayList<>()));
+  }
+
+  private synchronized void replaceQueuedTasks(Integer groupId, List<ScheduledTask> tasks) {
+    queue.removeIf(task -> task.getGroup().getId().equals(groupId));
+    queue.addAll(tasks);
+    scheduleWakeUp();
+  }
+
+  private void scheduleWakeUp() {
+    if (wakeUp != null) {
+      wakeUp.cancel(false);
+    }
+    Instant now = clock.instant();
+    Instant next = now.plus(leaseDuration);
+    if (!queue.isEmpty()) {
+      Instant due = queue.peek().getDayOfUpdate().atStartOfDay(clock.getZone()).toInstant();
+      next = due.isBefore(next) ? due : next;
+    }
+    long delay = Duration.between(now, next).toMillis();
+    wakeUp = executor.schedule(this, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+  }
+
+  private void createLease(int partition) {
+    if (leaseRepo.exists(partition)) {
+      return;
+    }
+    try {
+      leaseRepo.save(new SchedulerLease(partition));
+    } catch (DataIntegrityViolationException e) {
+      // created by another node at the same time
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronizationAdapter() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
   }
 }
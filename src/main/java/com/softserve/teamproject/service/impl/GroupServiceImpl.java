@@ -1,5 +1,7 @@
 package com.softserve.teamproject.service.impl;
 
+import com.querydsl.core.types.Predicate;
+import com.softserve.teamproject.dto.CompactGroup;
 import com.softserve.teamproject.dto.EditGroupDto;
 import com.softserve.teamproject.dto.GroupDto;
 import com.softserve.teamproject.dto.GroupsFilter;
@@ -18,8 +20,11 @@ import com.softserve.teamproject.repository.SpecializationRepository;
 import com.softserve.teamproject.repository.StatusRepository;
 import com.softserve.teamproject.repository.UserRepository;
 import com.softserve.teamproject.repository.expression.GroupExpressions;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.GroupService;
+import com.softserve.teamproject.service.KeyDateWindowService;
 import com.softserve.teamproject.service.MessageByLocaleService;
+import com.softserve.teamproject.utils.KeysetResources;
 import com.softserve.teamproject.validation.GroupValidator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +34,8 @@ import java.util.HashSet;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -38,8 +45,10 @@ import org.springframework.validation.annotation.Validated;
 public class GroupServiceImpl implements GroupService {
 
   private GroupScheduler scheduler;
+  private KeyDateWindowService keyDateWindowService;
   private GroupRepository groupRep;
   private UserRepository userRepository;
+  private CurrentUserService currentUserService;
   private StatusRepository statusRepository;
   private LocationRepository locationRepository;
   private SpecializationRepository specializationRepository;
@@ -62,6 +71,11 @@ public class GroupServiceImpl implements GroupService {
     this.scheduler = scheduler;
   }
 
+  @Autowired
+  public void setKeyDateWindowService(KeyDateWindowService keyDateWindowService) {
+    this.keyDateWindowService = keyDateWindowService;
+  }
+
   @Autowired
   public void setGroupValidator(GroupValidator groupValidator) {
     this.groupValidator = groupValidator;
@@ -83,6 +97,11 @@ public class GroupServiceImpl implements GroupService {
     this.userRepository = userRepository;
   }
 
+  @Autowired
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
+  }
+
   @Autowired
   public void setStatusRepository(StatusRepository statusRepository) {
     this.statusRepository = statusRepository;
@@ -130,12 +149,13 @@ public class GroupServiceImpl implements GroupService {
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.error.group.exist"));
     }
-    User user = userRepository.getUserByNickName(userName);
+    User user = currentUserService.getUser(userName);
     groupValidator.checkCoordinatorLocationToManipulateGroup(user, group);
     Status status = statusRepository.getStatusByName(plannedGroupStatus);
     group.setStatus(status);
     group = groupRep.save(group);
     scheduler.updateTasks(group);
+    keyDateWindowService.updateWindows(group);
     return groupResourceAssembler.toResource(group);
   }
 
@@ -149,7 +169,7 @@ public class GroupServiceImpl implements GroupService {
    */
   @Override
   public void deleteGroup(int groupId, String userName) {
-    User user = userRepository.getUserByNickName(userName);
+    User user = currentUserService.getUser(userName);
     Group group = groupRep.findOne(groupId);
     if (group == null) {
       throw new ValidationException(
@@ -183,10 +203,11 @@ public class GroupServiceImpl implements GroupService {
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.error.group.exist"));
     }
-    User user = userRepository.getUserByNickName(userName);
+    User user = currentUserService.getUser(userName);
     groupValidator.checkGroupEditPermissions(user, group, currentStatus);
     group = groupRep.save(group);
     scheduler.updateTasks(group);
+    keyDateWindowService.updateWindows(group);
     return groupResourceAssembler.toResource(group);
   }
 
@@ -235,9 +256,56 @@ public class GroupServiceImpl implements GroupService {
     return getAllGroupResources();
   }
 
+  @Override
+  public List<CompactGroup> getCompactGroups(GroupsFilter filter) {
+    return groupRep.getCompactGroups(getFilterPredicate(filter));
+  }
+
+  /**
+   * Gets page of groups by filter. Without locations in the filter all the undeleted groups are
+   * paged like in {@link #getGroupsByFilter(GroupsFilter)}.
+   *
+   * @param filter groups filter
+   * @param pageable page number, size and sorting
+   * @return page of groups
+   */
+  @Override
+  public Page<GroupResource> getGroupResources(GroupsFilter filter, Pageable pageable) {
+    return groupRep.findAll(getFilterPredicate(filter), pageable)
+        .map(groupResourceAssembler::toResource);
+  }
+
+  /**
+   * Gets groups by filter that follow the group with given id in order of ids. Doesn't count
+   * the groups and doesn't skip the previous pages, so deep pages cost as much as the first one.
+   *
+   * @param filter groups filter
+   * @param afterId id of the last group of the previous page, 0 for the first page
+   * @param size maximal number of groups
+   * @return groups ordered by id
+   */
+  @Override
+  public List<GroupResource> getGroupResourcesAfter(GroupsFilter filter, Integer afterId,
+      int size) {
+    if (!KeysetResources.isSizeValid(size)) {
+      throw new IllegalArgumentException(messageByLocaleService
+          .getMessage("illegalArgs.page.size", KeysetResources.MAX_PAGE_SIZE));
+    }
+    return groupRep.getGroupsAfter(getFilterPredicate(filter), afterId, size).stream()
+        .map(groupResourceAssembler::toResource)
+        .collect(Collectors.toList());
+  }
+
+  private Predicate getFilterPredicate(GroupsFilter filter) {
+    if (filter != null && filter.getLocations() != null) {
+      return GroupExpressions.getByLocationIds(filter.getLocations());
+    }
+    return GroupExpressions.getUndeleted();
+  }
+
   @Override
   public Set<GroupResource> getGroupResourcesFromUserLocation(String principalName) {
-    User currentUser = userRepository.getUserByNickName(principalName);
+    User currentUser = currentUserService.getUser(principalName);
     Location userLocation = locationRepository.findOne(currentUser.getLocation().getId());
     Set<Group> groups = userLocation.getGroups();
     Set<GroupResource> groupResources = new HashSet<>();
@@ -319,7 +387,8 @@ public class GroupServiceImpl implements GroupService {
     group.setBudgetOwner(budgetOwner);
     group.setDeleted(groupDto.isDeleted());
 
-    groupRep.save(group);
+    group = groupRep.save(group);
+    keyDateWindowService.updateWindows(group);
   }
 
   @Override
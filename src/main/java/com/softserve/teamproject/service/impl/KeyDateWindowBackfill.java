@@ -0,0 +1,33 @@
+package com.softserve.teamproject.service.impl;
+
+import com.softserve.teamproject.service.KeyDateWindowService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the key date windows of the groups saved before the windows were stored, once the
+ * application is started. The windows of the groups saved later are stored with the groups, so
+ * the next starts find nothing to store.
+ */
+@Component
+public class KeyDateWindowBackfill implements ApplicationListener<ApplicationReadyEvent> {
+
+  private KeyDateWindowService keyDateWindowService;
+
+  @Autowired
+  public void setKeyDateWindowService(KeyDateWindowService keyDateWindowService) {
+    this.keyDateWindowService = keyDateWindowService;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    try {
+      keyDateWindowService.storeMissingWindows();
+    } catch (DataIntegrityViolationException e) {
+      // another node stored the windows at the same time
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.softserve.teamproject.service.impl;
+
+import static com.softserve.teamproject.utils.DateUtil.getFridayDateOfWeek;
+import static com.softserve.teamproject.utils.DateUtil.getMondayDateOfWeek;
+
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.KeyDateWindow;
+import com.softserve.teamproject.generator.KeyEventGenerator;
+import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.KeyDateWindowRepository;
+import com.softserve.teamproject.service.KeyDateWindowService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class KeyDateWindowServiceImpl implements KeyDateWindowService {
+
+  private KeyDateWindowRepository windowRepository;
+  private GroupRepository groupRepository;
+  private KeyEventGenerator generator;
+
+  @Autowired
+  public void setWindowRepository(KeyDateWindowRepository windowRepository) {
+    this.windowRepository = windowRepository;
+  }
+
+  @Autowired
+  public void setGroupRepository(GroupRepository groupRepository) {
+    this.groupRepository = groupRepository;
+  }
+
+  @Autowired
+  public void setGenerator(KeyEventGenerator generator) {
+    this.generator = generator;
+  }
+
+  /**
+   * Returns the stored windows of the group. The windows of a group saved before the windows were
+   * stored are generated without storing them, so the validation never writes the windows.
+   *
+   * @param group saved group
+   * @return windows of the key dates of the group
+   */
+  @Override
+  public List<KeyDateWindow> getWindows(Group group) {
+    List<KeyDateWindow> windows = windowRepository.findByGroupId(group.getId());
+    return windows.isEmpty() ? generateWindows(group) : windows;
+  }
+
+  /**
+   * Replaces the windows of the group with the work weeks of the dates generated from the key
+   * event templates of its strategy.
+   *
+   * @param group saved group
+   * @return new windows of the key dates of the group
+   */
+  @Override
+  public List<KeyDateWindow> updateWindows(Group group) {
+    List<KeyDateWindow> windows = generateWindows(group);
+    windowRepository.deleteByGroup(group);
+    return windowRepository.save(windows);
+  }
+
+  /**
+   * Stores the windows of the groups that have none, so their key dates aren't validated against
+   * windows generated on every request.
+   *
+   * @return number of the groups whose windows are stored
+   */
+  @Override
+  public int storeMissingWindows() {
+    int stored = 0;
+    for (Group group : groupRepository.getGroupsWithoutKeyDateWindows()) {
+      if (group.getSpecialization() == null
+          || group.getSpecialization().getStrategy() == null) {
+        continue;
+      }
+      try {
+        windowRepository.save(generateWindows(group));
+        stored++;
+      } catch (IllegalArgumentException e) {
+        // the templates are broken, the key dates of the group are rejected until they are fixed
+      }
+    }
+    return stored;
+  }
+
+  /**
+   * Replaces the windows of every group of the strategy, the plan of the strategy must be
+   * evicted from the generator before.
+   *
+   * @param strategyId id of the strategy
+   */
+  @Override
+  public void updateStrategyWindows(int strategyId) {
+    for (Group group : groupRepository.getGroupsByStrategyId(strategyId)) {
+      try {
+        updateWindows(group);
+      } catch (IllegalArgumentException e) {
+        // the templates are broken, the stored windows are kept until they are fixed
+      }
+    }
+  }
+
+  private List<KeyDateWindow> generateWindows(Group group) {
+    Map<EventType, LocalDate> dates = generator.generateKeyEventTemplates(
+        group.getSpecialization().getStrategy().getKeyEventTemplates(), group);
+    List<KeyDateWindow> windows = new ArrayList<>(dates.size());
+    dates.forEach((eventType, date) -> {
+      KeyDateWindow window = new KeyDateWindow();
+      window.setGroup(group);
+      window.setEventType(eventType);
+      window.setStartDate(getMondayDateOfWeek(date));
+      window.setEndDate(getFridayDateOfWeek(date));
+      windows.add(window);
+    });
+    return windows;
+  }
+}
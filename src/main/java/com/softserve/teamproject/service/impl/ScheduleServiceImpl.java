@@ -1,36 +1,58 @@
 package com.softserve.teamproject.service.impl;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
 import static com.softserve.teamproject.repository.expression.EventExpressions.getKeyDates;
+import static com.softserve.teamproject.utils.DateUtil.getFridayDateOfWeek;
 import static com.softserve.teamproject.utils.DateUtil.getMondayDateOfWeek;
 import static com.softserve.teamproject.utils.DateUtil.getSundayDateOfWeek;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.softserve.teamproject.dto.CompactEvent;
 import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
 import com.softserve.teamproject.dto.EventDto;
 import com.softserve.teamproject.dto.KeyDateDto;
 import com.softserve.teamproject.dto.ScheduleResponseWrapper;
+import com.softserve.teamproject.dto.ScheduleVersion;
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.RecurringEvent;
+import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.entity.assembler.EventResourceAssembler;
 import com.softserve.teamproject.entity.resource.EventResource;
 import com.softserve.teamproject.repository.EventRepository;
 import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.RecurringEventRepository;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.MessageByLocaleService;
 import com.softserve.teamproject.service.ScheduleService;
-import com.softserve.teamproject.utils.DateUtil;
+import com.softserve.teamproject.utils.ICalendarWriter;
+import com.softserve.teamproject.utils.RoomScheduleIndex;
 import com.softserve.teamproject.validation.EventValidator;
+import com.softserve.teamproject.validation.impl.EventValidationContext;
 import com.softserve.teamproject.validation.impl.InvalidField;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.security.Principal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalField;
-import java.time.temporal.WeekFields;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
 import javax.validation.ValidationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,11 +63,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
+  private static final int STREAM_BATCH_SIZE = 100;
+
   private EventRepository eventRepository;
+  private RecurringEventRepository recurringEventRepository;
   private GroupRepository groupRepository;
   private EventValidator eventValidator;
   private EventResourceAssembler eventResourceAssembler;
   private MessageByLocaleService messageByLocaleService;
+  private CurrentUserService currentUserService;
+  private ObjectMapper objectMapper;
+
+  @PersistenceContext
+  private EntityManager entityManager;
 
   @Value("${group.current}")
   private String currentGroupStatus;
@@ -64,6 +94,16 @@ public class ScheduleServiceImpl implements ScheduleService {
     this.eventResourceAssembler = eventResourceAssembler;
   }
 
+  @Autowired
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
+  }
+
+  @Autowired
+  public void setObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
   @Autowired
   public void setEventValidator(EventValidator eventValidator) {
     this.eventValidator = eventValidator;
@@ -79,12 +119,18 @@ public class ScheduleServiceImpl implements ScheduleService {
     this.eventRepository = eventRepository;
   }
 
+  @Autowired
+  public void setRecurringEventRepository(RecurringEventRepository recurringEventRepository) {
+    this.recurringEventRepository = recurringEventRepository;
+  }
+
   public List<EventResource> getKeyEventsByGroupId(Integer groupId) {
     return convertToResource(eventRepository.getKeyEventsByGroupId(groupId));
   }
 
   public Iterable<EventResource> getAllEvents() {
-    return convertToResource(eventRepository.findAll());
+    return convertToResource(addAllOccurrences(eventRepository.findAll(),
+        recurringEventRepository.getAllRecurringEvents()));
   }
 
   public Iterable<EventResource> getAllKeyEvents() {
@@ -93,34 +139,31 @@ public class ScheduleServiceImpl implements ScheduleService {
 
   public List<EventResource> getLastWeekEvents(Integer groupId) {
     Group group = groupRepository.findOne(groupId);
-    TemporalField temporalField = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
-    LocalDate start;
-    LocalDate end;
+    LocalDate weekDate;
     if (group.getStatus().getStatusCategory().getName().equals(currentGroupStatus)) {
-      start = LocalDate.now().with(temporalField, 1);
-      end = LocalDate.now().with(temporalField, 5);
+      weekDate = LocalDate.now();
     } else if (group.getStatus().getStatusCategory().getName().equals(finishedGroupStatus)) {
-      LocalDate finished = group.getFinishDate();
-      start = finished.with(temporalField, 1);
-      end = finished.with(temporalField, 5);
+      weekDate = group.getFinishDate();
     } else {
       throw new IllegalArgumentException(
           messageByLocaleService.getMessage("illegalArgs.schedule.group.plannedState"));
     }
-    return getEventsByGroupId(groupId, start, end);
+    return getEventsByGroupId(groupId, getMondayDateOfWeek(weekDate),
+        getFridayDateOfWeek(weekDate));
   }
 
   public List<EventResource> getEventsByGroupId(Integer groupId, LocalDate start,
       LocalDate end) {
     if (start == null && end == null) {
-      return convertToResource(eventRepository.getEventsByGroupId(groupId));
+      return convertToResource(addAllOccurrences(eventRepository.getEventsByGroupId(groupId),
+          recurringEventRepository.getRecurringEventsByGroupId(groupId)));
     }
     if (start == null || end == null) {
       throw new IllegalArgumentException(
           messageByLocaleService.getMessage("illegalArgs.schedule.getEventsById"));
     }
-    return convertToResource(eventRepository.getEventsByGroupId(
-        groupId, start.atStartOfDay(), end.plusDays(1).atStartOfDay()));
+    return convertToResource(getEventsByGroupId(Collections.singletonList(groupId),
+        start.atStartOfDay(), end.plusDays(1).atStartOfDay()));
   }
 
   public Iterable<EventResource> getEventsByFilter(
@@ -129,10 +172,93 @@ public class ScheduleServiceImpl implements ScheduleService {
       throw new IllegalArgumentException(
           messageByLocaleService.getMessage("illegalArgs.schedule.getEventsByFilter"));
     }
-    return convertToResource(eventRepository.getEventsByGroupId(
+    return convertToResource(getEventsByGroupId(
         groupId, start.atStartOfDay(), end.plusDays(1).atStartOfDay()));
   }
 
+  /**
+   * Reads the stored events of the groups in the period and adds the occurrences of their
+   * repetitions in the period.
+   */
+  private List<Event> getEventsByGroupId(List<Integer> groupIds, LocalDateTime from,
+      LocalDateTime to) {
+    List<Event> events = new ArrayList<>(eventRepository.getEventsByGroupId(groupIds, from, to));
+    for (RecurringEvent recurringEvent : recurringEventRepository
+        .getRecurringEventsByGroupId(groupIds, from, to)) {
+      events.addAll(recurringEvent.getOccurrences(from, to));
+    }
+    events.sort(Comparator.comparing(Event::getStart));
+    return events;
+  }
+
+  private List<Event> addAllOccurrences(Iterable<Event> storedEvents,
+      List<RecurringEvent> recurringEvents) {
+    List<Event> events = new ArrayList<>();
+    storedEvents.forEach(events::add);
+    for (RecurringEvent recurringEvent : recurringEvents) {
+      events.addAll(recurringEvent.getOccurrences(recurringEvent.getStart(),
+          recurringEvent.getUntilDate().plusDays(1).atStartOfDay()));
+    }
+    events.sort(Comparator.comparing(Event::getStart));
+    return events;
+  }
+
+  public List<CompactEvent> getCompactEvents(Integer groupId, LocalDate start, LocalDate end) {
+    if (groupId == null) {
+      return addAllCompactOccurrences(eventRepository.getAllCompactEvents(),
+          recurringEventRepository.getAllRecurringEvents());
+    }
+    if (start == null && end == null) {
+      return addAllCompactOccurrences(eventRepository.getCompactEventsByGroupId(groupId),
+          recurringEventRepository.getRecurringEventsByGroupId(groupId));
+    }
+    if (start == null || end == null) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.schedule.getEventsById"));
+    }
+    return getCompactEventsByGroupId(Collections.singletonList(groupId), start.atStartOfDay(),
+        end.plusDays(1).atStartOfDay());
+  }
+
+  public List<CompactEvent> getCompactEventsByFilter(List<Integer> groupId, LocalDate start,
+      LocalDate end) {
+    if (start == null || end == null) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.schedule.getEventsByFilter"));
+    }
+    return getCompactEventsByGroupId(groupId, start.atStartOfDay(),
+        end.plusDays(1).atStartOfDay());
+  }
+
+  /**
+   * Compact version of {@link #getEventsByGroupId(List, LocalDateTime, LocalDateTime)}, only the
+   * repetitions are loaded as entities.
+   */
+  private List<CompactEvent> getCompactEventsByGroupId(List<Integer> groupIds,
+      LocalDateTime from, LocalDateTime to) {
+    List<CompactEvent> events = new ArrayList<>(
+        eventRepository.getCompactEventsByGroupId(groupIds, from, to));
+    for (RecurringEvent recurringEvent : recurringEventRepository
+        .getRecurringEventsByGroupId(groupIds, from, to)) {
+      recurringEvent.getOccurrences(from, to)
+          .forEach(occurrence -> events.add(CompactEvent.ofOccurrence(occurrence)));
+    }
+    events.sort(Comparator.comparing(CompactEvent::getStart));
+    return events;
+  }
+
+  private List<CompactEvent> addAllCompactOccurrences(List<CompactEvent> storedEvents,
+      List<RecurringEvent> recurringEvents) {
+    List<CompactEvent> events = new ArrayList<>(storedEvents);
+    for (RecurringEvent recurringEvent : recurringEvents) {
+      recurringEvent.getOccurrences(recurringEvent.getStart(),
+          recurringEvent.getUntilDate().plusDays(1).atStartOfDay())
+          .forEach(occurrence -> events.add(CompactEvent.ofOccurrence(occurrence)));
+    }
+    events.sort(Comparator.comparing(CompactEvent::getStart));
+    return events;
+  }
+
   public Iterable<EventResource> getKeyEventsByFilter(List<Integer> groupId) {
     return convertToResource(eventRepository.getKeyEventsByGroupId(groupId));
   }
@@ -160,7 +286,10 @@ public class ScheduleServiceImpl implements ScheduleService {
     Group group = groupRepository.findOne(groupId);
     List<EventDto> invalidEvents = new ArrayList<>();
     List<Event> eventsToRemove = new ArrayList<>();
-    processAllEventsBeforeAdd(events, invalidEvents, eventsToRemove, group, principal);
+    events.forEach(event -> event.setGroup(group));
+    EventValidationContext context = eventValidator
+        .getValidationContext(events, Collections.emptyMap(), principal);
+    processAllEventsBeforeAdd(events, invalidEvents, eventsToRemove, context);
     events.removeAll(eventsToRemove);
     eventRepository.save(events);
 
@@ -170,7 +299,7 @@ public class ScheduleServiceImpl implements ScheduleService {
   }
 
   private void processAllEventsBeforeAdd(List<Event> events, List<EventDto> invalidEvents,
-      List<Event> eventsToRemove, Group group, Principal principal) {
+      List<Event> eventsToRemove, EventValidationContext context) {
     Event event = new Event();
     EventDto eventDto;
     Iterator<Event> eventsIter = events.iterator();
@@ -178,8 +307,8 @@ public class ScheduleServiceImpl implements ScheduleService {
     while (eventsIter.hasNext()) {
       try {
         event = eventsIter.next();
-        event.setGroup(group);
-        eventValidator.isEventValid(event, principal, invalidField);
+        eventValidator.isEventValid(event, invalidField, context);
+        context.getRoomScheduleIndex().add(event);
       } catch (AccessDeniedException | ValidationException e) {
         eventDto = new EventDto(event);
         eventDto.setMessage(e.getMessage());
@@ -226,13 +355,20 @@ public class ScheduleServiceImpl implements ScheduleService {
     EventDto eventDto;
     Event event = new Event();
     InvalidField invalidField = new InvalidField();
+    Map<Integer, Event> existedEvents = eventValidator.getExistedEvents(events);
+    for (Event eventToMerge : events) {
+      Event existedEvent = existedEvents.get(eventToMerge.getId());
+      if (existedEvent != null) {
+        eventValidator.checkEventFields(eventToMerge, existedEvent);
+      }
+    }
+    EventValidationContext context = eventValidator
+        .getValidationContext(events, existedEvents, principal);
     while (eventsIter.hasNext()) {
       try {
         event = eventsIter.next();
-        Event existedEvent = eventRepository.findOne(event.getId());
-        Event eventToUpdate = eventValidator.checkEventFields(event, existedEvent);
-        eventValidator.isEventUpdateValid(eventToUpdate, principal, invalidField);
-        eventRepository.save(eventToUpdate);
+        eventValidator.isEventUpdateValid(event, invalidField, context);
+        context.getRoomScheduleIndex().add(event);
       } catch (AccessDeniedException | ValidationException e) {
         eventDto = new EventDto(event);
         eventDto.setMessage(e.getMessage());
@@ -241,12 +377,93 @@ public class ScheduleServiceImpl implements ScheduleService {
       }
     }
     events.removeAll(eventsToRemove);
+    eventRepository.save(events);
     ScheduleResponseWrapper response = new ScheduleResponseWrapper(
         events.stream().map(eventResourceAssembler::toResource).collect(
             Collectors.toList()), invalidEvents);
     return response;
   }
 
+  /**
+   * Replaces the occurrence of the repetition on the date with a stored event. The fields that
+   * aren't specified are taken from the occurrence and the date becomes an exception of the
+   * repetition.
+   *
+   * @param recurringEventId id of the repetition
+   * @param date date of the replaced occurrence
+   * @param event changed fields of the occurrence
+   * @param principal the authenticated user
+   * @return stored event
+   * @throws AccessDeniedException when the group of the repetition is in other location
+   * @throws ValidationException when the changed occurrence is incorrect
+   */
+  @Override
+  public EventResource overrideOccurrence(Integer recurringEventId, LocalDate date, Event event,
+      Principal principal) throws AccessDeniedException, ValidationException {
+    RecurringEvent recurringEvent = getEditableRecurringEvent(recurringEventId, principal);
+    checkOccurrence(recurringEvent, date);
+    Event override = eventValidator.checkEventFields(event, recurringEvent.getOccurrence(date));
+    override.setId(null);
+    override.setGroup(recurringEvent.getGroup());
+    override.setRecurringEvent(null);
+    // the replaced occurrence mustn't occupy the room the override is checked against, the
+    // validator reads the same instance of the repetition
+    recurringEvent.addException(date);
+    eventValidator.isEventValid(override, principal, new InvalidField());
+    recurringEventRepository.save(recurringEvent);
+    eventRepository.save(override);
+    return eventResourceAssembler.toResource(override);
+  }
+
+  /**
+   * Removes one occurrence of a repeated event, the date is added to the exceptions of the
+   * repetition.
+   *
+   * @param recurringEventId id of the repetition
+   * @param date date of the removed occurrence
+   * @param principal coordinator of the location of the group
+   */
+  public void cancelOccurrence(Integer recurringEventId, LocalDate date, Principal principal)
+      throws AccessDeniedException {
+    RecurringEvent recurringEvent = getEditableRecurringEvent(recurringEventId, principal);
+    checkOccurrence(recurringEvent, date);
+    recurringEvent.addException(date);
+    recurringEventRepository.save(recurringEvent);
+  }
+
+  /**
+   * Removes a repeated event with all its occurrences. The occurrences replaced by stored events
+   * aren't removed, they are ordinary events.
+   *
+   * @param recurringEventId id of the repetition
+   * @param principal coordinator of the location of the group
+   */
+  public void deleteRecurringEvent(Integer recurringEventId, Principal principal)
+      throws AccessDeniedException {
+    recurringEventRepository.delete(getEditableRecurringEvent(recurringEventId, principal));
+  }
+
+  private RecurringEvent getEditableRecurringEvent(Integer recurringEventId,
+      Principal principal) {
+    RecurringEvent recurringEvent = recurringEventRepository.findOne(recurringEventId);
+    if (recurringEvent == null) {
+      throw new EntityNotFoundException();
+    }
+    User user = currentUserService.getUser(principal.getName());
+    if (!recurringEvent.getGroup().getLocation().equals(user.getLocation())) {
+      throw new AccessDeniedException(messageByLocaleService
+          .getMessage("auth.schedule.recurring.coordinator.alienLocation"));
+    }
+    return recurringEvent;
+  }
+
+  private void checkOccurrence(RecurringEvent recurringEvent, LocalDate date) {
+    if (!recurringEvent.occursOn(date)) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.schedule.recurring.noOccurrence"));
+    }
+  }
+
   /**
    * Add or update key date to specified group
    *
@@ -281,57 +498,85 @@ public class ScheduleServiceImpl implements ScheduleService {
     return eventResources;
   }
 
-  private void prepareEventsForCopy(List<Event> copyWeekEvents, LocalDate start) {
-    long diff = ChronoUnit.DAYS.between(DateUtil.getMondayDateOfWeek(start),
-        DateUtil.getMondayDateOfWeek(copyWeekEvents.get(0).getStart().toLocalDate()));
-    if (diff > 0) {
-      for (Event event : copyWeekEvents) {
-        event.setStart(event.getStart().plusDays(diff));
-        event.setEnd(event.getEnd().plusDays(diff));
-      }
-    }
-    if (diff < 0) {
-      for (Event event : copyWeekEvents) {
-        event.setStart(event.getStart().minusDays(diff));
-        event.setEnd(event.getEnd().minusDays(diff));
+  /**
+   * Creates the weekly repetitions of the copied events from the start to the finish date. The
+   * copied week is moved to the week of the start date and every event is repeated from its first
+   * week that isn't before the start date. The occurrences that cross the stored events, the
+   * stored repetitions or each other become exceptions of the repetitions and are put to the
+   * conflicts. The repetitions are checked against each other by their rules, so the stored
+   * repetitions are never expanded.
+   */
+  private void generateEventsForPaste(List<Event> copyWeekEvents, LocalDate start,
+      LocalDate finish, List<RecurringEvent> recurringEvents, List<Event> conflicts) {
+    LocalDateTime from = start.atStartOfDay();
+    LocalDateTime to = finish.plusDays(1).atStartOfDay();
+    long shift = ChronoUnit.DAYS.between(
+        getMondayDateOfWeek(copyWeekEvents.get(0).getStart().toLocalDate()),
+        getMondayDateOfWeek(start));
+    Set<Integer> roomIds = new HashSet<>();
+    for (Event event : copyWeekEvents) {
+      if (event.getRoom() != null && event.getRoom().getId() != null) {
+        roomIds.add(event.getRoom().getId());
       }
     }
-  }
-
-  private void generateEventsForPaste(List<Event> copyWeekEvents, LocalDate start,
-      LocalDate finish, List<Event> correct, List<Event> incorrect) {
-    prepareEventsForCopy(copyWeekEvents, start);
-    LocalDateTime eventStart;
-    LocalDateTime eventEnd;
-    Event temp;
+    RoomScheduleIndex storedEvents = roomIds.isEmpty() ? new RoomScheduleIndex()
+        : RoomScheduleIndex.of(eventRepository.getCrossEvents(from, to, roomIds));
+    List<RecurringEvent> crossing = roomIds.isEmpty() ? new ArrayList<>()
+        : new ArrayList<>(recurringEventRepository.getCrossRecurringEvents(from, to, roomIds));
     for (Event event : copyWeekEvents) {
-      for (int i = 0; ; i++) {
-        eventStart = event.getStart().plusDays(7 * i);
-        eventEnd = event.getEnd().plusDays(7 * i);
-        if (eventStart.isBefore(start.atStartOfDay())) {
-          continue;
+      LocalDateTime eventStart = event.getStart().plusDays(shift);
+      if (eventStart.isBefore(from)) {
+        long weeks = ChronoUnit.WEEKS.between(eventStart, from);
+        eventStart = eventStart.plusWeeks(weeks);
+        if (eventStart.isBefore(from)) {
+          eventStart = eventStart.plusWeeks(1);
         }
-        if (eventStart.isAfter(finish.plusDays(1).atStartOfDay())) {
-          break;
-        }
-        temp = new Event(null, eventStart, eventEnd,
-            event.getRoom(), event.getGroup(), event.getEventType());
-        if (isEventConflicts(temp)) {
-          incorrect.add(temp);
+      }
+      if (!eventStart.isBefore(to)) {
+        continue;
+      }
+      Duration duration = Duration.between(event.getStart(), event.getEnd());
+      RecurringEvent recurringEvent = new RecurringEvent(new Event(null, eventStart,
+          eventStart.plus(duration), event.getRoom(), event.getGroup(), event.getEventType()),
+          finish);
+      int occurrences = 0;
+      for (Event occurrence : recurringEvent.getOccurrences(from, to)) {
+        if (occurrence.getRoom() != null && (!storedEvents.isRoomFree(occurrence)
+            || isCrossingAny(crossing, occurrence))) {
+          recurringEvent.addException(occurrence.getStart().toLocalDate());
+          occurrence.setRecurringEvent(null);
+          conflicts.add(occurrence);
         } else {
-          correct.add(temp);
+          occurrences++;
         }
       }
+      if (occurrences > 0) {
+        recurringEvents.add(recurringEvent);
+        crossing.add(recurringEvent);
+      }
     }
   }
 
+  private boolean isCrossingAny(List<RecurringEvent> recurringEvents, Event event) {
+    for (RecurringEvent recurringEvent : recurringEvents) {
+      if (recurringEvent.isCrossing(event)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private List<Event> getEventsForCopy(Integer groupId, LocalDate copyWeekDate) {
     LocalDateTime start = getMondayDateOfWeek(copyWeekDate).atStartOfDay();
     LocalDateTime end = getSundayDateOfWeek(copyWeekDate).plusDays(1).atStartOfDay();
-    List<Event> events = eventRepository.getNotKeyEventsByGroupId(groupId, start, end);
-    List<Event> copyEvents = new ArrayList<>();
-    events.forEach(event -> copyEvents.add(new Event(event)));
-    return copyEvents;
+    List<Event> events = new ArrayList<>(
+        eventRepository.getNotKeyEventsByGroupId(groupId, start, end));
+    for (RecurringEvent recurringEvent : recurringEventRepository
+        .getRecurringEventsByGroupId(Collections.singletonList(groupId), start, end)) {
+      events.addAll(recurringEvent.getOccurrences(start, end));
+    }
+    events.sort(Comparator.comparing(Event::getStart));
+    return events;
   }
 
   /**
@@ -343,7 +588,7 @@ public class ScheduleServiceImpl implements ScheduleService {
   @Override
   public Iterable<EventDto> copyPasteSchedule(CopyPasteScheduleWrapper copyPasteSchedule) {
     Group group = copyPasteSchedule.getGroup();
-    List<Event> correct = new ArrayList<>();
+    List<RecurringEvent> recurringEvents = new ArrayList<>();
     List<Event> incorrect = new ArrayList<>();
     LocalDate copyWeekDate = copyPasteSchedule.getCopyWeekDate();
     LocalDate pasteWeekDate = copyPasteSchedule.getPasteWeekDate();
@@ -368,14 +613,140 @@ public class ScheduleServiceImpl implements ScheduleService {
       start = LocalDate.now();
       end = pasteEnd;
     }
-    generateEventsForPaste(copyEvents, start, end, correct, incorrect);
-    eventRepository.save(correct);
+    generateEventsForPaste(copyEvents, start, end, recurringEvents, incorrect);
+    recurringEventRepository.save(recurringEvents);
     List<EventDto> eventDtos = new ArrayList<>();
     incorrect.forEach(event -> eventDtos.add(new EventDto(event)));
     Collections.sort(eventDtos);
     return eventDtos;
   }
 
+  /**
+   * Returns the version of the events of the group or of the location, exactly one of the ids
+   * must be specified.
+   *
+   * @param groupId id of the group
+   * @param locationId id of the location
+   * @return number of the events and the time of their latest change
+   */
+  @Override
+  public ScheduleVersion getCalendarVersion(Integer groupId, Integer locationId) {
+    checkCalendarArgs(groupId, locationId);
+    if (groupId != null) {
+      return eventRepository.getScheduleVersionByGroupId(groupId)
+          .plus(recurringEventRepository.getScheduleVersionByGroupId(groupId));
+    }
+    return eventRepository.getScheduleVersionByLocationId(locationId)
+        .plus(recurringEventRepository.getScheduleVersionByLocationId(locationId));
+  }
+
+  /**
+   * Writes the events of the group or of the location in iCalendar format. The events are read
+   * from a database cursor and written one by one, written events are detached from the
+   * persistence context, so memory use doesn't depend on the number of the events. The
+   * repetitions are written with their rules, not as occurrences.
+   *
+   * @param groupId id of the group
+   * @param locationId id of the location
+   * @param writer writer of the response
+   */
+  @Override
+  public void writeCalendar(Integer groupId, Integer locationId, Writer writer)
+      throws IOException {
+    checkCalendarArgs(groupId, locationId);
+    ICalendarWriter calendar = new ICalendarWriter(writer);
+    calendar.writeHeader();
+    try (Stream<Event> events = groupId != null ? eventRepository.streamByGroupId(groupId)
+        : eventRepository.streamByLocationId(locationId)) {
+      Iterator<Event> eventsIter = events.iterator();
+      while (eventsIter.hasNext()) {
+        Event event = eventsIter.next();
+        calendar.writeEvent(event);
+        entityManager.detach(event);
+      }
+    }
+    for (RecurringEvent recurringEvent : groupId != null
+        ? recurringEventRepository.getRecurringEventsByGroupId(groupId)
+        : recurringEventRepository.getRecurringEventsByLocationId(locationId)) {
+      calendar.writeRecurringEvent(recurringEvent);
+    }
+    calendar.writeFooter();
+  }
+
+  /**
+   * Writes the events to the stream as JSON array. The stored events are read from a database
+   * cursor and merged with the occurrences of the repetitions by start. Only the next occurrence
+   * of every repetition is generated at a time. Every event is written as soon as it is converted
+   * to resource, the written events are flushed to the stream and detached from the persistence
+   * context in batches, so memory use doesn't depend on the number of the events.
+   *
+   * @param groupId id of the group, all the events are written when it isn't set
+   * @param start first date of the events, may be set only together with the end
+   * @param end last date of the events
+   * @param outputStream stream of the response
+   */
+  @Override
+  public void writeEvents(Integer groupId, LocalDate start, LocalDate end,
+      OutputStream outputStream) throws IOException {
+    OccurrenceQueue occurrences = new OccurrenceQueue();
+    if (groupId == null) {
+      recurringEventRepository.getAllRecurringEvents().forEach(occurrences::addAll);
+      writeEvents(eventRepository.streamAll(), occurrences, outputStream);
+    } else if (start == null && end == null) {
+      recurringEventRepository.getRecurringEventsByGroupId(groupId)
+          .forEach(occurrences::addAll);
+      writeEvents(eventRepository.streamByGroupId(groupId), occurrences, outputStream);
+    } else if (start == null || end == null) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.schedule.getEventsById"));
+    } else {
+      LocalDateTime from = start.atStartOfDay();
+      LocalDateTime to = end.plusDays(1).atStartOfDay();
+      for (RecurringEvent recurringEvent : recurringEventRepository
+          .getRecurringEventsByGroupId(Collections.singletonList(groupId), from, to)) {
+        occurrences.add(recurringEvent.iterateOccurrences(from, to));
+      }
+      writeEvents(eventRepository.streamByGroupIdAndStartBetween(groupId, from, to),
+          occurrences, outputStream);
+    }
+  }
+
+  private void writeEvents(Stream<Event> storedEvents, OccurrenceQueue occurrences,
+      OutputStream outputStream) throws IOException {
+    try (Stream<Event> events = storedEvents;
+        SequenceWriter writer = objectMapper.writer().without(FLUSH_AFTER_WRITE_VALUE)
+            .writeValuesAsArray(outputStream)) {
+      Iterator<Event> eventsIter = events.iterator();
+      int written = 0;
+      while (eventsIter.hasNext() || occurrences.hasNext()) {
+        Event event = eventsIter.hasNext() ? eventsIter.next() : null;
+        while (occurrences.hasNextBefore(event)) {
+          writer.write(eventResourceAssembler.toResource(occurrences.next()));
+          written = flushBatch(writer, written);
+        }
+        if (event != null) {
+          writer.write(eventResourceAssembler.toResource(event));
+          written = flushBatch(writer, written);
+        }
+      }
+    }
+  }
+
+  private int flushBatch(SequenceWriter writer, int written) throws IOException {
+    if (++written % STREAM_BATCH_SIZE == 0) {
+      writer.flush();
+      entityManager.clear();
+    }
+    return written;
+  }
+
+  private void checkCalendarArgs(Integer groupId, Integer locationId) {
+    if ((groupId == null) == (locationId == null)) {
+      throw new IllegalArgumentException(
+          messageByLocaleService.getMessage("illegalArgs.schedule.calendar.groupOrLocation"));
+    }
+  }
+
   private Integer[] getGroupIdsByLocation(Event event) {
     List<Group> groups = groupRepository
         .getGroupsByLocationId(event.getGroup().getLocation().getId());
@@ -389,13 +760,55 @@ public class ScheduleServiceImpl implements ScheduleService {
   }
 
   /**
-   * Check event for conflict.
-   *
-   * @param event that we check
-   * @return if conflicts true, if not false
+   * Occurrences of the repetitions in order of start. The queue holds the next occurrence of every
+   * repetition only, the following one is generated when the occurrence is taken.
    */
-  private boolean isEventConflicts(Event event) {
-    return eventRepository.getCrossEvents(event.getStart(), event.getEnd(),
-        event.getRoom().getId()) != null;
+  private static class OccurrenceQueue {
+
+    private final PriorityQueue<Occurrence> next = new PriorityQueue<>(
+        Comparator.comparing((Occurrence occurrence) -> occurrence.event.getStart()));
+
+    private void addAll(RecurringEvent recurringEvent) {
+      add(recurringEvent.iterateOccurrences(recurringEvent.getStart(),
+          recurringEvent.getUntilDate().plusDays(1).atStartOfDay()));
+    }
+
+    private void add(Iterator<Event> occurrences) {
+      if (occurrences.hasNext()) {
+        next.add(new Occurrence(occurrences.next(), occurrences));
+      }
+    }
+
+    private boolean hasNext() {
+      return !next.isEmpty();
+    }
+
+    /**
+     * Checks whether the next occurrence starts before the event.
+     *
+     * @param event stored event, null if all the stored events are taken
+     * @return true if there is an occurrence to take before the event
+     */
+    private boolean hasNextBefore(Event event) {
+      return hasNext()
+          && (event == null || next.peek().event.getStart().isBefore(event.getStart()));
+    }
+
+    private Event next() {
+      Occurrence occurrence = next.poll();
+      add(occurrence.following);
+      return occurrence.event;
+    }
+  }
+
+  private static class Occurrence {
+
+    private final Event event;
+    private final Iterator<Event> following;
+
+    private Occurrence(Event event, Iterator<Event> following) {
+      this.event = event;
+      this.following = following;
+    }
   }
-}
\ No newline at end of file
+}
@@ -1,31 +1,59 @@
 package com.softserve.teamproject.service.impl;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.softserve.teamproject.dto.EditStudentDto;
 import com.softserve.teamproject.dto.StudentDto;
+import com.softserve.teamproject.dto.StudentFile;
 import com.softserve.teamproject.entity.EnglishLevel;
 import com.softserve.teamproject.entity.Expert;
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.Student;
+import com.softserve.teamproject.entity.StudentAttachment;
 import com.softserve.teamproject.entity.assembler.StudentResourceAssembler;
 import com.softserve.teamproject.entity.resource.StudentResource;
 import com.softserve.teamproject.repository.EnglishLevelRepository;
 import com.softserve.teamproject.repository.ExpertRepository;
 import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.StudentAttachmentRepository;
 import com.softserve.teamproject.repository.StudentRepository;
+import com.softserve.teamproject.repository.expression.StudentExpressions;
 import com.softserve.teamproject.service.MessageByLocaleService;
 import com.softserve.teamproject.service.StudentService;
+import com.softserve.teamproject.utils.KeysetResources;
 import com.softserve.teamproject.validation.StudentValidator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.persistence.PersistenceContext;
+import org.hibernate.engine.jdbc.BlobProxy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.validation.annotation.Validated;
 
 @Service
 @Validated
 public class StudentServiceImpl implements StudentService {
 
+  private static final int STREAM_BATCH_SIZE = 100;
+
   private StudentRepository studentRepository;
   private StudentResourceAssembler studentResourceAssembler;
   private GroupRepository groupRepository;
@@ -33,12 +61,28 @@ public class StudentServiceImpl implements StudentService {
   private EnglishLevelRepository englishLevelRepository;
   private MessageByLocaleService messageByLocaleService;
   private ExpertRepository expertRepository;
+  private StudentAttachmentRepository studentAttachmentRepository;
+  private ObjectMapper objectMapper;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  public void setObjectMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
 
   @Autowired
   public void setExpertRepository(ExpertRepository expertRepository) {
     this.expertRepository = expertRepository;
   }
 
+  @Autowired
+  public void setStudentAttachmentRepository(
+      StudentAttachmentRepository studentAttachmentRepository) {
+    this.studentAttachmentRepository = studentAttachmentRepository;
+  }
+
   @Autowired
   public void setStudentRepository(StudentRepository studentRepository) {
     this.studentRepository = studentRepository;
@@ -90,6 +134,73 @@ public class StudentServiceImpl implements StudentService {
     return convertToResource(studentRepository.findAll());
   }
 
+  /**
+   * Gets page of students of given group or of all the students.
+   *
+   * @param groupId id of a group, may be null
+   * @param pageable page number, size and sorting
+   * @return page of students
+   */
+  @Override
+  public Page<StudentResource> getStudents(Integer groupId, Pageable pageable) {
+    return studentRepository.findAll(getGroupPredicate(groupId), pageable)
+        .map(studentResourceAssembler::toResource);
+  }
+
+  /**
+   * Gets students of given group or of all the students that follow the student with given id in
+   * order of ids.
+   *
+   * @param groupId id of a group, may be null
+   * @param afterId id of the last student of the previous page, 0 for the first page
+   * @param size maximal number of students
+   * @return students ordered by id
+   */
+  @Override
+  public List<StudentResource> getStudentsAfter(Integer groupId, Integer afterId, int size) {
+    if (!KeysetResources.isSizeValid(size)) {
+      throw new IllegalArgumentException(messageByLocaleService
+          .getMessage("illegalArgs.page.size", KeysetResources.MAX_PAGE_SIZE));
+    }
+    return studentRepository.getStudentsAfter(getGroupPredicate(groupId), afterId, size).stream()
+        .map(studentResourceAssembler::toResource)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Writes the students of given group or all the students to the stream as JSON array in order
+   * of ids. The students are read from a database cursor and every student is written as soon as
+   * it is converted to resource, the written students are flushed to the stream and detached from
+   * the persistence context in batches.
+   *
+   * @param groupId id of a group, may be null
+   * @param outputStream stream of the response
+   */
+  @Override
+  public void writeStudents(Integer groupId, OutputStream outputStream) throws IOException {
+    try (Stream<Student> students = groupId != null
+        ? studentRepository.streamByGroupId(groupId) : studentRepository.streamAll();
+        SequenceWriter writer = objectMapper.writer().without(FLUSH_AFTER_WRITE_VALUE)
+            .writeValuesAsArray(outputStream)) {
+      Iterator<Student> studentsIter = students.iterator();
+      int written = 0;
+      while (studentsIter.hasNext()) {
+        writer.write(studentResourceAssembler.toResource(studentsIter.next()));
+        if (++written % STREAM_BATCH_SIZE == 0) {
+          writer.flush();
+          entityManager.clear();
+        }
+      }
+    }
+  }
+
+  private Predicate getGroupPredicate(Integer groupId) {
+    if (groupId != null) {
+      return StudentExpressions.getByGroupId(groupId);
+    }
+    return new BooleanBuilder();
+  }
+
   private Iterable<StudentResource> convertToResource(Iterable<Student> students) {
     List<StudentResource> studentResources = new ArrayList<>();
     students.forEach(student -> studentResources.add(studentResourceAssembler.toResource(student)));
@@ -133,6 +244,7 @@ public class StudentServiceImpl implements StudentService {
       }
     }
     studentRepository.save(students);
+    students.forEach(this::saveAttachment);
     return students.stream().map(studentResourceAssembler::toResource).collect(Collectors.toList());
   }
 
@@ -166,6 +278,7 @@ public class StudentServiceImpl implements StudentService {
     Group group = studentRepository.findOne(student.getId()).getGroup();
     studentValidator.checkCoordinatorLocationToManipulateStudent(group, userName);
     studentRepository.save(student);
+    saveAttachment(student);
     return student;
   }
 
@@ -192,8 +305,110 @@ public class StudentServiceImpl implements StudentService {
    */
   @Override
   public StudentResource updateStudent(Student student) {
-    student = studentRepository.save(student);
-    return studentResourceAssembler.toResource(student);
+    Student saved = studentRepository.save(student);
+    saved.setImage(student.getImage());
+    saved.setCv(student.getCv());
+    saveAttachment(saved);
+    return studentResourceAssembler.toResource(saved);
+  }
+
+  /**
+   * Gets name and hash of the image of given student
+   *
+   * @param id given student's id
+   * @return image description
+   * @throws EntityNotFoundException if the student has no image
+   */
+  @Override
+  public StudentFile getStudentImage(Integer id) {
+    return checkFileExists(studentAttachmentRepository.findImageByStudentId(id));
+  }
+
+  /**
+   * Writes the bytes of the image of given student from start to end inclusive. The bytes are
+   * copied from the blob, the image isn't loaded into memory.
+   *
+   * @param id given student's id
+   * @param start index of the first byte
+   * @param end index of the last byte
+   * @param outputStream stream of the response
+   * @throws EntityNotFoundException if the student has no image
+   */
+  @Override
+  public void writeStudentImage(Integer id, long start, long end, OutputStream outputStream)
+      throws IOException {
+    writeContent(checkFileExists(getAttachment(id).getImage()), start, end, outputStream);
+  }
+
+  /**
+   * Gets name and hash of the CV of given student
+   *
+   * @param id given student's id
+   * @return CV description
+   * @throws EntityNotFoundException if the student has no CV
+   */
+  @Override
+  public StudentFile getStudentCv(Integer id) {
+    return checkFileExists(studentAttachmentRepository.findCvByStudentId(id));
+  }
+
+  /**
+   * Writes the bytes of the CV of given student from start to end inclusive. The bytes are
+   * copied from the blob, the CV isn't loaded into memory.
+   *
+   * @param id given student's id
+   * @param start index of the first byte
+   * @param end index of the last byte
+   * @param outputStream stream of the response
+   * @throws EntityNotFoundException if the student has no CV
+   */
+  @Override
+  public void writeStudentCv(Integer id, long start, long end, OutputStream outputStream)
+      throws IOException {
+    writeContent(checkFileExists(getAttachment(id).getCv()), start, end, outputStream);
+  }
+
+  private StudentAttachment getAttachment(Integer id) {
+    return checkFileExists(studentAttachmentRepository.findOne(id));
+  }
+
+  private void writeContent(Blob content, long start, long end, OutputStream outputStream)
+      throws IOException {
+    try (InputStream in = content.getBinaryStream()) {
+      StreamUtils.copyRange(in, outputStream, start, end);
+    } catch (SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private <T> T checkFileExists(T file) {
+    if (file == null) {
+      throw new EntityNotFoundException();
+    }
+    return file;
+  }
+
+  /**
+   * Stores the image and the CV received with the student. The files that weren't sent are kept
+   * as they are.
+   */
+  private void saveAttachment(Student student) {
+    if (student.getImage() == null && student.getCv() == null) {
+      return;
+    }
+    StudentAttachment attachment = studentAttachmentRepository.findOne(student.getId());
+    if (attachment == null) {
+      attachment = new StudentAttachment(student.getId());
+    }
+    if (student.getImage() != null) {
+      attachment.setImage(BlobProxy.generateProxy(student.getImage()));
+      attachment.setImageHash(DigestUtils.md5DigestAsHex(student.getImage()));
+    }
+    if (student.getCv() != null) {
+      attachment.setCv(BlobProxy.generateProxy(student.getCv()));
+      attachment.setCvHash(DigestUtils.md5DigestAsHex(student.getCv()));
+    }
+    studentAttachmentRepository.save(attachment);
   }
 
 
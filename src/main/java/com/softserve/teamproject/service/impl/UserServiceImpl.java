@@ -8,6 +8,7 @@ import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.repository.LocationRepository;
 import com.softserve.teamproject.repository.RoleRepository;
 import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.UserService;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,6 +21,7 @@ public class UserServiceImpl implements UserService {
   private UserRepository userRepository;
   private RoleRepository roleRepository;
   private LocationRepository locationRepository;
+  private CurrentUserService currentUserService;
 
   @Autowired
   public void setRoleRepository(RoleRepository roleRepository) {
@@ -37,6 +39,11 @@ public class UserServiceImpl implements UserService {
     this.userRepository = userRepository;
   }
 
+  @Autowired
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
+  }
+
   @Override
   public List<UserDto> getAllUserDto() {
     List<User> users = userRepository.findAll();
@@ -46,6 +53,7 @@ public class UserServiceImpl implements UserService {
   @Override
   public void deleteUser(int userId) {
     userRepository.deleteEntity(userId);
+    currentUserService.evict(userId);
   }
 
   @Override
@@ -83,5 +91,6 @@ public class UserServiceImpl implements UserService {
     Role role = roleRepository.findByName(userDto.getRole());
     user.setRole(role);
     userRepository.save(user);
+    currentUserService.evict(userDto.getId());
   }
 }
@@ -1,37 +1,81 @@
 package com.softserve.teamproject.utils;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalField;
-import java.time.temporal.WeekFields;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+/**
+ * Week calculations of the schedule. Weeks are ISO weeks, they start on Monday and the work week
+ * is Monday to Friday. The checks compare epoch days, so they don't create any objects.
+ */
 public class DateUtil {
 
+  private static final int DAYS_IN_WEEK = 7;
+  private static final int WORK_DAYS = 5;
+
   public static LocalDate getMondayDateOfWeek(LocalDate weekDate) {
-    TemporalField temporalField = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
-    return weekDate.with(temporalField, 1);
+    return weekDate.minusDays(getDayOfWeekIndex(weekDate));
+  }
+
+  public static LocalDate getFridayDateOfWeek(LocalDate weekDate) {
+    return weekDate.plusDays(WORK_DAYS - 1 - getDayOfWeekIndex(weekDate));
   }
 
   public static LocalDate getSundayDateOfWeek(LocalDate weekDate) {
-    TemporalField temporalField = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
-    return weekDate.with(temporalField, 7);
+    return weekDate.plusDays(DAYS_IN_WEEK - 1 - getDayOfWeekIndex(weekDate));
+  }
+
+  /**
+   * Gets the work days of the week of the date.
+   *
+   * @deprecated allocates the list on every call, check the days with {@link #isInWorkWeekOf}
+   */
+  @Deprecated
+  public static List<LocalDate> getWorkWeekOfDate(LocalDate date) {
+    return getDateRange(getMondayDateOfWeek(date), getFridayDateOfWeek(date));
+  }
+
+  /**
+   * Gets the days from the start to the end, both ends included.
+   *
+   * @deprecated allocates the list on every call, check the days with {@link #isInRange}
+   */
+  @Deprecated
+  public static List<LocalDate> getDateRange(LocalDate start, LocalDate end) {
+    List<LocalDate> range = new ArrayList<>();
+    for (long day = start.toEpochDay(); day <= end.toEpochDay(); day++) {
+      range.add(LocalDate.ofEpochDay(day));
+    }
+    return range;
   }
 
+  /**
+   * Checks whether the date is a work day of the week of the other date.
+   *
+   * @param date checked date
+   * @param weekDate any date of the week
+   * @return true if the date is from Monday to Friday of the week
+   */
+  public static boolean isInWorkWeekOf(LocalDate date, LocalDate weekDate) {
+    long monday = weekDate.toEpochDay() - getDayOfWeekIndex(weekDate);
+    long day = date.toEpochDay();
+    return day >= monday && day < monday + WORK_DAYS;
+  }
 
-  public static List<LocalDate> getWorkWeekOfDate(LocalDate date){
-    TemporalField temporalField = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
-    LocalDate startOfWeek = date.with(temporalField, 1);
-    LocalDate endOfWeek = startOfWeek.with(temporalField, 5);
-    return getDateRange(startOfWeek, endOfWeek);
+  /**
+   * Checks whether the date is within the range, both ends included.
+   *
+   * @param date checked date
+   * @param start first day of the range
+   * @param end last day of the range
+   * @return true if the date is within the range
+   */
+  public static boolean isInRange(LocalDate date, LocalDate start, LocalDate end) {
+    long day = date.toEpochDay();
+    return day >= start.toEpochDay() && day <= end.toEpochDay();
   }
 
-  public static List<LocalDate> getDateRange(LocalDate start, LocalDate end){
-    return Stream.iterate(start, date -> date.plusDays(1))
-        .limit(ChronoUnit.DAYS.between(start, end.plusDays(1)))
-        .collect(Collectors.toList());
+  private static int getDayOfWeekIndex(LocalDate date) {
+    return date.getDayOfWeek().getValue() - 1;
   }
 }
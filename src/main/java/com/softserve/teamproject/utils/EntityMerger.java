@@ -0,0 +1,142 @@
+package com.softserve.teamproject.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Copies field values between two instances of a class for partial updates. The declared
+ * non-static fields of the class are resolved once into a table of method handles, so merging
+ * doesn't look up or unlock fields on every call. Mergers are cached per class and are
+ * thread-safe.
+ *
+ * @param <T> type of the merged entities
+ */
+public class EntityMerger<T> {
+
+  private static final Map<Class<?>, EntityMerger<?>> MERGERS = new ConcurrentHashMap<>();
+  private static final MethodType GETTER_TYPE = MethodType
+      .methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType
+      .methodType(void.class, Object.class, Object.class);
+
+  private final Accessor[] accessors;
+
+  private EntityMerger(Class<?> type) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    List<Accessor> fieldAccessors = new ArrayList<>();
+    for (Field field : type.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+        continue;
+      }
+      field.setAccessible(true);
+      try {
+        fieldAccessors.add(new Accessor(field.getName(),
+            lookup.unreflectGetter(field).asType(GETTER_TYPE),
+            lookup.unreflectSetter(field).asType(SETTER_TYPE)));
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Field " + field + " is not accessible", e);
+      }
+    }
+    accessors = fieldAccessors.toArray(new Accessor[fieldAccessors.size()]);
+  }
+
+  /**
+   * Returns the merger of the class.
+   *
+   * @param type class of the entities
+   * @param <T> type of the entities
+   * @return cached merger
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> EntityMerger<T> of(Class<T> type) {
+    return (EntityMerger<T>) MERGERS.computeIfAbsent(type, EntityMerger::new);
+  }
+
+  /**
+   * Sets the fields of the target that are null to the values of the source.
+   *
+   * @param target entity with the updated fields
+   * @param source entity with the current values
+   * @return target
+   */
+  public T fillNullFields(T target, T source) {
+    return fillMissingFields(target, source, Objects::isNull);
+  }
+
+  /**
+   * Sets the fields of the target that are considered missing to the values of the source.
+   *
+   * @param target entity with the updated fields
+   * @param source entity with the current values
+   * @param isMissing tells whether the value of the target field is missing
+   * @return target
+   */
+  public T fillMissingFields(T target, T source, Predicate<Object> isMissing) {
+    for (Accessor accessor : accessors) {
+      if (isMissing.test(accessor.get(target))) {
+        accessor.set(target, accessor.get(source));
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Finds the first field of the entity which is null.
+   *
+   * @param entity checked entity
+   * @param ignoredFields names of the fields that may be null
+   * @return name of the field or null if all the fields are set
+   */
+  public String findNullField(T entity, Collection<String> ignoredFields) {
+    for (Accessor accessor : accessors) {
+      if (accessor.get(entity) == null && !ignoredFields.contains(accessor.name)) {
+        return accessor.name;
+      }
+    }
+    return null;
+  }
+
+  private static class Accessor {
+
+    private final String name;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private Accessor(String name, MethodHandle getter, MethodHandle setter) {
+      this.name = name;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    private Object get(Object entity) {
+      try {
+        return (Object) getter.invokeExact(entity);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException("Can't read field " + name, e);
+      }
+    }
+
+    private void set(Object entity, Object value) {
+      try {
+        setter.invokeExact(entity, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException("Can't write field " + name, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.softserve.teamproject.utils;
+
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.RecurringEvent;
+import com.softserve.teamproject.entity.Room;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes events to the given writer in iCalendar format (RFC 5545). Each event is written as
+ * soon as {@link #writeEvent(Event)} is called, so the calendar is never kept in memory.
+ */
+public class ICalendarWriter {
+
+  private static final String CRLF = "\r\n";
+  private static final int MAX_LINE_OCTETS = 75;
+  private static final DateTimeFormatter LOCAL_DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+  private static final DateTimeFormatter UTC_DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+  private final Writer writer;
+
+  public ICalendarWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Writes the beginning of the calendar.
+   */
+  public void writeHeader() throws IOException {
+    writeLine("BEGIN:VCALENDAR");
+    writeLine("VERSION:2.0");
+    writeLine("PRODID:-//SoftServe IT Academy//Caesar//EN");
+    writeLine("CALSCALE:GREGORIAN");
+  }
+
+  /**
+   * Writes the event as VEVENT. Start and end are written as floating local time, the way they
+   * are stored.
+   *
+   * @param event event with group and event type
+   */
+  public void writeEvent(Event event) throws IOException {
+    writeLine("BEGIN:VEVENT");
+    writeProperty("UID", "event-" + event.getId() + "@caesar");
+    writeProperty("DTSTAMP", toUtc(event.getLastModified()));
+    writeProperty("DTSTART", LOCAL_DATE_TIME.format(event.getStart()));
+    writeProperty("DTEND", LOCAL_DATE_TIME.format(event.getEnd()));
+    writeDescription(event.getEventType(), event.getGroup(), event.getRoom());
+    writeLine("END:VEVENT");
+  }
+
+  /**
+   * Writes the repetition as one VEVENT with a weekly RRULE, the exceptions are written as
+   * EXDATE, so the clients expand the occurrences themselves.
+   *
+   * @param recurringEvent repetition with group and event type
+   */
+  public void writeRecurringEvent(RecurringEvent recurringEvent) throws IOException {
+    writeLine("BEGIN:VEVENT");
+    writeProperty("UID", "recurring-event-" + recurringEvent.getId() + "@caesar");
+    writeProperty("DTSTAMP", toUtc(recurringEvent.getLastModified()));
+    writeProperty("DTSTART", LOCAL_DATE_TIME.format(recurringEvent.getStart()));
+    writeProperty("DTEND", LOCAL_DATE_TIME.format(recurringEvent.getEnd()));
+    writeProperty("RRULE", "FREQ=WEEKLY;INTERVAL=" + recurringEvent.getIntervalWeeks()
+        + ";UNTIL=" + LOCAL_DATE_TIME.format(recurringEvent.getUntilDate().atTime(LocalTime.MAX)));
+    List<LocalDate> exceptions = new ArrayList<>(recurringEvent.getExceptions());
+    Collections.sort(exceptions);
+    for (LocalDate exception : exceptions) {
+      writeProperty("EXDATE", LOCAL_DATE_TIME.format(
+          exception.atTime(recurringEvent.getStart().toLocalTime())));
+    }
+    writeDescription(recurringEvent.getEventType(), recurringEvent.getGroup(),
+        recurringEvent.getRoom());
+    writeLine("END:VEVENT");
+  }
+
+  /**
+   * Writes the end of the calendar and flushes the writer.
+   */
+  public void writeFooter() throws IOException {
+    writeLine("END:VCALENDAR");
+    writer.flush();
+  }
+
+  /**
+   * Escapes the characters that have special meaning in iCalendar text values.
+   *
+   * @param text value of a text property
+   * @return escaped value
+   */
+  public static String escape(String text) {
+    StringBuilder escaped = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '\\':
+        case ';':
+        case ',':
+          escaped.append('\\').append(c);
+          break;
+        case '\n':
+          escaped.append("\\n");
+          break;
+        case '\r':
+          break;
+        default:
+          escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  private void writeDescription(EventType eventType, Group group, Room room) throws IOException {
+    writeProperty("SUMMARY", escape(eventType.getName() + " " + group.getName()));
+    if (room != null) {
+      writeProperty("LOCATION", escape(room.getNumber() + ", " + room.getLocation().getName()));
+    }
+  }
+
+  private String toUtc(LocalDateTime dateTime) {
+    LocalDateTime stamp = dateTime == null ? LocalDateTime.now() : dateTime;
+    return UTC_DATE_TIME.format(stamp.atZone(ZoneId.systemDefault())
+        .withZoneSameInstant(ZoneOffset.UTC));
+  }
+
+  private void writeProperty(String name, String value) throws IOException {
+    writeLine(name + ":" + value);
+  }
+
+  /**
+   * Writes the content line folding it to lines of at most 75 octets, the continuation lines
+   * start with a space.
+   */
+  private void writeLine(String line) throws IOException {
+    int octets = 0;
+    int i = 0;
+    while (i < line.length()) {
+      int codePoint = line.codePointAt(i);
+      int length = getUtf8Length(codePoint);
+      if (octets + length > MAX_LINE_OCTETS) {
+        writer.write(CRLF);
+        writer.write(' ');
+        octets = 1;
+      }
+      int chars = Character.charCount(codePoint);
+      writer.write(line, i, chars);
+      octets += length;
+      i += chars;
+    }
+    writer.write(CRLF);
+  }
+
+  private static int getUtf8Length(int codePoint) {
+    if (codePoint < 0x80) {
+      return 1;
+    }
+    if (codePoint < 0x800) {
+      return 2;
+    }
+    return codePoint < 0x10000 ? 3 : 4;
+  }
+}
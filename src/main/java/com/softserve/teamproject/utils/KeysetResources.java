@@ -0,0 +1,52 @@
+package com.softserve.teamproject.utils;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Builds responses of keyset paging. A page is requested with the id of the last element of the
+ * previous page in the {@value #AFTER_PARAM} parameter, so the database seeks to it by the primary
+ * key instead of skipping all the previous rows.
+ */
+public class KeysetResources {
+
+  public static final String AFTER_PARAM = "after";
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private KeysetResources() {
+  }
+
+  /**
+   * Wraps the page into resources with self link and, if the page is full, the link to the next
+   * page of the current request.
+   *
+   * @param content elements of the page ordered by id
+   * @param size requested page size
+   * @param idGetter gets id of the element
+   * @param <T> type of the elements
+   * @return resources with links
+   */
+  public static <T extends ResourceSupport> Resources<T> of(List<T> content, int size,
+      ToIntFunction<T> idGetter) {
+    ServletUriComponentsBuilder request = ServletUriComponentsBuilder.fromCurrentRequest();
+    Resources<T> resources = new Resources<>(content,
+        new Link(request.build().toUriString()));
+    if (!content.isEmpty() && content.size() == size) {
+      int lastId = idGetter.applyAsInt(content.get(content.size() - 1));
+      resources.add(new Link(request.replaceQueryParam(AFTER_PARAM, lastId).build().toUriString(),
+          Link.REL_NEXT));
+    }
+    return resources;
+  }
+
+  /**
+   * Checks that the page size is between 1 and {@value #MAX_PAGE_SIZE}.
+   */
+  public static boolean isSizeValid(int size) {
+    return size > 0 && size <= MAX_PAGE_SIZE;
+  }
+}
@@ -0,0 +1,139 @@
+package com.softserve.teamproject.utils;
+
+import com.softserve.teamproject.entity.Event;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory index of room occupation used to check a batch of events for room conflicts without
+ * querying the database for every single event. Intervals of each room are kept in a map sorted
+ * by start time, so only the intervals that start inside the checked window (extended back by
+ * the longest interval of the room) are compared.
+ *
+ * <p>The index is not thread-safe and is meant to live for the duration of one request.
+ */
+public class RoomScheduleIndex {
+
+  private final Map<Integer, NavigableMap<LocalDateTime, List<Slot>>> rooms = new HashMap<>();
+  private final Map<Integer, Duration> longestSlots = new HashMap<>();
+  private final Map<Integer, Slot> slotsByEventId = new HashMap<>();
+
+  /**
+   * Creates an index filled with the given events.
+   *
+   * @param events events that already occupy rooms
+   * @return index of the events
+   */
+  public static RoomScheduleIndex of(Iterable<Event> events) {
+    RoomScheduleIndex index = new RoomScheduleIndex();
+    events.forEach(index::add);
+    return index;
+  }
+
+  /**
+   * Adds the event to the index. If an event with the same id is already indexed, its previous
+   * interval is replaced. Events without room or dates are ignored.
+   *
+   * @param event event that occupies a room
+   */
+  public void add(Event event) {
+    if (event.getRoom() == null || event.getRoom().getId() == null
+        || event.getStart() == null || event.getEnd() == null) {
+      return;
+    }
+    remove(event.getId());
+    Slot slot = new Slot(event.getId(), event.getRoom().getId(), event.getStart(),
+        event.getEnd());
+    rooms.computeIfAbsent(slot.roomId, roomId -> new TreeMap<>())
+        .computeIfAbsent(slot.start, start -> new ArrayList<>(1)).add(slot);
+    Duration duration = Duration.between(slot.start, slot.end);
+    longestSlots.merge(slot.roomId, duration, (left, right) -> left.compareTo(right) >= 0
+        ? left : right);
+    if (slot.eventId != null) {
+      slotsByEventId.put(slot.eventId, slot);
+    }
+  }
+
+  /**
+   * Removes the interval of the event with the given id.
+   *
+   * @param eventId id of the event, may be null
+   */
+  public void remove(Integer eventId) {
+    if (eventId == null) {
+      return;
+    }
+    Slot slot = slotsByEventId.remove(eventId);
+    if (slot == null) {
+      return;
+    }
+    NavigableMap<LocalDateTime, List<Slot>> slots = rooms.get(slot.roomId);
+    List<Slot> sameStart = slots.get(slot.start);
+    sameStart.remove(slot);
+    if (sameStart.isEmpty()) {
+      slots.remove(slot.start);
+    }
+  }
+
+  /**
+   * Checks whether the room is free in the specified period.
+   *
+   * @param roomId id of the room
+   * @param start start of the period
+   * @param end end of the period
+   * @param ignoredEventId id of the event that is not taken into account (the event being
+   * updated), may be null
+   * @return true if no indexed event occupies the room in the period
+   */
+  public boolean isRoomFree(Integer roomId, LocalDateTime start, LocalDateTime end,
+      Integer ignoredEventId) {
+    NavigableMap<LocalDateTime, List<Slot>> slots = rooms.get(roomId);
+    if (slots == null || slots.isEmpty()) {
+      return true;
+    }
+    LocalDateTime from = start.minus(longestSlots.get(roomId));
+    if (from.isAfter(end)) {
+      return true;
+    }
+    for (List<Slot> sameStart : slots.subMap(from, true, end, false).values()) {
+      for (Slot slot : sameStart) {
+        if (slot.end.isAfter(start) && (slot.eventId == null
+            || !slot.eventId.equals(ignoredEventId))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the room of the event is free in the period of the event.
+   *
+   * @param event event to check, its own interval is ignored
+   * @return true if the event doesn't cross any indexed event
+   */
+  public boolean isRoomFree(Event event) {
+    return isRoomFree(event.getRoom().getId(), event.getStart(), event.getEnd(), event.getId());
+  }
+
+  private static class Slot {
+
+    private final Integer eventId;
+    private final Integer roomId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private Slot(Integer eventId, Integer roomId, LocalDateTime start, LocalDateTime end) {
+      this.eventId = eventId;
+      this.roomId = roomId;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
@@ -3,9 +3,8 @@ package com.softserve.teamproject.validation;
 import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
 import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.User;
-import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.MessageByLocaleService;
-import com.softserve.teamproject.service.SecurityService;
 import java.time.LocalDate;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -17,18 +16,12 @@ import org.springframework.stereotype.Service;
 public class CopyPasteScheduleValidator implements
     ConstraintValidator<ValidCopyPasteSchedule, CopyPasteScheduleWrapper> {
 
-  private UserRepository userRepository;
-  private SecurityService securityService;
+  private CurrentUserService currentUserService;
   private MessageByLocaleService messageByLocaleService;
 
   @Autowired
-  public void setUserRepository(UserRepository userRepository) {
-    this.userRepository = userRepository;
-  }
-
-  @Autowired
-  public void setSecurityService(SecurityService securityService) {
-    this.securityService = securityService;
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
   }
 
   @Autowired
@@ -121,7 +114,7 @@ public class CopyPasteScheduleValidator implements
   @Override
   public boolean isValid(CopyPasteScheduleWrapper value, ConstraintValidatorContext context) {
     Group group = value.getGroup();
-    User user = userRepository.getUserByNickName(securityService.findLoggedInUsername());
+    User user = currentUserService.getCurrentUser();
     try {
       validateGroup(group, user);
       validateDates(value.getCopyWeekDate(), value.getPasteWeekDate(), value.getPasteFillDate(),
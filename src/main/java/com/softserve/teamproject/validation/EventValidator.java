@@ -1,8 +1,12 @@
 package com.softserve.teamproject.validation;
 
 import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.utils.RoomScheduleIndex;
+import com.softserve.teamproject.validation.impl.EventValidationContext;
 import com.softserve.teamproject.validation.impl.InvalidField;
 import java.security.Principal;
+import java.util.Collection;
+import java.util.Map;
 import javax.validation.ValidationException;
 import org.springframework.security.access.AccessDeniedException;
 
@@ -11,8 +15,21 @@ public interface EventValidator {
   void isEventValid(Event event, Principal principal, InvalidField invalidField)
       throws AccessDeniedException, ValidationException;
 
+  void isEventValid(Event event, InvalidField invalidField, EventValidationContext context)
+      throws AccessDeniedException, ValidationException;
+
   void isEventUpdateValid(Event event, Principal principal, InvalidField invalidField) throws ValidationException;
 
+  void isEventUpdateValid(Event event, InvalidField invalidField, EventValidationContext context)
+      throws ValidationException;
+
   Event checkEventFields(Event event, Event existedEvent);
 
+  Map<Integer, Event> getExistedEvents(Collection<Event> events);
+
+  EventValidationContext getValidationContext(Collection<Event> events,
+      Map<Integer, Event> existedEvents, Principal principal);
+
+  RoomScheduleIndex getRoomScheduleIndex(Collection<Event> events);
+
 }
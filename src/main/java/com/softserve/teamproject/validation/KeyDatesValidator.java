@@ -1,41 +1,37 @@
 package com.softserve.teamproject.validation;
 
-import static com.softserve.teamproject.utils.DateUtil.getWorkWeekOfDate;
-
-import com.softserve.teamproject.generator.KeyEventGenerator;
 import com.softserve.teamproject.dto.KeyDateDto;
-import com.softserve.teamproject.entity.EventType;
 import com.softserve.teamproject.entity.Group;
-import com.softserve.teamproject.entity.KeyEventTemplate;
+import com.softserve.teamproject.entity.KeyDateWindow;
 import com.softserve.teamproject.entity.User;
-import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
+import com.softserve.teamproject.service.KeyDateWindowService;
 import com.softserve.teamproject.service.MessageByLocaleService;
-import com.softserve.teamproject.service.SecurityService;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
- * Class made to generate valid key dates according to generation strategy and validate incoming
- * events
+ * Class made to validate incoming key dates against the windows generated from the strategy of
+ * the group. The windows of a group are memoized in the attributes of the current request, so a
+ * batch of key dates reads them once per group.
  */
 @Service
 public class KeyDatesValidator implements
     ConstraintValidator<KeyDates, KeyDateDto> {
 
-  @Autowired
-  private KeyEventGenerator generator;
-  private UserRepository userRepository;
-  private SecurityService securityService;
-  private Group group;
+  private static final String REQUEST_ATTRIBUTE_PREFIX =
+      KeyDatesValidator.class.getName() + ".";
+
+  private KeyDateWindowService keyDateWindowService;
+  private CurrentUserService currentUserService;
   private MessageByLocaleService messageByLocaleService;
-  private Map<EventType, LocalDate> validationTemplate = new HashMap<>();
   @Value("${user.teacher}")
   private String teacher;
   @Value("${user.coordinator}")
@@ -48,13 +44,13 @@ public class KeyDatesValidator implements
   }
 
   @Autowired
-  public void setUserRepository(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public void setKeyDateWindowService(KeyDateWindowService keyDateWindowService) {
+    this.keyDateWindowService = keyDateWindowService;
   }
 
   @Autowired
-  public void setSecurityService(SecurityService securityService) {
-    this.securityService = securityService;
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
   }
 
   @Override
@@ -73,37 +69,51 @@ public class KeyDatesValidator implements
   }
 
   /**
-   * Validates input event according to <code>validDates</code> parameter
+   * Validates input event according to the key date window of its group and event type
    *
    * @param event event to validate
    * @throws IllegalArgumentException if event type is incorrect or date is invalid
    */
   private void validateKeyDate(KeyDateDto event) {
-    updateTemplate(event);
-    if (event.getEventType() == null || !validationTemplate.containsKey(event.getEventType())) {
-      throw new IllegalArgumentException(
-          messageByLocaleService.getMessage("illegalArgs.keyDate.validate.eventType"));
-    }
-    List<LocalDate> week = getWorkWeekOfDate(validationTemplate.get(event.getEventType()));
+    KeyDateWindow window = getWindow(event);
     LocalDate eventDate = event.getDate();
-    if (eventDate == null || !week.contains(eventDate)) {
+    if (eventDate == null || !window.contains(eventDate)) {
       throw new IllegalArgumentException(
           messageByLocaleService.getMessage("illegalArgs.keyDate.validate.date"));
     }
   }
 
-  private void updateTemplate(KeyDateDto event) {
+  private KeyDateWindow getWindow(KeyDateDto event) {
     if (event.getGroup() == null) {
       throw new IllegalArgumentException(
           messageByLocaleService.getMessage("illegalArgs.keyDate.event.group"));
     }
     checkAuth(event.getGroup());
-    if (group == null || !event.getGroup().equals(group)) {
-      List<KeyEventTemplate> templates =
-          event.getGroup().getSpecialization().getStrategy().getKeyEventTemplates();
-      validationTemplate = generator.generateKeyEventTemplates(templates,event.getGroup());
-      group = event.getGroup();
+    if (event.getEventType() != null) {
+      for (KeyDateWindow window : getWindows(event.getGroup())) {
+        if (window.getEventType().equals(event.getEventType())) {
+          return window;
+        }
+      }
+    }
+    throw new IllegalArgumentException(
+        messageByLocaleService.getMessage("illegalArgs.keyDate.validate.eventType"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<KeyDateWindow> getWindows(Group group) {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request == null) {
+      return keyDateWindowService.getWindows(group);
+    }
+    String attribute = REQUEST_ATTRIBUTE_PREFIX + group.getId();
+    List<KeyDateWindow> windows = (List<KeyDateWindow>) request
+        .getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+    if (windows == null) {
+      windows = keyDateWindowService.getWindows(group);
+      request.setAttribute(attribute, windows, RequestAttributes.SCOPE_REQUEST);
     }
+    return windows;
   }
 
   private void setNewMessage(String message, ConstraintValidatorContext context) {
@@ -112,9 +122,9 @@ public class KeyDatesValidator implements
   }
 
   private void checkAuth(Group group) {
-    User currentUser = userRepository.getUserByNickName(securityService.findLoggedInUsername());
+    User currentUser = currentUserService.getCurrentUser();
     if ((currentUser.getRole().getName().equals(coordinator)
-        && currentUser.getLocation() != group.getLocation())
+        && !currentUser.getLocation().equals(group.getLocation()))
         || (currentUser.getRole().getName().equals(teacher)
         && !group.getTeachers().contains(currentUser))) {
       throw new IllegalArgumentException(
@@ -0,0 +1,52 @@
+package com.softserve.teamproject.validation.impl;
+
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Room;
+import com.softserve.teamproject.entity.User;
+import com.softserve.teamproject.utils.RoomScheduleIndex;
+import java.util.Map;
+
+/**
+ * Data resolved once for a batch of validated events: the authenticated user, the rooms and
+ * event types referenced by the events, the stored versions of the updated events and the
+ * occupation of the rooms.
+ */
+public class EventValidationContext {
+
+  private final User user;
+  private final Map<Integer, Room> rooms;
+  private final Map<Integer, EventType> eventTypes;
+  private final Map<Integer, Event> existedEvents;
+  private final RoomScheduleIndex roomScheduleIndex;
+
+  public EventValidationContext(User user, Map<Integer, Room> rooms,
+      Map<Integer, EventType> eventTypes, Map<Integer, Event> existedEvents,
+      RoomScheduleIndex roomScheduleIndex) {
+    this.user = user;
+    this.rooms = rooms;
+    this.eventTypes = eventTypes;
+    this.existedEvents = existedEvents;
+    this.roomScheduleIndex = roomScheduleIndex;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public Room getRoom(Integer id) {
+    return rooms.get(id);
+  }
+
+  public EventType getEventType(Integer id) {
+    return eventTypes.get(id);
+  }
+
+  public Event getExistedEvent(Integer id) {
+    return existedEvents.get(id);
+  }
+
+  public RoomScheduleIndex getRoomScheduleIndex() {
+    return roomScheduleIndex;
+  }
+}
@@ -2,18 +2,31 @@ package com.softserve.teamproject.validation.impl;
 
 import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.RecurringEvent;
 import com.softserve.teamproject.entity.Room;
 import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.repository.EventRepository;
 import com.softserve.teamproject.repository.EventTypeRepository;
+import com.softserve.teamproject.repository.RecurringEventRepository;
 import com.softserve.teamproject.repository.RoomRepository;
-import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.MessageByLocaleService;
+import com.softserve.teamproject.utils.EntityMerger;
+import com.softserve.teamproject.utils.RoomScheduleIndex;
 import com.softserve.teamproject.validation.EventValidator;
-import java.lang.reflect.Field;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.validation.ValidationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
@@ -25,15 +38,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class EventValidatorImpl implements EventValidator {
 
+  private static final EntityMerger<Event> EVENT_MERGER = EntityMerger.of(Event.class);
+  private static final List<String> OPTIONAL_FIELDS = Arrays.asList("id", "lastModified",
+      "recurringEvent");
+
   private RoomRepository roomRepository;
   private EventTypeRepository eventTypeRepository;
   private EventRepository eventRepository;
-  private UserRepository userRepository;
+  private RecurringEventRepository recurringEventRepository;
+  private CurrentUserService currentUserService;
   private MessageByLocaleService messageByLocaleService;
 
   @Autowired
-  public void setUserRepository(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
   }
 
   @Autowired
@@ -41,6 +59,11 @@ public class EventValidatorImpl implements EventValidator {
     this.eventRepository = eventRepository;
   }
 
+  @Autowired
+  public void setRecurringEventRepository(RecurringEventRepository recurringEventRepository) {
+    this.recurringEventRepository = recurringEventRepository;
+  }
+
   @Autowired
   public void setEventTypeRepository(EventTypeRepository eventTypeRepository) {
     this.eventTypeRepository = eventTypeRepository;
@@ -66,8 +89,22 @@ public class EventValidatorImpl implements EventValidator {
    */
   public void isEventValid(Event event, Principal principal, InvalidField invalidField)
       throws AccessDeniedException, ValidationException {
-    User user = userRepository.getUserByNickName(principal.getName());
-    checkLocationPermission(event, user, invalidField);
+    List<Event> events = Collections.singletonList(event);
+    isEventValid(event, invalidField,
+        getValidationContext(events, Collections.emptyMap(), principal));
+  }
+
+  /**
+   * Does the same checks as {@link #isEventValid(Event, Principal, InvalidField)}, but takes the
+   * user, the rooms, the event types and the rooms occupation from the context of the batch.
+   *
+   * @param event of the Event type
+   * @param context data resolved for the whole batch
+   * @throws ValidationException if one of the conditions is violated
+   */
+  public void isEventValid(Event event, InvalidField invalidField,
+      EventValidationContext context) throws AccessDeniedException, ValidationException {
+    checkLocationPermission(event, context.getUser(), invalidField);
     checkAllFields(event, invalidField);
     if (!isEventDateValid(event.getStart())) {
       invalidField.setName("startTime = " + event.getStart());
@@ -75,13 +112,14 @@ public class EventValidatorImpl implements EventValidator {
           messageByLocaleService.getMessage("valid.schedule.edit.startTime.retroactive")
       );
     }
-    if (!isEventTypeValid(event.getEventType())) {
+    if (!isEventTypeValid(event.getEventType(), context)) {
       invalidField.setName("eventType");
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.eventType.incorrect")
       );
     }
-    if (!isEventInFreeRoom(event)) {
+    if (!context.getRoomScheduleIndex().isRoomFree(event.getRoom().getId(), event.getStart(),
+        event.getEnd(), null)) {
       invalidField.setName("room id=" + event.getRoom().getId());
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.room.isBusy")
@@ -110,19 +148,11 @@ public class EventValidatorImpl implements EventValidator {
    * @param event to add to the database
    */
   public void checkAllFields(Event event, InvalidField invalidField) {
-    Class<?> eventClass = event.getClass();
-    for (Field field : eventClass.getDeclaredFields()) {
-      field.setAccessible(true);
-      try {
-        if (field.get(event) == null && !(field.getName().equals("id"))) {
-          invalidField.setName(field.getName());
-          throw new ValidationException(
-              messageByLocaleService.getMessage("valid.checkAllFields")
-                  + field.getName());
-        }
-      } catch (IllegalAccessException e) {
-        e.printStackTrace();
-      }
+    String nullField = EVENT_MERGER.findNullField(event, OPTIONAL_FIELDS);
+    if (nullField != null) {
+      invalidField.setName(nullField);
+      throw new ValidationException(
+          messageByLocaleService.getMessage("valid.checkAllFields") + nullField);
     }
   }
 
@@ -134,31 +164,51 @@ public class EventValidatorImpl implements EventValidator {
    */
   public void isEventUpdateValid(Event event, Principal principal, InvalidField invalidField)
       throws ValidationException {
-    User user = userRepository.getUserByNickName(principal.getName());
-    if (!event.getGroup().getLocation().equals(user.getLocation())) {
-      invalidField.setName("location");
-      throw new AccessDeniedException(
-          messageByLocaleService.getMessage("auth.schedule.create.coordinator.alienLocation")
-      );
-    }
+    List<Event> events = Collections.singletonList(event);
+    isEventUpdateValid(event, invalidField,
+        getValidationContext(events, getExistedEvents(events), principal));
+  }
+
+  /**
+   * Does the same checks as {@link #isEventUpdateValid(Event, Principal, InvalidField)}, but
+   * takes the user, the rooms, the event types, the stored events and the rooms occupation from
+   * the context of the batch.
+   *
+   * @param event of the Event type
+   * @param context data resolved for the whole batch
+   */
+  public void isEventUpdateValid(Event event, InvalidField invalidField,
+      EventValidationContext context) throws ValidationException {
     if (event.getId() == null) {
       invalidField.setName("eventId");
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.eventId.isNull")
       );
     }
-    if (!isEventTypeValid(event.getEventType())) {
+    if (context.getExistedEvent(event.getId()) == null) {
+      invalidField.setName("eventId");
+      throw new ValidationException(
+          messageByLocaleService.getMessage("valid.schedule.edit.event.notExist")
+      );
+    }
+    if (!event.getGroup().getLocation().equals(context.getUser().getLocation())) {
+      invalidField.setName("location");
+      throw new AccessDeniedException(
+          messageByLocaleService.getMessage("auth.schedule.create.coordinator.alienLocation")
+      );
+    }
+    if (!isEventTypeValid(event.getEventType(), context)) {
       invalidField.setName("eventType");
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.eventType.incorrect")
       );
     }
-    if (!doesRoomExist(event.getRoom())) {
+    if (context.getRoom(event.getRoom().getId()) == null) {
       invalidField.setName("room id=" + event.getRoom().getId());
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.room.notExist"));
     }
-    if (!isUpdateEventInFreeRoom(event)) {
+    if (!context.getRoomScheduleIndex().isRoomFree(event)) {
       invalidField.setName("room id=" + event.getRoom().getId());
       throw new ValidationException(
           messageByLocaleService.getMessage("valid.schedule.edit.room.isBusy")
@@ -174,29 +224,100 @@ public class EventValidatorImpl implements EventValidator {
    * @return event with all the fields ready to be updated
    */
   public Event checkEventFields(Event event, Event existedEvent) {
-    Class<?> eventClass = event.getClass();
-    for (Field field : eventClass.getDeclaredFields()) {
-      field.setAccessible(true);
-      try {
-        if (field.get(event) == null || field.get(event).equals(0)) {
-          Field existedField = existedEvent.getClass().getDeclaredField(field.getName());
-          existedField.setAccessible(true);
-          field.set(event, existedField.get(existedEvent));
-        }
-      } catch (IllegalAccessException | NoSuchFieldException e) {
-        e.printStackTrace();
+    return EVENT_MERGER.fillMissingFields(event, existedEvent,
+        value -> value == null || value.equals(0));
+  }
+
+  /**
+   * Loads the stored versions of the events with one query.
+   *
+   * @param events events that are going to be updated
+   * @return stored events by id
+   */
+  public Map<Integer, Event> getExistedEvents(Collection<Event> events) {
+    Set<Integer> ids = events.stream().map(Event::getId).filter(id -> id != null)
+        .collect(Collectors.toSet());
+    if (ids.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return toMap(eventRepository.findAll(ids), Event::getId);
+  }
+
+  /**
+   * Resolves everything the validation of the batch needs: the user, the rooms and the event
+   * types referenced by the events (one query each) and the occupation of the rooms in the
+   * period of the batch.
+   *
+   * @param events events of the batch, already merged with the stored ones for update
+   * @param existedEvents stored versions of the updated events
+   * @param principal the authenticated user
+   * @return validation context of the batch
+   */
+  public EventValidationContext getValidationContext(Collection<Event> events,
+      Map<Integer, Event> existedEvents, Principal principal) {
+    Set<Integer> roomIds = new HashSet<>();
+    Set<Integer> eventTypeIds = new HashSet<>();
+    for (Event event : events) {
+      if (event.getRoom() != null && event.getRoom().getId() != null) {
+        roomIds.add(event.getRoom().getId());
+      }
+      if (event.getEventType() != null && event.getEventType().getId() != null) {
+        eventTypeIds.add(event.getEventType().getId());
       }
     }
-    return event;
+    Map<Integer, Room> rooms = roomIds.isEmpty() ? Collections.emptyMap()
+        : toMap(roomRepository.findAll(roomIds), Room::getId);
+    Map<Integer, EventType> eventTypes = eventTypeIds.isEmpty() ? Collections.emptyMap()
+        : toMap(eventTypeRepository.findAll(eventTypeIds), EventType::getId);
+    return new EventValidationContext(currentUserService.getUser(principal.getName()),
+        rooms, eventTypes, existedEvents, getRoomScheduleIndex(events));
   }
 
-  private boolean doesRoomExist(Room room) {
-    return !(roomRepository.findOne(room.getId()) == null);
+  /**
+   * Loads the events that occupy the rooms of the given events in the period covered by them,
+   * the repetitions are added as their occurrences in the period.
+   *
+   * @param events events that are going to be checked for room conflicts
+   * @return index of the rooms occupation
+   */
+  public RoomScheduleIndex getRoomScheduleIndex(Collection<Event> events) {
+    Set<Integer> roomIds = new HashSet<>();
+    LocalDateTime from = null;
+    LocalDateTime to = null;
+    for (Event event : events) {
+      if (event.getRoom() == null || event.getRoom().getId() == null
+          || event.getStart() == null || event.getEnd() == null) {
+        continue;
+      }
+      roomIds.add(event.getRoom().getId());
+      if (from == null || event.getStart().isBefore(from)) {
+        from = event.getStart();
+      }
+      if (to == null || event.getEnd().isAfter(to)) {
+        to = event.getEnd();
+      }
+    }
+    if (roomIds.isEmpty()) {
+      return new RoomScheduleIndex();
+    }
+    RoomScheduleIndex index = RoomScheduleIndex.of(
+        eventRepository.getCrossEvents(from, to, roomIds));
+    for (RecurringEvent recurringEvent : recurringEventRepository
+        .getCrossRecurringEvents(from, to, roomIds)) {
+      recurringEvent.getOccurrences(from, to).forEach(index::add);
+    }
+    return index;
   }
 
+  private <T> Map<Integer, T> toMap(List<T> entities, Function<T, Integer> idGetter) {
+    Map<Integer, T> result = new HashMap<>();
+    entities.forEach(entity -> result.put(idGetter.apply(entity), entity));
+    return result;
+  }
 
-  private boolean isEventTypeValid(EventType eventType) {
-    return !(eventTypeRepository.findOne(eventType.getId()) == null || eventType.isKeyDate());
+  private boolean isEventTypeValid(EventType eventType, EventValidationContext context) {
+    EventType existedType = context.getEventType(eventType.getId());
+    return !(existedType == null || existedType.isKeyDate());
   }
 
   private boolean isEventDateValid(LocalDateTime dateTime) {
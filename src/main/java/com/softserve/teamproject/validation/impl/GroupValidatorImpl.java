@@ -5,8 +5,8 @@ import com.softserve.teamproject.entity.Status;
 import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.repository.GroupRepository;
 import com.softserve.teamproject.service.MessageByLocaleService;
+import com.softserve.teamproject.utils.EntityMerger;
 import com.softserve.teamproject.validation.GroupValidator;
-import java.lang.reflect.Field;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
@@ -14,6 +14,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class GroupValidatorImpl implements GroupValidator {
 
+  private static final EntityMerger<Group> GROUP_MERGER = EntityMerger.of(Group.class);
+
   private GroupRepository groupRepository;
   private MessageByLocaleService messageByLocaleService;
 
@@ -30,26 +32,14 @@ public class GroupValidatorImpl implements GroupValidator {
 
   /**
    * Checks if all fields of updated group exist. If some field is not exists, we copy required
-   * fields from an old group using reflection.
+   * fields from an old group.
    *
    * @param group is a group we want to update.
    */
   @Override
   public void fieldsCheck(Group group) {
     Group existedGroup = groupRepository.findOne(group.getId());
-    Class<?> groupClass = group.getClass();
-    for (Field field : groupClass.getDeclaredFields()) {
-      field.setAccessible(true);
-      try {
-        if (field.get(group) == null) {
-          Field existedField = existedGroup.getClass().getDeclaredField(field.getName());
-          existedField.setAccessible(true);
-          field.set(group, existedField.get(existedGroup));
-        }
-      } catch (IllegalAccessException | NoSuchFieldException e) {
-        e.printStackTrace();
-      }
-    }
+    GROUP_MERGER.fillNullFields(group, existedGroup);
   }
 
 
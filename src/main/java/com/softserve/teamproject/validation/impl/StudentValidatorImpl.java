@@ -4,10 +4,10 @@ import com.softserve.teamproject.entity.Group;
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.entity.User;
 import com.softserve.teamproject.repository.StudentRepository;
-import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.CurrentUserService;
 import com.softserve.teamproject.service.MessageByLocaleService;
+import com.softserve.teamproject.utils.EntityMerger;
 import com.softserve.teamproject.validation.StudentValidator;
-import java.lang.reflect.Field;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,8 +16,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class StudentValidatorImpl implements StudentValidator {
 
+  private static final EntityMerger<Student> STUDENT_MERGER = EntityMerger.of(Student.class);
+
   private StudentRepository studentRepository;
-  private UserRepository userRepository;
+  private CurrentUserService currentUserService;
   private MessageByLocaleService messageByLocaleService;
 
   @Autowired
@@ -26,8 +28,8 @@ public class StudentValidatorImpl implements StudentValidator {
   }
 
   @Autowired
-  public void setUserRepository(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public void setCurrentUserService(CurrentUserService currentUserService) {
+    this.currentUserService = currentUserService;
   }
 
   @Autowired
@@ -51,24 +53,12 @@ public class StudentValidatorImpl implements StudentValidator {
   @Override
   public void fillNotUpdatedFields(Student student) {
     Student existedStudent = studentRepository.findOne(student.getId());
-    Class<?> studentClass = student.getClass();
-    for (Field field : studentClass.getDeclaredFields()) {
-      field.setAccessible(true);
-      try {
-        if (field.get(student) == null) {
-          Field existedField = existedStudent.getClass().getDeclaredField(field.getName());
-          existedField.setAccessible(true);
-          field.set(student, existedField.get(existedStudent));
-        }
-      } catch (IllegalAccessException | NoSuchFieldException e) {
-        e.printStackTrace();
-      }
-    }
+    STUDENT_MERGER.fillNullFields(student, existedStudent);
   }
 
   @Override
   public void checkCoordinatorLocationToManipulateStudent(Group group, String userName) {
-    User user = userRepository.getUserByNickName(userName);
+    User user = currentUserService.getUser(userName);
     if (user.getRole().getName().equals("coordinator") && !user.getLocation()
         .equals(group.getLocation())) {
       throw new AccessDeniedException(
@@ -38,4 +38,9 @@ DELETE FROM status_template;
 ALTER TABLE status_template AUTO_INCREMENT=1;
 DELETE FROM task_scheduler;
 ALTER TABLE task_scheduler AUTO_INCREMENT=1;
+DELETE FROM key_date_window;
+ALTER TABLE key_date_window AUTO_INCREMENT=1;
+DELETE FROM recurring_event_exception;
+DELETE FROM recurring_event;
+ALTER TABLE recurring_event AUTO_INCREMENT=1;
 SET FOREIGN_KEY_CHECKS=1;
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.softserve.teamproject;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+public class AsyncMockMvc {
+
+  private AsyncMockMvc() {
+  }
+
+  /**
+   * Performs the request and, if the handler started async processing, dispatches its result the
+   * way the servlet container does. The requests rejected before the handler are not dispatched.
+   *
+   * @param mvc mock MVC
+   * @param requestBuilder request of the endpoint
+   * @return actions on the dispatched result
+   */
+  public static ResultActions performAsync(MockMvc mvc, RequestBuilder requestBuilder)
+      throws Exception {
+    MvcResult result = mvc.perform(requestBuilder).andReturn();
+    if (result.getRequest().isAsyncStarted()) {
+      return mvc.perform(asyncDispatch(result));
+    }
+    return new ResultActions() {
+      @Override
+      public ResultActions andExpect(ResultMatcher matcher) throws Exception {
+        matcher.match(result);
+        return this;
+      }
+
+      @Override
+      public ResultActions andDo(ResultHandler handler) throws Exception {
+        handler.handle(result);
+        return this;
+      }
+
+      @Override
+      public MvcResult andReturn() {
+        return result;
+      }
+    };
+  }
+}
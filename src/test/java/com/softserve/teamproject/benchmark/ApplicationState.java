@@ -0,0 +1,75 @@
+package com.softserve.teamproject.benchmark;
+
+import com.softserve.teamproject.TeamProjectDp115Application;
+import java.util.List;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Application started against an in-memory H2 database filled with {@link BenchmarkDataset}. The
+ * scale of the dataset is set by the parameters, {@link BenchmarkRunner} takes them from the
+ * system properties.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+  @Param("2")
+  private int locations;
+
+  @Param("10")
+  private int groupsPerLocation;
+
+  @Param("200")
+  private int eventsPerGroup;
+
+  @Param("20")
+  private int studentsPerGroup;
+
+  private ConfigurableApplicationContext context;
+  private BenchmarkDataset dataset;
+
+  @Setup(Level.Trial)
+  public void startApplication() {
+    context = new SpringApplicationBuilder(TeamProjectDp115Application.class)
+        .profiles("test")
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+            "spring.jpa.properties.hibernate.show_sql=false",
+            "spring.jpa.properties.hibernate.format_sql=false",
+            "spring.jpa.properties.hibernate.use_sql_comments=false",
+            "spring.jpa.properties.hibernate.generate_statistics=false",
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+            "security.current-user.ttl-seconds=30",
+            "logging.level.root=WARN")
+        .run();
+    dataset = new BenchmarkDataset(locations, groupsPerLocation, eventsPerGroup,
+        studentsPerGroup);
+    dataset.insert(context.getBean(DataSource.class));
+  }
+
+  @TearDown(Level.Trial)
+  public void stopApplication() {
+    context.close();
+  }
+
+  public <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  public List<Integer> getLocationIds() {
+    return dataset.getLocationIds();
+  }
+
+  public List<Integer> getGroupIds() {
+    return dataset.getGroupIds();
+  }
+}
@@ -0,0 +1,132 @@
+package com.softserve.teamproject.benchmark;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.sql.DataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Fills the database with the reference data of the schedule tests and with generated locations,
+ * groups, events and students. The values are drawn from a random with a fixed seed, so the same
+ * scale always gives the same dataset and the results of different commits can be compared.
+ */
+public class BenchmarkDataset {
+
+  public static final LocalDate START_DATE = LocalDate.of(2017, 9, 4);
+  public static final int WEEKS = 26;
+
+  private static final String REFERENCE_DATA = "test-data-schedule.sql";
+  private static final long SEED = 115L;
+  private static final int ROOMS_PER_LOCATION = 5;
+  private static final int IN_PROCESS_STATUS_ID = 4;
+  private static final int SPECIALIZATION_ID = 7;
+  private static final int BUDGET_OWNER_ID = 1;
+  private static final int TEACHER_ID = 1;
+  private static final int[] LESSON_TYPE_IDS = {5, 6, 7};
+  private static final int[] LESSON_HOURS = {9, 11, 14, 16};
+  private static final int LESSONS_PER_WEEK = 10;
+
+  private final int locations;
+  private final int groupsPerLocation;
+  private final int eventsPerGroup;
+  private final int studentsPerGroup;
+  private final Random random = new Random(SEED);
+
+  private final List<Integer> locationIds = new ArrayList<>();
+  private final List<Integer> groupIds = new ArrayList<>();
+
+  public BenchmarkDataset(int locations, int groupsPerLocation, int eventsPerGroup,
+      int studentsPerGroup) {
+    this.locations = locations;
+    this.groupsPerLocation = groupsPerLocation;
+    this.eventsPerGroup = eventsPerGroup;
+    this.studentsPerGroup = studentsPerGroup;
+  }
+
+  /**
+   * Inserts the dataset, the database must contain only the schema.
+   *
+   * @param dataSource data source of the application
+   */
+  public void insert(DataSource dataSource) {
+    new ResourceDatabasePopulator(new ClassPathResource(REFERENCE_DATA)).execute(dataSource);
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.update("insert into english_level (name, `level`) values ('intermediate', 3)");
+    int englishLevelId = jdbc.queryForObject("select max(id) from english_level", Integer.class);
+    for (int location = 0; location < locations; location++) {
+      insertLocation(jdbc, location, englishLevelId);
+    }
+  }
+
+  public List<Integer> getLocationIds() {
+    return locationIds;
+  }
+
+  public List<Integer> getGroupIds() {
+    return groupIds;
+  }
+
+  private void insertLocation(JdbcTemplate jdbc, int location, int englishLevelId) {
+    jdbc.update("insert into location (name) values (?)", "Benchmark " + location);
+    int locationId = getLastId(jdbc, "location");
+    locationIds.add(locationId);
+
+    List<Integer> roomIds = new ArrayList<>();
+    for (int room = 0; room < ROOMS_PER_LOCATION; room++) {
+      jdbc.update("insert into room (`number`, location_id) values (?, ?)",
+          String.valueOf(100 + room), locationId);
+      roomIds.add(getLastId(jdbc, "room"));
+    }
+    for (int group = 0; group < groupsPerLocation; group++) {
+      insertGroup(jdbc, locationId, "BM-" + location + "-" + group, roomIds, englishLevelId);
+    }
+  }
+
+  private void insertGroup(JdbcTemplate jdbc, int locationId, String name, List<Integer> roomIds,
+      int englishLevelId) {
+    jdbc.update("insert into educational_group (name, location_id, start_date, finish_date,"
+            + " status_id, specialization_id, budget_owner_id) values (?, ?, ?, ?, ?, ?, ?)",
+        name, locationId, Date.valueOf(START_DATE),
+        Date.valueOf(START_DATE.plusWeeks(WEEKS).minusDays(3)),
+        IN_PROCESS_STATUS_ID, SPECIALIZATION_ID, BUDGET_OWNER_ID);
+    int groupId = getLastId(jdbc, "educational_group");
+    groupIds.add(groupId);
+    jdbc.update("insert into group_teacher (teacher_id, group_id) values (?, ?)",
+        TEACHER_ID, groupId);
+    jdbc.update("insert into expert (edu_group_id, expert_name) values (?, ?)",
+        groupId, "Expert " + name);
+    int expertId = getLastId(jdbc, "expert");
+
+    List<Object[]> events = new ArrayList<>(eventsPerGroup);
+    for (int event = 0; event < eventsPerGroup; event++) {
+      LocalDate day = START_DATE
+          .plusWeeks(event / LESSONS_PER_WEEK % WEEKS)
+          .with(DayOfWeek.of(1 + event % 5));
+      LocalDateTime start = day.atTime(LESSON_HOURS[random.nextInt(LESSON_HOURS.length)], 0);
+      events.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(2)),
+          groupId, LESSON_TYPE_IDS[random.nextInt(LESSON_TYPE_IDS.length)],
+          roomIds.get(random.nextInt(roomIds.size()))});
+    }
+    jdbc.batchUpdate("insert into event (`start`, `end`, group_id, event_type_id, room_id)"
+        + " values (?, ?, ?, ?, ?)", events);
+
+    List<Object[]> students = new ArrayList<>(studentsPerGroup);
+    for (int student = 0; student < studentsPerGroup; student++) {
+      students.add(new Object[]{"Student" + student, name, groupId, englishLevelId, expertId});
+    }
+    jdbc.batchUpdate("insert into student (first_name, last_name, group_id, english_level_id,"
+        + " approved_by_expert_id) values (?, ?, ?, ?, ?)", students);
+  }
+
+  private static int getLastId(JdbcTemplate jdbc, String table) {
+    return jdbc.queryForObject("select max(id) from " + table, Integer.class);
+  }
+}
@@ -0,0 +1,48 @@
+package com.softserve.teamproject.benchmark;
+
+import java.io.File;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results in JSON, it is started by the benchmark profile of
+ * the build. The benchmarks keep their own warmup, measurement and fork settings and the dataset
+ * is generated with a fixed seed, so results of the same scale taken on different commits can be
+ * compared. The GC profiler is added, so the results include the bytes allocated per operation.
+ *
+ * <p>Arguments: regular expression of the included benchmarks and the path of the result file.
+ * The scale of the dataset is taken from the system properties benchmark.locations,
+ * benchmark.groupsPerLocation, benchmark.eventsPerGroup and benchmark.studentsPerGroup.
+ */
+public class BenchmarkRunner {
+
+  private static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackage().getName();
+  private static final String DEFAULT_RESULT = "target/jmh/result.json";
+  private static final String[] SCALE_PARAMS = {"locations", "groupsPerLocation",
+      "eventsPerGroup", "studentsPerGroup"};
+
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+    File result = new File(args.length > 1 ? args[1] : DEFAULT_RESULT);
+    if (result.getParentFile() != null) {
+      result.getParentFile().mkdirs();
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder()
+        .include(include)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result.getPath())
+        .addProfiler(GCProfiler.class)
+        .shouldFailOnError(true);
+    for (String param : SCALE_PARAMS) {
+      String value = System.getProperty("benchmark." + param);
+      if (value != null && !value.isEmpty()) {
+        options.param(param, value);
+      }
+    }
+    new Runner(options.build()).run();
+  }
+}
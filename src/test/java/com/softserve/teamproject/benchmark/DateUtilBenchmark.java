@@ -0,0 +1,127 @@
+package com.softserve.teamproject.benchmark;
+
+import com.softserve.teamproject.utils.DateUtil;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the week calculations used by the schedule. The dates go over a year so that every
+ * day of the week is covered and the results aren't folded to constants. The allocation rate of
+ * each benchmark is reported by the GC profiler of the runner, the membership checks compare the
+ * list of the work week with the epoch day check. The baseline benchmarks run the WeekFields and
+ * stream implementation the helpers had before, so the time and the allocation of the old path
+ * are measured in the same run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateUtilBenchmark {
+
+  private static final int DAYS = 365;
+
+  private LocalDate[] dates;
+  private int index;
+
+  @Setup
+  public void setup() {
+    dates = new LocalDate[DAYS];
+    LocalDate start = BenchmarkDataset.START_DATE;
+    for (int i = 0; i < DAYS; i++) {
+      dates[i] = start.plusDays(i);
+    }
+  }
+
+  @Benchmark
+  public LocalDate getMondayDateOfWeek() {
+    return DateUtil.getMondayDateOfWeek(nextDate());
+  }
+
+  @Benchmark
+  public LocalDate getSundayDateOfWeek() {
+    return DateUtil.getSundayDateOfWeek(nextDate());
+  }
+
+  @Benchmark
+  public List<LocalDate> getWorkWeekOfDate() {
+    return DateUtil.getWorkWeekOfDate(nextDate());
+  }
+
+  @Benchmark
+  public boolean workWeekContains() {
+    LocalDate date = nextDate();
+    return DateUtil.getWorkWeekOfDate(date).contains(date.plusDays(2));
+  }
+
+  @Benchmark
+  public boolean isInWorkWeekOf() {
+    LocalDate date = nextDate();
+    return DateUtil.isInWorkWeekOf(date.plusDays(2), date);
+  }
+
+  @Benchmark
+  public List<LocalDate> getDateRange() {
+    LocalDate start = nextDate();
+    return DateUtil.getDateRange(start, start.plusDays(6));
+  }
+
+  @Benchmark
+  public List<LocalDate> getWorkWeekOfDateBaseline() {
+    return Baseline.getWorkWeekOfDate(nextDate());
+  }
+
+  @Benchmark
+  public boolean workWeekContainsBaseline() {
+    LocalDate date = nextDate();
+    return Baseline.getWorkWeekOfDate(date).contains(date.plusDays(2));
+  }
+
+  @Benchmark
+  public List<LocalDate> getDateRangeBaseline() {
+    LocalDate start = nextDate();
+    return Baseline.getDateRange(start, start.plusDays(6));
+  }
+
+  private LocalDate nextDate() {
+    index = index + 1 == DAYS ? 0 : index + 1;
+    return dates[index];
+  }
+
+  /**
+   * The work week helpers as they were before the epoch day calculations.
+   */
+  private static class Baseline {
+
+    static List<LocalDate> getWorkWeekOfDate(LocalDate date) {
+      TemporalField temporalField = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
+      LocalDate startOfWeek = date.with(temporalField, 1);
+      LocalDate endOfWeek = startOfWeek.with(temporalField, 5);
+      return getDateRange(startOfWeek, endOfWeek);
+    }
+
+    static List<LocalDate> getDateRange(LocalDate start, LocalDate end) {
+      return Stream.iterate(start, date -> date.plusDays(1))
+          .limit(ChronoUnit.DAYS.between(start, end.plusDays(1)))
+          .collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.softserve.teamproject.benchmark;
+
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Room;
+import com.softserve.teamproject.entity.Student;
+import com.softserve.teamproject.utils.EntityMerger;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares partial update of a student and of an event done with {@link EntityMerger} and with
+ * the reflection lookups the validators used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMergerBenchmark {
+
+  private static final Predicate<Object> EVENT_FIELD_MISSING =
+      value -> value == null || value.equals(0);
+
+  private Student existedStudent;
+  private Event existedEvent;
+
+  @Setup
+  public void setup() {
+    existedStudent = new Student();
+    existedStudent.setId(1);
+    existedStudent.setFirstName("Lev");
+    existedStudent.setLastName("Bukhanets");
+    existedStudent.setImageName("photo.png");
+    existedStudent.setCvName("cv.pdf");
+    existedStudent.setGroup(new Group());
+    existedStudent.setIncomingTest(450);
+    existedStudent.setEntryScore(4.5);
+    existedStudent.setTeacherScore(5);
+    existedStudent.setTeacherFeedback("Good");
+    existedStudent.setExpertScore(4);
+    existedStudent.setExpertFeedback("Fine");
+    existedStudent.setInterviewerScore(5);
+    existedStudent.setInterviewerFeedback("Motivated");
+    existedStudent.setTest1Mark(90);
+    existedStudent.setTest2Mark(85);
+
+    LocalDateTime start = LocalDateTime.now();
+    existedEvent = new Event(1, start, start.plusHours(2), new Room(), new Group(),
+        new EventType());
+  }
+
+  @Benchmark
+  public Student studentMerger() {
+    return EntityMerger.of(Student.class).fillNullFields(getUpdatedStudent(), existedStudent);
+  }
+
+  @Benchmark
+  public Student studentReflection() {
+    return fillByReflection(getUpdatedStudent(), existedStudent, value -> value == null);
+  }
+
+  @Benchmark
+  public Event eventMerger() {
+    return EntityMerger.of(Event.class)
+        .fillMissingFields(getUpdatedEvent(), existedEvent, EVENT_FIELD_MISSING);
+  }
+
+  @Benchmark
+  public Event eventReflection() {
+    return fillByReflection(getUpdatedEvent(), existedEvent, EVENT_FIELD_MISSING);
+  }
+
+  private Student getUpdatedStudent() {
+    Student student = new Student();
+    student.setId(1);
+    student.setTeacherScore(4);
+    return student;
+  }
+
+  private Event getUpdatedEvent() {
+    Event event = new Event();
+    event.setId(1);
+    event.setStart(existedEvent.getStart().plusDays(1));
+    return event;
+  }
+
+  /**
+   * The way validators filled not updated fields before {@link EntityMerger}.
+   */
+  private static <T> T fillByReflection(T entity, T existed, Predicate<Object> isMissing) {
+    for (Field field : entity.getClass().getDeclaredFields()) {
+      field.setAccessible(true);
+      try {
+        if (isMissing.test(field.get(entity))) {
+          Field existedField = existed.getClass().getDeclaredField(field.getName());
+          existedField.setAccessible(true);
+          field.set(entity, existedField.get(existed));
+        }
+      } catch (IllegalAccessException | NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return entity;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(EntityMergerBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,44 @@
+package com.softserve.teamproject.benchmark;
+
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Binds a request and the coordinator of the test data to the benchmark thread, the links of the
+ * resources are built from the current request and the services check the authorities.
+ */
+@State(Scope.Thread)
+public class RequestState {
+
+  private static final String COORDINATOR = "DmytroPetin";
+
+  @Setup(Level.Trial)
+  public void bindRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setServerName("localhost");
+    request.setServerPort(8080);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    User principal = new User(COORDINATOR, "", Collections.singletonList(
+        new SimpleGrantedAuthority("coordinator")));
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+
+  @TearDown(Level.Trial)
+  public void unbindRequest() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+}
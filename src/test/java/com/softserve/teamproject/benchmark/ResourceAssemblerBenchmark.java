@@ -0,0 +1,117 @@
+package com.softserve.teamproject.benchmark;
+
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Room;
+import com.softserve.teamproject.entity.Student;
+import com.softserve.teamproject.entity.assembler.EventResourceAssembler;
+import com.softserve.teamproject.entity.assembler.GroupResourceAssembler;
+import com.softserve.teamproject.entity.assembler.StudentResourceAssembler;
+import com.softserve.teamproject.entity.resource.EventResource;
+import com.softserve.teamproject.entity.resource.GroupResource;
+import com.softserve.teamproject.entity.resource.StudentResource;
+import com.softserve.teamproject.repository.EventRepository;
+import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.StudentRepository;
+import com.softserve.teamproject.repository.expression.StudentExpressions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.hateoas.Link;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures mapping of the entities of one group to resources with links. The entities are loaded
+ * once, so only the assemblers are measured. The cost of one event resource is compared with
+ * the same links built by {@link RepositoryEntityLinks} for every resource. The request is bound
+ * for the whole trial, so the link templates are resolved once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceAssemblerBenchmark {
+
+  private EventResourceAssembler eventResourceAssembler;
+  private RepositoryEntityLinks repositoryEntityLinks;
+  private GroupResourceAssembler groupResourceAssembler;
+  private StudentResourceAssembler studentResourceAssembler;
+  private List<Event> events;
+  private List<Group> groups;
+  private List<Student> students;
+
+  @Setup
+  public void setup(ApplicationState application) {
+    eventResourceAssembler = application.getBean(EventResourceAssembler.class);
+    groupResourceAssembler = application.getBean(GroupResourceAssembler.class);
+    studentResourceAssembler = application.getBean(StudentResourceAssembler.class);
+    repositoryEntityLinks = application.getBean(RepositoryEntityLinks.class);
+
+    Integer groupId = application.getGroupIds().get(0);
+    events = application.getBean(EventRepository.class).getEventsByGroupId(groupId);
+    students = new ArrayList<>();
+    application.getBean(StudentRepository.class)
+        .findAll(StudentExpressions.getByGroupId(groupId)).forEach(students::add);
+    groups = new TransactionTemplate(application.getBean(PlatformTransactionManager.class))
+        .execute(status -> {
+          List<Group> loaded = application.getBean(GroupRepository.class)
+              .findAll(application.getGroupIds());
+          loaded.forEach(group -> group.getExperts().size());
+          return loaded;
+        });
+  }
+
+  @Benchmark
+  public List<EventResource> eventResources(RequestState request) {
+    return eventResourceAssembler.toResources(events);
+  }
+
+  @Benchmark
+  public List<GroupResource> groupResources(RequestState request) {
+    return groupResourceAssembler.toResources(groups);
+  }
+
+  @Benchmark
+  public List<StudentResource> studentResources(RequestState request) {
+    return studentResourceAssembler.toResources(students);
+  }
+
+  @Benchmark
+  public EventResource eventResource(RequestState request) {
+    return eventResourceAssembler.toResource(events.get(0));
+  }
+
+  @Benchmark
+  public EventResource eventResourceWithRepositoryLinks(RequestState request) {
+    Event event = events.get(0);
+    EventResource resource = new EventResource();
+    resource.setEventId(event.getId());
+    resource.setStart(event.getStart());
+    resource.setEnd(event.getEnd());
+    Link eventLink = repositoryEntityLinks.linkToSingleResource(Event.class, event.getId());
+    resource.add(new Link(eventLink.getHref(), Link.REL_SELF));
+    resource.add(eventLink);
+    resource.add(repositoryEntityLinks.linkToSingleResource(Group.class, event.getGroup().getId()));
+    resource.add(repositoryEntityLinks
+        .linkToSingleResource(EventType.class, event.getEventType().getId()));
+    if (event.getRoom() != null) {
+      resource.add(repositoryEntityLinks.linkToSingleResource(Room.class, event.getRoom().getId()));
+    }
+    return resource;
+  }
+}
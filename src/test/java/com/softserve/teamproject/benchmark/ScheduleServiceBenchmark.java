@@ -0,0 +1,92 @@
+package com.softserve.teamproject.benchmark;
+
+import static com.softserve.teamproject.benchmark.BenchmarkDataset.START_DATE;
+import static com.softserve.teamproject.benchmark.BenchmarkDataset.WEEKS;
+
+import com.softserve.teamproject.dto.CompactEvent;
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.RecurringEvent;
+import com.softserve.teamproject.entity.resource.EventResource;
+import com.softserve.teamproject.repository.EventRepository;
+import com.softserve.teamproject.service.ScheduleService;
+import com.softserve.teamproject.service.impl.ScheduleServiceImpl;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.AopTestUtils;
+
+/**
+ * Measures reading the schedule of the groups of a location for a month, as resources and in
+ * compact form, and generating the repetitions pasted from one week of a group till the end of
+ * the group. The generated repetitions aren't saved, so every invocation checks the rooms against
+ * the same schedule.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleServiceBenchmark {
+
+  private static final int FILTER_WEEKS = 4;
+  private static final int PASTE_FROM_WEEK = 8;
+
+  private ScheduleService scheduleService;
+  private MethodHandle generateEventsForPaste;
+  private ScheduleServiceImpl scheduleServiceTarget;
+  private List<Integer> locationGroupIds;
+  private List<Event> copyWeekEvents;
+
+  @Setup
+  public void setup(ApplicationState application) throws ReflectiveOperationException {
+    scheduleService = application.getBean(ScheduleService.class);
+    scheduleServiceTarget = AopTestUtils.getUltimateTargetObject(scheduleService);
+    Method method = ScheduleServiceImpl.class.getDeclaredMethod("generateEventsForPaste",
+        List.class, LocalDate.class, LocalDate.class, List.class, List.class);
+    method.setAccessible(true);
+    generateEventsForPaste = MethodHandles.lookup().unreflect(method);
+
+    int groupsPerLocation = application.getGroupIds().size()
+        / application.getLocationIds().size();
+    locationGroupIds = new ArrayList<>(application.getGroupIds().subList(0, groupsPerLocation));
+    copyWeekEvents = application.getBean(EventRepository.class).getNotKeyEventsByGroupId(
+        locationGroupIds.get(0), START_DATE.atStartOfDay(), START_DATE.plusWeeks(1).atStartOfDay());
+  }
+
+  @Benchmark
+  public Iterable<EventResource> getEventsByFilter(RequestState request) {
+    return scheduleService.getEventsByFilter(locationGroupIds, START_DATE,
+        START_DATE.plusWeeks(FILTER_WEEKS).minusDays(1));
+  }
+
+  @Benchmark
+  public List<CompactEvent> getCompactEventsByFilter(RequestState request) {
+    return scheduleService.getCompactEventsByFilter(locationGroupIds, START_DATE,
+        START_DATE.plusWeeks(FILTER_WEEKS).minusDays(1));
+  }
+
+  @Benchmark
+  public List<RecurringEvent> generateEventsForPaste() throws Throwable {
+    List<RecurringEvent> recurringEvents = new ArrayList<>();
+    List<Event> conflicts = new ArrayList<>();
+    generateEventsForPaste.invoke(scheduleServiceTarget, copyWeekEvents,
+        START_DATE.plusWeeks(PASTE_FROM_WEEK), START_DATE.plusWeeks(WEEKS), recurringEvents,
+        conflicts);
+    return recurringEvents;
+  }
+}
@@ -0,0 +1,94 @@
+package com.softserve.teamproject.benchmark;
+
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.KeyEventTemplate;
+import com.softserve.teamproject.entity.Strategy;
+import com.softserve.teamproject.generator.KeyEventGenerator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures generation of the key dates of a group from the templates of its strategy. The
+ * templates are linked the way the test data links them: the first one is bound to the start of
+ * the group, the last one to its end and the others to one of them. The templates of a strategy
+ * are resolved on the first call, the uncached variant resolves them on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateGeneratorBenchmark {
+
+  private static final int FIRST_REL = 1;
+
+  @Param({"4", "32"})
+  private int templatesCount;
+
+  private KeyEventGenerator generator;
+  private List<KeyEventTemplate> templates;
+  private List<KeyEventTemplate> templatesWithoutStrategy;
+  private Group group;
+
+  @Setup
+  public void setup() {
+    generator = new KeyEventGenerator();
+    Strategy strategy = new Strategy();
+    strategy.setId(1);
+    templates = new ArrayList<>();
+    templatesWithoutStrategy = new ArrayList<>();
+    for (int order = 1; order <= templatesCount; order++) {
+      EventType eventType = new EventType();
+      eventType.setId(order);
+      eventType.setName("Demo " + order);
+      KeyEventTemplate template = new KeyEventTemplate();
+      template.setId(order);
+      template.setEventType(eventType);
+      template.setOrder(order);
+      template.setRel(order % 2 == 0 && order != templatesCount ? FIRST_REL : templatesCount);
+      template.setDuration(order == templatesCount ? 0 : 7 * (order % 4 + 1));
+      templatesWithoutStrategy.add(template);
+    }
+    templatesWithoutStrategy.get(0).setRel(FIRST_REL);
+    for (KeyEventTemplate template : templatesWithoutStrategy) {
+      KeyEventTemplate copy = new KeyEventTemplate();
+      copy.setId(template.getId());
+      copy.setEventType(template.getEventType());
+      copy.setOrder(template.getOrder());
+      copy.setRel(template.getRel());
+      copy.setDuration(template.getDuration());
+      copy.setStrategy(strategy);
+      templates.add(copy);
+    }
+
+    group = new Group();
+    group.setStartDate(LocalDate.of(2017, 9, 4));
+    group.setFinishDate(LocalDate.of(2018, 2, 28));
+  }
+
+  @Benchmark
+  public Map<EventType, LocalDate> generateKeyEventTemplates() {
+    return generator.generateKeyEventTemplates(templates, group);
+  }
+
+  @Benchmark
+  public Map<EventType, LocalDate> generateKeyEventTemplatesUncached() {
+    return generator.generateKeyEventTemplates(templatesWithoutStrategy, group);
+  }
+}
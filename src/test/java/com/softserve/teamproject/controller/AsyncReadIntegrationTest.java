@@ -0,0 +1,59 @@
+package com.softserve.teamproject.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Reads the resources on the workers of the pool executor. The test data is committed, the
+ * workers don't see the transactions of the test thread.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "web.async.executor=pool")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Sql("/test-data-schedule.sql")
+@Sql(scripts = "/test-clean-table.sql", executionPhase = AFTER_TEST_METHOD)
+public class AsyncReadIntegrationTest {
+
+  private final String COORDINATOR = "DmytroPetin";
+  @Autowired
+  private MockMvc mvc;
+
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getEvents_readByPoolWorker_eventsWithLinksExpected() throws Exception {
+    //Arrange
+    final int EXPECTED_SIZE = 2;
+    final String TESTED_URL = "/events?groupid=2&start=2017-07-05&end=2017-07-24";
+
+    //Act
+    MvcResult result = mvc.perform(get(TESTED_URL)).andReturn();
+
+    //Assert
+    assertTrue(result.getRequest().isAsyncStarted());
+    mvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
+        .andExpect(jsonPath("$[*].links[0].href", everyItem(containsString("/events/"))))
+        .andExpect(jsonPath("$[*].links[2].href", everyItem(containsString("groups/2"))));
+  }
+}
@@ -0,0 +1,111 @@
+package com.softserve.teamproject.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import com.softserve.teamproject.service.ScheduleService;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Occupies the server with more slow reads than it has request threads and checks that the login
+ * is still served. The reads run on the bounded executor of the async endpoints, so they don't
+ * hold the request threads while they wait for the database.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "server.tomcat.max-threads=" + AsyncReadLoadTest.SERVER_THREADS,
+    "web.async.executor=pool",
+    "web.async.workers=" + AsyncReadLoadTest.SLOW_READS})
+@ActiveProfiles("test")
+@Sql("/test-data-schedule.sql")
+@Sql(scripts = "/test-clean-table.sql", executionPhase = AFTER_TEST_METHOD)
+public class AsyncReadLoadTest {
+
+  static final int SERVER_THREADS = 4;
+  static final int SLOW_READS = 3 * SERVER_THREADS;
+  private static final long TIMEOUT_SECONDS = 10;
+  private static final String CREDENTIALS = "{\"username\":\"OlegShvets\",\"password\":\"ghd22df\"}";
+
+  @LocalServerPort
+  private int port;
+  @MockBean
+  private ScheduleService scheduleService;
+
+  private final RestTemplate restTemplate = new RestTemplate();
+
+  @Test
+  public void login_slowReadsExceedServerThreads_loginServed() throws Exception {
+    //Arrange
+    CountDownLatch readsStarted = new CountDownLatch(SLOW_READS);
+    CountDownLatch readsReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      readsStarted.countDown();
+      readsReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      invocation.getArgumentAt(3, OutputStream.class).write("[]".getBytes());
+      return null;
+    }).when(scheduleService).writeEvents(any(), any(), any(), any());
+    HttpHeaders session = new HttpHeaders();
+    session.set(HttpHeaders.COOKIE,
+        login().getHeaders().getFirst(HttpHeaders.SET_COOKIE).split(";")[0]);
+    ExecutorService clients = Executors.newFixedThreadPool(SLOW_READS + 1);
+    try {
+      List<Future<ResponseEntity<String>>> reads = new ArrayList<>();
+      for (int i = 0; i < SLOW_READS; i++) {
+        reads.add(clients.submit(() -> restTemplate.exchange(url("/events"), HttpMethod.GET,
+            new HttpEntity<>(session), String.class)));
+      }
+      assertTrue(readsStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+      //Act
+      ResponseEntity<String> login = clients.submit(this::login)
+          .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+      //Assert
+      assertEquals(HttpStatus.OK, login.getStatusCode());
+      readsReleased.countDown();
+      for (Future<ResponseEntity<String>> read : reads) {
+        assertEquals(HttpStatus.OK, read.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getStatusCode());
+      }
+    } finally {
+      readsReleased.countDown();
+      clients.shutdownNow();
+    }
+  }
+
+  private ResponseEntity<String> login() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    return restTemplate.postForEntity(url("/login"), new HttpEntity<>(CREDENTIALS, headers),
+        String.class);
+  }
+
+  private String url(String path) {
+    return "http://localhost:" + port + path;
+  }
+}
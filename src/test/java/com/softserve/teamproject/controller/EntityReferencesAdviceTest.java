@@ -0,0 +1,127 @@
+package com.softserve.teamproject.controller;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.User;
+import com.softserve.teamproject.entity.deserializer.GroupDeserializer;
+import com.softserve.teamproject.service.TestSchedule;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class EntityReferencesAdviceTest {
+
+  private final String COORDINATOR = "DmytroPetin";
+  @Autowired
+  private MockMvc mvc;
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void readGroup_unknownLocationAndTeacher_nullLocationAndKnownTeachersExpected()
+      throws Exception {
+    //Arrange
+    final String TESTED_URL = "/references/group";
+    final String BODY = "{\"name\":\"DP-200\",\"location\":{\"id\":999},"
+        + "\"teachers\":[{\"id\":1},{\"id\":999},{\"id\":2}]}";
+
+    //Act&Assert
+    mvc.perform(post(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(BODY))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.location", nullValue()))
+        .andExpect(jsonPath("$.teachers", containsInAnyOrder("OlegShvets", "NogroupsUser")));
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void readGroupName_knownGroup_setterGetsFoundGroup() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/references/groupname";
+    final String BODY = "{\"group\":{\"id\":1}}";
+
+    //Act&Assert
+    mvc.perform(post(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(BODY))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.name", is("DP-115")));
+  }
+
+  @TestConfiguration
+  static class ReferencesConfig {
+
+    @Bean
+    ReferencesController referencesController() {
+      return new ReferencesController();
+    }
+  }
+
+  /**
+   * Shows what the bodies are read as. It isn't a component, so only this test maps it.
+   */
+  @RequestMapping("/references")
+  @ResponseBody
+  static class ReferencesController {
+
+    @PostMapping("/group")
+    public Map<String, Object> readGroup(@RequestBody Group group) {
+      Map<String, Object> read = new HashMap<>();
+      read.put("location", group.getLocation());
+      read.put("teachers", group.getTeachers().stream().map(User::getNickName)
+          .collect(Collectors.toList()));
+      return read;
+    }
+
+    @PostMapping("/groupname")
+    public GroupName readGroupName(@RequestBody GroupName groupName) {
+      return groupName;
+    }
+  }
+
+  /**
+   * Keeps the name of the group the setter gets.
+   */
+  static class GroupName {
+
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    @JsonDeserialize(using = GroupDeserializer.class)
+    public void setGroup(Group group) {
+      name = group == null ? null : group.getName();
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package com.softserve.teamproject.controller;
 
+import static com.softserve.teamproject.AsyncMockMvc.performAsync;
 import static org.hamcrest.Matchers.any;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
+import static org.hamcrest.Matchers.isOneOf;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -49,6 +54,62 @@ public class GroupControllerIntegrationTest {
   @Autowired
   private GroupRepository groupRepository;
 
+  @TestGroup
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getGroupsPage_sizeTwo_firstPageWithNextLinkReturned() throws Exception {
+    //Arrange
+    final String[] EXPECTED_GROUP_NAMES = {"DP-115", "DP-116"};
+    final int TOTAL_ELEMENTS = 3;
+    final String TESTED_URL = "/groups";
+
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL)
+        .param("page", "0")
+        .param("size", "2")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].name", contains(EXPECTED_GROUP_NAMES)))
+        .andExpect(jsonPath("$.page.totalElements", is(TOTAL_ELEMENTS)))
+        .andExpect(jsonPath("$.links[?(@.rel == 'next')]", hasSize(1)));
+  }
+
+  @TestGroup
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getGroupsAfter_locationSpecified_followingGroupsOfLocationReturned()
+      throws Exception {
+    //Arrange
+    final String[] EXPECTED_GROUP_NAMES = {"DP-116", "DP-1115"};
+    final String TESTED_URL = "/groups";
+
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL)
+        .param("after", "1")
+        .param("locations", "1")
+        .param("size", "2")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].name", contains(EXPECTED_GROUP_NAMES)))
+        .andExpect(jsonPath("$.links[?(@.rel == 'next')].href",
+            contains(containsString("after=4"))));
+  }
+
+  @TestGroup
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getGroupsAfter_sizeExceedsLimit_badRequestStatus() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/groups";
+
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL)
+        .param("after", "0")
+        .param("size", "1000")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+  }
+
   @TestGroup
   @WithUserDetails(COORDINATOR)
   @Test
@@ -63,7 +124,7 @@ public class GroupControllerIntegrationTest {
     final String[] EXPECTED_GROUP_NAMES = {"DP-115", "DP-116", "DP-1115", "SO-115"};
 
     //Act && Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().isOk())
@@ -71,6 +132,29 @@ public class GroupControllerIntegrationTest {
         .andExpect(jsonPath("$[*].name", containsInAnyOrder(EXPECTED_GROUP_NAMES)));
   }
 
+  @TestGroup
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getGroupsByFilter_compactView_groupsWithoutLinksReturned() throws Exception {
+    //Arrange
+    final int EXPECTED_SIZE = 4;
+    GroupsFilter filter = new GroupsFilter();
+    filter.setLocations(new Integer[]{1, 2});
+    final String TESTED_URL = "/groups/filter";
+    final String[] EXPECTED_GROUP_NAMES = {"DP-115", "DP-116", "DP-1115", "SO-115"};
+
+    //Act && Assert
+    performAsync(mvc, post(TESTED_URL)
+        .param("view", "compact")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(filter)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
+        .andExpect(jsonPath("$[*].name", containsInAnyOrder(EXPECTED_GROUP_NAMES)))
+        .andExpect(jsonPath("$[*].locationId", everyItem(isOneOf(1, 2))))
+        .andExpect(jsonPath("$[0].links").doesNotExist());
+  }
+
   @TestGroup
   @WithUserDetails(COORDINATOR)
   @Test
@@ -85,7 +169,7 @@ public class GroupControllerIntegrationTest {
     final String[] EXPECTED_GROUP_NAMES = {"DP-115", "DP-116", "DP-1115", "SO-115"};
 
     //Act && Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().isOk())
@@ -105,7 +189,7 @@ public class GroupControllerIntegrationTest {
     final int EXPECTED_HTTP_STATUS = 401;
 
     //Act && Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
@@ -124,7 +208,7 @@ public class GroupControllerIntegrationTest {
     final int EXPECTED_HTTP_STATUS = 403;
 
     //Act && Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
@@ -140,7 +224,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/{id}";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL, GROUP_ID)
+    performAsync(mvc, get(TESTED_URL, GROUP_ID)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.name", is(EXPECTED_GROUP_NAME)))
@@ -156,7 +240,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/{id}";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL, GROUP_ID)
+    performAsync(mvc, get(TESTED_URL, GROUP_ID)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().string(is(isEmptyOrNullString())))
@@ -172,7 +256,7 @@ public class GroupControllerIntegrationTest {
     final int EXPECTED_HTTP_STATUS = 401;
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL, GROUP_ID)
+    performAsync(mvc, get(TESTED_URL, GROUP_ID)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -187,7 +271,7 @@ public class GroupControllerIntegrationTest {
     final int EXPECTED_HTTP_STATUS = 403;
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL, GROUP_ID)
+    performAsync(mvc, get(TESTED_URL, GROUP_ID)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -578,7 +662,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/my";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)))
@@ -595,7 +679,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/my";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)));
@@ -609,7 +693,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/my";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -623,7 +707,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/my";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -639,7 +723,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/mylocation";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)))
@@ -656,7 +740,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/mylocation";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)));
@@ -670,7 +754,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/mylocation";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -685,7 +769,7 @@ public class GroupControllerIntegrationTest {
     final String TESTED_URL = "/groups/mylocation";
 
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().is(EXPECTED_HTTP_STATUS));
   }
@@ -1,17 +1,25 @@
 package com.softserve.teamproject.controller;
 
+import static com.softserve.teamproject.AsyncMockMvc.performAsync;
 import static com.softserve.teamproject.StringContainsOneOf.containsOneOfStrings;
 import static com.softserve.teamproject.TestData.getEvent;
 import static com.softserve.teamproject.TestData.getKeyDateDto;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -19,7 +27,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softserve.teamproject.dto.EventsFilter;
 import com.softserve.teamproject.dto.KeyDateDto;
 import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.RecurringEvent;
 import com.softserve.teamproject.repository.EventRepository;
+import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.KeyDateWindowRepository;
+import com.softserve.teamproject.repository.RecurringEventRepository;
+import com.softserve.teamproject.service.GroupService;
 import com.softserve.teamproject.service.TestSchedule;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,6 +50,7 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -53,6 +68,14 @@ public class ScheduleControllerIntegrationTest {
   private MockMvc mvc;
   @Autowired
   private EventRepository eventRepository;
+  @Autowired
+  private GroupRepository groupRepository;
+  @Autowired
+  private RecurringEventRepository recurringEventRepository;
+  @Autowired
+  private KeyDateWindowRepository keyDateWindowRepository;
+  @Autowired
+  private GroupService groupService;
 
 
   @WithUserDetails(COORDINATOR)
@@ -64,9 +87,11 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events";
 
     //Act&&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)));
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
+        .andExpect(jsonPath("$[0].links").exists());
 
   }
 
@@ -84,9 +109,10 @@ public class ScheduleControllerIntegrationTest {
         .format("/events?groupid=%d&start=%s&end=%s", GROUP_ID, start, end);
 
     //Act&&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)));
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
+        .andExpect(jsonPath("$[0].start", is("2017-07-05 18:00")));
 
   }
 
@@ -107,7 +133,7 @@ public class ScheduleControllerIntegrationTest {
     List<String> EXPECTED_GROUPS = Arrays.asList("groups/2", "groups/3");
 
     //Act&&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(eventsFilter)))
         .andExpect(status().isOk())
@@ -116,6 +142,30 @@ public class ScheduleControllerIntegrationTest {
             (jsonPath("$[*].links[2].href", everyItem(containsOneOfStrings(EXPECTED_GROUPS))));
   }
 
+  @WithUserDetails(COORDINATOR)
+  @TestSchedule
+  @Test
+  public void getEventsByFilter_compactView_eventsWithoutLinksExpected() throws Exception {
+    //Arrange
+    final int EXPECTED_SIZE = 3;
+    EventsFilter eventsFilter = new EventsFilter();
+    eventsFilter.setGroups(Arrays.asList(2, 3));
+    eventsFilter.setStartDate(LocalDate.parse("2017-07-05"));
+    eventsFilter.setEndDate(LocalDate.parse("2017-07-24"));
+    final String TESTED_URL = "/events/filter";
+
+    //Act&&Assert
+    performAsync(mvc, post(TESTED_URL)
+        .param("view", "compact")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(eventsFilter)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
+        .andExpect(jsonPath("$[*].groupId", everyItem(isOneOf(2, 3))))
+        .andExpect(jsonPath("$[0].eventTypeId").exists())
+        .andExpect(jsonPath("$[0].links").doesNotExist());
+  }
+
   @WithUserDetails(COORDINATOR)
   @TestSchedule
   @Test
@@ -131,7 +181,7 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/filter";
 
     //Act&&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(eventsFilter)))
         .andExpect(status().is(400));
@@ -153,7 +203,7 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/filter";
 
     //Act&&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(eventsFilter)))
         .andExpect(status().isOk())
@@ -172,7 +222,7 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/filter";
 
     //Act&&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(eventsFilter)))
         .andExpect(status().is(400));
@@ -190,7 +240,7 @@ public class ScheduleControllerIntegrationTest {
         asList("eventTypes/1", "eventTypes/2", "eventTypes/3", "eventTypes/4");
 
     //Act&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
         .andExpect(
@@ -210,7 +260,7 @@ public class ScheduleControllerIntegrationTest {
         asList("eventTypes/1", "eventTypes/2", "eventTypes/3", "eventTypes/4");
 
     //Act&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)))
         .andExpect(jsonPath("$[*].links[2].href", everyItem(containsString("groups/2"))))
@@ -232,7 +282,7 @@ public class ScheduleControllerIntegrationTest {
     List<String> groups = Arrays.asList("groups/2", "groups/3");
 
     //Act&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().isOk())
@@ -252,7 +302,7 @@ public class ScheduleControllerIntegrationTest {
     filter.setGroups(null);
 
     //Act&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(filter)))
         .andExpect(status().isOk())
@@ -267,13 +317,59 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/demo/filter";
 
     //Act&Assert
-    mvc.perform(post(TESTED_URL)
+    performAsync(mvc, post(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON)
         .content(new ObjectMapper().writeValueAsString(null)))
         .andExpect(status().is(400));
   }
 
 
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getEventsCalendar_groupSpecified_calendarReturned() throws Exception {
+    //Arrange
+    final int GROUP_ID = 2;
+    final String TESTED_URL = String.format("/events/ical?groupid=%d", GROUP_ID);
+
+    //Act
+    MvcResult result = mvc.perform(get(TESTED_URL))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", containsString("5-")))
+        .andExpect(content().string(containsString("BEGIN:VCALENDAR\r\n")))
+        .andReturn();
+
+    //Assert
+    String calendar = result.getResponse().getContentAsString();
+    assertEquals(5, calendar.split("BEGIN:VEVENT").length - 1);
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getEventsCalendar_notModified_notModifiedExpected() throws Exception {
+    //Arrange
+    final int GROUP_ID = 2;
+    final String TESTED_URL = String.format("/events/ical?groupid=%d", GROUP_ID);
+    String eTag = mvc.perform(get(TESTED_URL)).andReturn().getResponse().getHeader("ETag");
+
+    //Act&Assert
+    mvc.perform(get(TESTED_URL).header("If-None-Match", eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getEventsCalendar_groupAndLocationSpecified_badRequestExpected() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/events/ical?groupid=2&locationid=1";
+
+    //Act&Assert
+    mvc.perform(get(TESTED_URL))
+        .andExpect(status().is(400));
+  }
+
   @TestSchedule
   @WithUserDetails(COORDINATOR)
   @Test
@@ -283,7 +379,7 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/1";
 
     //Act&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.eventId", is(EXPECTED_ID)));
   }
@@ -296,7 +392,7 @@ public class ScheduleControllerIntegrationTest {
     final String TESTED_URL = "/events/abrakadabra";
 
     //Act&Assert
-    mvc.perform(get(TESTED_URL))
+    performAsync(mvc, get(TESTED_URL))
         .andExpect(status().is(400));
   }
 
@@ -354,6 +450,32 @@ public class ScheduleControllerIntegrationTest {
   }
 
 
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void addKeyDates_groupStartDateChanged_dateOfNewWindowAccepted() throws Exception {
+    //Arrange
+    final int GROUP_ID = 5;
+    final int EVENT_TYPE = 1;
+    LocalDate date = LocalDate.parse("2017-05-23");
+    final int EXPECTED_SIZE = 1;
+    final String TESTED_URL = "/events/demo";
+    Group group = groupRepository.findOne(GROUP_ID);
+    groupService.updateGroup(group, group.getStatus(), COORDINATOR);
+    group.setStartDate(group.getStartDate().plusWeeks(1));
+    groupService.updateGroup(group, group.getStatus(), COORDINATOR);
+    List<KeyDateDto> dtoList = new ArrayList<>();
+    dtoList.add(getKeyDateDto(GROUP_ID, EVENT_TYPE, date));
+
+    //Act&Assert
+    mvc.perform(post(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(dtoList)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeed", hasSize(EXPECTED_SIZE)));
+    assertFalse(keyDateWindowRepository.findByGroupId(GROUP_ID).isEmpty());
+  }
+
   @TestSchedule
   @WithUserDetails(COORDINATOR)
   @Test
@@ -547,6 +669,31 @@ public class ScheduleControllerIntegrationTest {
         .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)));
        }
 
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void addSchedule_overlappingEventsInBatch_secondEventInvalid() throws Exception {
+    //Arrange
+    final int GROUP_ID = 5;
+    final int EVENT_TYPE = 5;
+    final int ROOM_ID = 1;
+    LocalDate date = LocalDate.now().plusYears(1);
+    final int EXPECTED_SIZE_SUCCEED = 1;
+    final int EXPECTED_SIZE_INVALID = 1;
+    final String TESTED_URL = String.format("/events?groupid=%d", GROUP_ID);
+    List<Event> events = new ArrayList<>();
+    events.add(getEvent(GROUP_ID, ROOM_ID, EVENT_TYPE, date.atTime(10, 0), date.atTime(12, 0)));
+    events.add(getEvent(GROUP_ID, ROOM_ID, EVENT_TYPE, date.atTime(11, 0), date.atTime(13, 0)));
+
+    //Act&Assert
+    mvc.perform(post(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(events)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeed", hasSize(EXPECTED_SIZE_SUCCEED)))
+        .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)));
+  }
+
   @TestSchedule
   @WithUserDetails(COORDINATOR)
   @Test
@@ -600,10 +747,86 @@ public class ScheduleControllerIntegrationTest {
         .content(new ObjectMapper().writeValueAsString(events)))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.succeed", hasSize(EXPECTED_SIZE_SUCCEED)))
-        .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)));
+        .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)))
+        .andExpect(jsonPath("$.invalid[0].message",
+            is("The event type doesn't exist or incorrect")));
   }
 
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void editSchedule_unknownEventId_invalidEventExpected() throws Exception {
+    //Arrange
+    final int GROUP_ID = 2;
+    final int EVENT_ID = 999;
+    final int EVENT_TYPE = 7;
+    final int ROOM_ID = 1;
+    LocalDateTime start = LocalDate.parse("2017-08-28").atTime(18, 0);
+    LocalDateTime end = LocalDate.parse("2017-08-28").atTime(20, 0);
+    final int EXPECTED_SIZE_SUCCEED = 0;
+    final int EXPECTED_SIZE_INVALID = 1;
+    final String TESTED_URL = "/events/";
+    List<Event> events = new ArrayList<>();
+    Event event = getEvent(GROUP_ID, ROOM_ID, EVENT_TYPE, start, end);
+    event.setId(EVENT_ID);
+    events.add(event);
 
+    //Act&Assert
+    mvc.perform(put(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(events)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeed", hasSize(EXPECTED_SIZE_SUCCEED)))
+        .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)))
+        .andExpect(jsonPath("$.invalid[0].message",
+            is("The event you are going to change doesn't exist")));
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void editSchedule_validAndInvalidEvents_validEventSavedAndInvalidReported()
+      throws Exception {
+    //Arrange
+    final int GROUP_ID = 2;
+    final int VALID_EVENT_ID = 9;
+    final int KEY_DATE_EVENT_ID = 5;
+    final int UNKNOWN_EVENT_ID = 999;
+    final int LECTURE = 7;
+    final int DEMO = 1;
+    final int ROOM_ID = 1;
+    LocalDate date = LocalDate.parse("2017-08-28");
+    final int EXPECTED_SIZE_SUCCEED = 1;
+    final int EXPECTED_SIZE_INVALID = 2;
+    final String TESTED_URL = "/events/";
+    List<Event> events = new ArrayList<>();
+    Event valid = getEvent(GROUP_ID, ROOM_ID, LECTURE, date.atTime(10, 0), date.atTime(12, 0));
+    valid.setId(VALID_EVENT_ID);
+    events.add(valid);
+    Event keyDate = getEvent(GROUP_ID, ROOM_ID, DEMO, date.atTime(13, 0), date.atTime(15, 0));
+    keyDate.setId(KEY_DATE_EVENT_ID);
+    events.add(keyDate);
+    Event unknown = getEvent(GROUP_ID, ROOM_ID, LECTURE, date.atTime(16, 0), date.atTime(18, 0));
+    unknown.setId(UNKNOWN_EVENT_ID);
+    events.add(unknown);
+
+    //Act
+    mvc.perform(put(TESTED_URL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(events)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeed", hasSize(EXPECTED_SIZE_SUCCEED)))
+        .andExpect(jsonPath("$.succeed[0].start", is("2017-08-28 10:00")))
+        .andExpect(jsonPath("$.invalid", hasSize(EXPECTED_SIZE_INVALID)))
+        .andExpect(jsonPath("$.invalid[*].message", containsInAnyOrder(
+            "The event type doesn't exist or incorrect",
+            "The event you are going to change doesn't exist")));
+
+    //Assert
+    assertEquals(date.atTime(10, 0), eventRepository.findOne(VALID_EVENT_ID).getStart());
+    assertEquals(LocalDate.parse("2017-07-05").atTime(18, 0),
+        eventRepository.findOne(KEY_DATE_EVENT_ID).getStart());
+  }
 
   @TestSchedule
   @WithUserDetails(TEACHER_WITH_GROUPS)
@@ -621,4 +844,94 @@ public class ScheduleControllerIntegrationTest {
         .andExpect(status().is(403));
   }
 
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void cancelOccurrence_coordinatorOfGroupLocation_occurrenceRemoved() throws Exception {
+    //Arrange
+    final int EXPECTED_SIZE = 0;
+    RecurringEvent recurringEvent = saveWeeklyEvent();
+    final String TESTED_URL = "/events/recurring/{id}/{date}";
+    final String EVENTS_URL = "/events?groupid=2&start=2017-07-12&end=2017-07-12";
+
+    //Act
+    mvc.perform(delete(TESTED_URL, recurringEvent.getId(), "2017-07-12"))
+        .andExpect(status().isOk());
+
+    //Assert
+    performAsync(mvc, get(EVENTS_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)));
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void cancelOccurrence_dateWithoutOccurrence_badRequestExpected() throws Exception {
+    //Arrange
+    RecurringEvent recurringEvent = saveWeeklyEvent();
+    final String TESTED_URL = "/events/recurring/{id}/{date}";
+
+    //Act&Assert
+    mvc.perform(delete(TESTED_URL, recurringEvent.getId(), "2017-07-13"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void deleteRecurringEvent_coordinatorOfGroupLocation_allOccurrencesRemoved()
+      throws Exception {
+    //Arrange
+    final int EXPECTED_SIZE = 0;
+    RecurringEvent recurringEvent = saveWeeklyEvent();
+    final String TESTED_URL = "/events/recurring/{id}";
+    final String EVENTS_URL = "/events?groupid=2&start=2017-07-10&end=2017-07-16";
+
+    //Act
+    mvc.perform(delete(TESTED_URL, recurringEvent.getId()))
+        .andExpect(status().isOk());
+
+    //Assert
+    assertNull(recurringEventRepository.findOne(recurringEvent.getId()));
+    performAsync(mvc, get(EVENTS_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(EXPECTED_SIZE)));
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR_OTHER_LOCATION)
+  @Test
+  public void deleteRecurringEvent_coordinatorOfOtherLocation_forbiddenExpected()
+      throws Exception {
+    //Arrange
+    RecurringEvent recurringEvent = saveWeeklyEvent();
+    final String TESTED_URL = "/events/recurring/{id}";
+
+    //Act&Assert
+    mvc.perform(delete(TESTED_URL, recurringEvent.getId()))
+        .andExpect(status().is(403));
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void deleteRecurringEvent_notExistingId_notFoundExpected() throws Exception {
+    //Arrange
+    final int RECURRING_EVENT_ID = 100;
+    final String TESTED_URL = "/events/recurring/{id}";
+
+    //Act&Assert
+    mvc.perform(delete(TESTED_URL, RECURRING_EVENT_ID))
+        .andExpect(status().isNotFound());
+  }
+
+  /**
+   * Repeats the event of the group 2 on 2017-07-05 every Wednesday till the middle of August.
+   */
+  private RecurringEvent saveWeeklyEvent() {
+    final int EVENT_ID = 5;
+    return recurringEventRepository.save(
+        new RecurringEvent(eventRepository.findOne(EVENT_ID), LocalDate.parse("2017-08-16")));
+  }
 }
@@ -0,0 +1,135 @@
+package com.softserve.teamproject.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import com.softserve.teamproject.service.ScheduleService;
+import com.softserve.teamproject.service.StudentService;
+import java.io.OutputStream;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Streams responses slower than the timeout of the async requests and checks that they are
+ * written to the end, while the other async reads are still cut off by that timeout.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.mvc.async.request-timeout=" + StreamTimeoutTest.REQUEST_TIMEOUT,
+    "web.async.stream-timeout=" + StreamTimeoutTest.STREAM_TIMEOUT,
+    "web.async.executor=pool"})
+@ActiveProfiles("test")
+@Sql("/test-data-schedule.sql")
+@Sql(scripts = "/test-clean-table.sql", executionPhase = AFTER_TEST_METHOD)
+public class StreamTimeoutTest {
+
+  static final long REQUEST_TIMEOUT = 500;
+  static final long STREAM_TIMEOUT = 20 * REQUEST_TIMEOUT;
+  private static final long SLOW_READ = 3 * REQUEST_TIMEOUT;
+  private static final String CREDENTIALS = "{\"username\":\"OlegShvets\",\"password\":\"ghd22df\"}";
+
+  @LocalServerPort
+  private int port;
+  @MockBean
+  private ScheduleService scheduleService;
+  @MockBean
+  private StudentService studentService;
+
+  private final RestTemplate restTemplate = new RestTemplate();
+  private HttpHeaders session;
+
+  @Before
+  public void login() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    ResponseEntity<String> login = restTemplate.postForEntity(url("/login"),
+        new HttpEntity<>(CREDENTIALS, headers), String.class);
+    session = new HttpHeaders();
+    session.set(HttpHeaders.COOKIE,
+        login.getHeaders().getFirst(HttpHeaders.SET_COOKIE).split(";")[0]);
+  }
+
+  @Test
+  public void getEvents_streamSlowerThanRequestTimeout_streamNotCutOff() throws Exception {
+    //Arrange
+    doAnswer(invocation -> {
+      OutputStream outputStream = invocation.getArgumentAt(3, OutputStream.class);
+      outputStream.write("[".getBytes());
+      outputStream.flush();
+      Thread.sleep(SLOW_READ);
+      outputStream.write("]".getBytes());
+      return null;
+    }).when(scheduleService).writeEvents(any(), any(), any(), any());
+
+    //Act
+    ResponseEntity<String> events = get("/events");
+
+    //Assert
+    assertEquals(HttpStatus.OK, events.getStatusCode());
+    assertEquals("[]", events.getBody());
+  }
+
+  @Test
+  public void getStudents_streamSlowerThanRequestTimeout_streamNotCutOff() throws Exception {
+    //Arrange
+    doAnswer(invocation -> {
+      Thread.sleep(SLOW_READ);
+      invocation.getArgumentAt(1, OutputStream.class).write("[]".getBytes());
+      return null;
+    }).when(studentService).writeStudents(any(), any());
+
+    //Act
+    ResponseEntity<String> students = get("/students");
+
+    //Assert
+    assertEquals(HttpStatus.OK, students.getStatusCode());
+    assertEquals("[]", students.getBody());
+  }
+
+  @Test
+  public void getCompactEvents_readSlowerThanRequestTimeout_requestTimedOut() {
+    //Arrange
+    when(scheduleService.getCompactEvents(any(), any(), any())).thenAnswer(invocation -> {
+      Thread.sleep(SLOW_READ);
+      return Collections.emptyList();
+    });
+
+    //Act&Assert
+    try {
+      get("/events?view=compact");
+      fail("The read slower than the request timeout must be cut off");
+    } catch (HttpStatusCodeException e) {
+      // the async request timed out
+    }
+  }
+
+  private ResponseEntity<String> get(String path) {
+    return restTemplate.exchange(url(path), HttpMethod.GET, new HttpEntity<>(session),
+        String.class);
+  }
+
+  private String url(String path) {
+    return "http://localhost:" + port + path;
+  }
+}
@@ -1,10 +1,16 @@
 package com.softserve.teamproject.controller;
 
+import static com.softserve.teamproject.AsyncMockMvc.performAsync;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -15,18 +21,23 @@ import com.softserve.teamproject.TestData;
 import com.softserve.teamproject.entity.Student;
 import com.softserve.teamproject.service.TestStudent;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.DigestUtils;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -48,7 +59,7 @@ public class StudentControllerIntegrationTest {
     //Arrange
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isForbidden());
   }
@@ -62,11 +73,12 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 6;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)))
-        .andExpect(jsonPath("$[*].firstName", containsInAnyOrder(EXPECTED_STUDENT_NAMES)));
+        .andExpect(jsonPath("$[*].firstName", containsInAnyOrder(EXPECTED_STUDENT_NAMES)))
+        .andExpect(jsonPath("$[0].links").exists());
   }
 
   @TestStudent
@@ -78,7 +90,7 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 6;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)))
@@ -94,7 +106,7 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 6;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)))
@@ -111,7 +123,7 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 3;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .param("groupid", GROUP_REQUEST_PARAM)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
@@ -128,7 +140,7 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 0;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .param("groupid", GROUP_REQUEST_PARAM)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
@@ -145,13 +157,56 @@ public class StudentControllerIntegrationTest {
     final int RESULT_SET_SIZE = 0;
     final String TESTED_URL = "/students";
     //Act && Assert
-    mvc.perform(get(TESTED_URL)
+    performAsync(mvc, get(TESTED_URL)
         .param("groupid", GROUP_REQUEST_PARAM)
         .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", hasSize(RESULT_SET_SIZE)));
   }
 
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentsPage_byGroupId_firstPageWithNextLinkReturned() throws Exception {
+    //Arrange
+    final String[] EXPECTED_STUDENT_NAMES = {"Roy", "Motoko"};
+    final String GROUP_REQUEST_PARAM = "3";
+    final int PAGE_SIZE = 2;
+    final int TOTAL_ELEMENTS = 3;
+    final String TESTED_URL = "/students";
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL)
+        .param("groupid", GROUP_REQUEST_PARAM)
+        .param("page", "0")
+        .param("size", String.valueOf(PAGE_SIZE))
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].firstName", contains(EXPECTED_STUDENT_NAMES)))
+        .andExpect(jsonPath("$.page.totalElements", is(TOTAL_ELEMENTS)))
+        .andExpect(jsonPath("$.links[?(@.rel == 'next')]", hasSize(1)));
+  }
+
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentsAfter_lastPageOfGroup_studentsWithoutNextLinkReturned()
+      throws Exception {
+    //Arrange
+    final String[] EXPECTED_STUDENT_NAMES = {"Motoko", "Ace"};
+    final String GROUP_REQUEST_PARAM = "3";
+    final String AFTER_STUDENT_ID = "4";
+    final String TESTED_URL = "/students";
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL)
+        .param("groupid", GROUP_REQUEST_PARAM)
+        .param("after", AFTER_STUDENT_ID)
+        .param("size", "5")
+        .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].firstName", contains(EXPECTED_STUDENT_NAMES)))
+        .andExpect(jsonPath("$.links[?(@.rel == 'next')]", hasSize(0)));
+  }
+
   @TestStudent
   @WithUserDetails(COORDINATOR)
   @Test
@@ -408,4 +463,96 @@ public class StudentControllerIntegrationTest {
         .andExpect(status().isForbidden());
   }
 
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentImage_imageUploaded_imageWithETagReturned() throws Exception {
+    //Arrange
+    final Integer STUDENT_ID = 1;
+    final byte[] IMAGE = {1, 2, 3, 4, 5, 6, 7, 8};
+    final String EXPECTED_ETAG = "\"" + DigestUtils.md5DigestAsHex(IMAGE) + "\"";
+    uploadImage(STUDENT_ID, IMAGE)
+        .andExpect(jsonPath("$.image").doesNotExist())
+        .andExpect(jsonPath("$.links[?(@.rel == 'image')].href",
+            hasItem(endsWith("/students/" + STUDENT_ID + "/image"))));
+    final String TESTED_URL = "/students/{id}/image";
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL, STUDENT_ID))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, EXPECTED_ETAG))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, IMAGE.length))
+        .andExpect(content().bytes(IMAGE));
+  }
+
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentImage_sameETag_notModifiedExpected() throws Exception {
+    //Arrange
+    final Integer STUDENT_ID = 1;
+    final byte[] IMAGE = {1, 2, 3, 4, 5, 6, 7, 8};
+    final String ETAG = "\"" + DigestUtils.md5DigestAsHex(IMAGE) + "\"";
+    uploadImage(STUDENT_ID, IMAGE);
+    final String TESTED_URL = "/students/{id}/image";
+    //Act && Assert
+    mvc.perform(get(TESTED_URL, STUDENT_ID)
+        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified());
+  }
+
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentImage_rangeRequested_partialContentExpected() throws Exception {
+    //Arrange
+    final Integer STUDENT_ID = 1;
+    final byte[] IMAGE = {1, 2, 3, 4, 5, 6, 7, 8};
+    final byte[] EXPECTED_CONTENT = {3, 4, 5};
+    uploadImage(STUDENT_ID, IMAGE);
+    final String TESTED_URL = "/students/{id}/image";
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL, STUDENT_ID)
+        .header(HttpHeaders.RANGE, "bytes=2-4"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/8"))
+        .andExpect(content().bytes(EXPECTED_CONTENT));
+  }
+
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentImage_rangeOutOfImage_rangeNotSatisfiableExpected() throws Exception {
+    //Arrange
+    final Integer STUDENT_ID = 1;
+    final byte[] IMAGE = {1, 2, 3, 4, 5, 6, 7, 8};
+    uploadImage(STUDENT_ID, IMAGE);
+    final String TESTED_URL = "/students/{id}/image";
+    //Act && Assert
+    performAsync(mvc, get(TESTED_URL, STUDENT_ID)
+        .header(HttpHeaders.RANGE, "bytes=8-10"))
+        .andExpect(status().isRequestedRangeNotSatisfiable())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */8"));
+  }
+
+  @TestStudent
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void getStudentCv_studentWithoutCv_notFoundExpected() throws Exception {
+    //Arrange
+    final Integer STUDENT_ID = 1;
+    final String TESTED_URL = "/students/{id}/cv";
+    //Act && Assert
+    mvc.perform(get(TESTED_URL, STUDENT_ID))
+        .andExpect(status().isNotFound());
+  }
+
+  private ResultActions uploadImage(Integer studentId, byte[] image) throws Exception {
+    Map<String, Object> student = new HashMap<>();
+    student.put("image", image);
+    student.put("imageName", "photo.png");
+    return mvc.perform(put("/students/{id}", studentId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(new ObjectMapper().writeValueAsString(student)))
+        .andExpect(status().isOk());
+  }
 }
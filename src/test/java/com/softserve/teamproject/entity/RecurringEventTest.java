@@ -0,0 +1,67 @@
+package com.softserve.teamproject.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecurringEventTest {
+
+  private static final LocalDateTime FIRST_START = LocalDateTime.of(2017, 9, 7, 18, 30);
+
+  private Room room;
+  private RecurringEvent recurringEvent;
+
+  @Before
+  public void setup() {
+    room = new Room();
+    room.setId(1);
+    recurringEvent = new RecurringEvent(new Event(null, FIRST_START, FIRST_START.plusHours(2),
+        room, new Group(), new EventType()), LocalDate.of(2017, 12, 31));
+    recurringEvent.setIntervalWeeks(2);
+  }
+
+  @Test
+  public void getOccurrences_periodAfterFirstOccurrence_occurrencesOfPeriodWithoutExceptions() {
+    //Arrange
+    recurringEvent.addException(LocalDate.of(2017, 10, 19));
+
+    //Act
+    List<LocalDateTime> starts = recurringEvent.getOccurrences(
+        LocalDate.of(2017, 10, 1).atStartOfDay(), LocalDate.of(2017, 11, 15).atStartOfDay())
+        .stream().map(Event::getStart).collect(Collectors.toList());
+
+    //Assert
+    assertEquals(2, starts.size());
+    assertEquals(LocalDateTime.of(2017, 10, 5, 18, 30), starts.get(0));
+    assertEquals(LocalDateTime.of(2017, 11, 2, 18, 30), starts.get(1));
+  }
+
+  @Test
+  public void getOccurrences_periodAfterUntilDate_noOccurrences() {
+    //Act && Assert
+    assertTrue(recurringEvent.getOccurrences(LocalDate.of(2018, 1, 1).atStartOfDay(),
+        LocalDate.of(2018, 2, 1).atStartOfDay()).isEmpty());
+  }
+
+  @Test
+  public void isCrossing_eventInRoomOnOccurrenceOrOtherWeek_crossingOnlyOnOccurrence() {
+    //Arrange
+    LocalDateTime occurrence = FIRST_START.plusWeeks(4);
+    LocalDateTime skippedWeek = FIRST_START.plusWeeks(1);
+
+    //Act && Assert
+    assertTrue(recurringEvent.isCrossing(new Event(null, occurrence.plusHours(1),
+        occurrence.plusHours(3), room, null, null)));
+    assertFalse(recurringEvent.isCrossing(new Event(null, occurrence.plusHours(2),
+        occurrence.plusHours(3), room, null, null)));
+    assertFalse(recurringEvent.isCrossing(new Event(null, skippedWeek,
+        skippedWeek.plusHours(1), room, null, null)));
+  }
+}
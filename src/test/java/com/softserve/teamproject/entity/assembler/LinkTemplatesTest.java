@@ -0,0 +1,61 @@
+package com.softserve.teamproject.entity.assembler;
+
+import static org.junit.Assert.assertEquals;
+
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Student;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class LinkTemplatesTest {
+
+  @Autowired
+  private LinkTemplates linkTemplates;
+  @Autowired
+  private RepositoryEntityLinks repositoryEntityLinks;
+
+  @Before
+  public void bindRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setServerName("example.com");
+    request.setServerPort(8443);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @After
+  public void unbindRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void linkToSingleResource_severalIds_sameAsRepositoryEntityLinks() {
+    for (int id = 1; id < 12; id++) {
+      //Act && Assert
+      assertEquals(repositoryEntityLinks.linkToSingleResource(Event.class, id),
+          linkTemplates.linkToSingleResource(Event.class, id));
+      assertEquals(repositoryEntityLinks.linkToSingleResource(Group.class, id),
+          linkTemplates.linkToSingleResource(Group.class, id));
+    }
+  }
+
+  @Test
+  public void linkToRelation_studentImage_sameAsRepositoryEntityLinks() {
+    //Act && Assert
+    assertEquals(repositoryEntityLinks.linkForSingleResource(Student.class, 10).slash("image")
+        .withRel("image"), linkTemplates.linkToRelation(Student.class, 10, "image"));
+  }
+}
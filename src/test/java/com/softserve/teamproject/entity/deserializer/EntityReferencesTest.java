@@ -0,0 +1,140 @@
+package com.softserve.teamproject.entity.deserializer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.teamproject.dto.EventsFilter;
+import com.softserve.teamproject.dto.KeyDateDto;
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.service.TestSchedule;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EntityReferencesTest {
+
+  private static final String EVENT = "{\"start\":\"2017-07-%02d 10:00\","
+      + "\"end\":\"2017-07-%02d 12:00\",\"group\":{\"id\":1},\"room\":{\"id\":%d},"
+      + "\"eventType\":{\"id\":%d}}";
+
+  @Autowired
+  private EntityReferences entityReferences;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @After
+  public void unbindRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @TestSchedule
+  @Test
+  public void findReferences_eventsWithReferences_referencesFoundBeforeReading()
+      throws Exception {
+    //Arrange
+    StringBuilder json = new StringBuilder("[");
+    for (int day = 1; day <= 20; day++) {
+      json.append(day == 1 ? "" : ",")
+          .append(String.format(EVENT, day, day, day % 2 + 1, day % 5 + 1));
+    }
+    json.append("]");
+    TypeReference<List<Event>> type = new TypeReference<List<Event>>() {
+    };
+    entityManager.clear();
+
+    //Act
+    long statementsBefore = statistics.getPrepareStatementCount();
+    entityReferences.findReferences(json.toString().getBytes(), type.getType());
+    long findingStatements = statistics.getPrepareStatementCount() - statementsBefore;
+    List<Event> events = objectMapper.readValue(json.toString(), type);
+    long readingStatements = statistics.getPrepareStatementCount() - statementsBefore
+        - findingStatements;
+
+    //Assert
+    assertEquals(3, findingStatements);
+    assertEquals(0, readingStatements);
+    assertEquals(20, events.size());
+    for (Event event : events) {
+      assertSame(events.get(0).getGroup(), event.getGroup());
+      assertTrue(entityManager.contains(event.getRoom()));
+      assertTrue(entityManager.contains(event.getEventType()));
+    }
+    assertEquals(1, events.get(0).getGroup().getId().intValue());
+    assertTrue(entityManager.contains(events.get(0).getGroup()));
+  }
+
+  @TestSchedule
+  @Test
+  public void getReference_referencesNotFound_entityFoundAtOnce() throws Exception {
+    //Arrange
+    final String JSON = String.format(EVENT, 1, 1, 1, 1);
+
+    //Act
+    Event event = objectMapper.readValue(JSON, Event.class);
+
+    //Assert
+    assertEquals(1, event.getRoom().getId().intValue());
+    assertTrue(entityManager.contains(event.getRoom()));
+  }
+
+  @Test
+  public void hasReferences_typesReadWithReferenceDeserializers_trueExpected() {
+    //Arrange
+    TypeReference<List<Event>> events = new TypeReference<List<Event>>() {
+    };
+
+    //Act&Assert
+    assertTrue(entityReferences.hasReferences(Event.class));
+    assertTrue(entityReferences.hasReferences(events.getType()));
+    assertTrue(entityReferences.hasReferences(Group.class));
+    assertTrue(entityReferences.hasReferences(KeyDateDto[].class));
+  }
+
+  @Test
+  public void hasReferences_typesWithoutReferences_falseExpected() {
+    //Arrange
+    TypeReference<Map<String, Object>> map = new TypeReference<Map<String, Object>>() {
+    };
+
+    //Act&Assert
+    assertFalse(entityReferences.hasReferences(EventsFilter.class));
+    assertFalse(entityReferences.hasReferences(map.getType()));
+    assertFalse(entityReferences.hasReferences(String.class));
+  }
+}
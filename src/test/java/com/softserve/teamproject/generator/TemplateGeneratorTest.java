@@ -0,0 +1,112 @@
+package com.softserve.teamproject.generator;
+
+import static org.junit.Assert.assertEquals;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Status;
+import com.softserve.teamproject.entity.StatusTemplate;
+import com.softserve.teamproject.entity.Strategy;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TemplateGeneratorTest {
+
+  private static final LocalDate START = LocalDate.of(2017, 9, 4);
+  private static final LocalDate FINISH = LocalDate.of(2018, 2, 28);
+
+  private StatusGenerator generator;
+  private Strategy strategy;
+  private Group group;
+
+  @Before
+  public void init() {
+    generator = new StatusGenerator();
+    strategy = new Strategy();
+    strategy.setId(1);
+    group = new Group();
+    group.setStartDate(START);
+    group.setFinishDate(FINISH);
+  }
+
+  @Test
+  public void generateKeyEventTemplates_templatesLinkedToFirstAndLast_datesGenerated() {
+    //Arrange
+    List<StatusTemplate> templates = Arrays.asList(
+        getTemplate(3, 5, -28, 6), getTemplate(1, 4, 7, 4), getTemplate(4, 6, 0, 6),
+        getTemplate(2, 2, -28, 4));
+
+    //Act
+    Map<Status, LocalDate> dates = generator.generateKeyEventTemplates(templates, group);
+
+    //Assert
+    assertEquals(4, dates.size());
+    assertEquals(START.plusDays(7), dates.get(getStatus(4)));
+    assertEquals(START.minusDays(21), dates.get(getStatus(2)));
+    assertEquals(FINISH.minusDays(28), dates.get(getStatus(5)));
+    assertEquals(FINISH, dates.get(getStatus(6)));
+  }
+
+  @Test
+  public void generateKeyEventTemplates_strategyVersionChanged_templatesResolvedAgain() {
+    //Arrange
+    List<StatusTemplate> templates = Arrays.asList(getTemplate(1, 4, 0, 4),
+        getTemplate(2, 6, 0, 6));
+    generator.generateKeyEventTemplates(templates, group);
+    templates.get(0).setDuration(14);
+    strategy.setVersion(1);
+
+    //Act
+    Map<Status, LocalDate> dates = generator.generateKeyEventTemplates(templates, group);
+
+    //Assert
+    assertEquals(START.plusDays(14), dates.get(getStatus(4)));
+  }
+
+  @Test
+  public void generateKeyEventTemplates_strategyEvicted_templatesResolvedAgain() {
+    //Arrange
+    List<StatusTemplate> templates = Arrays.asList(getTemplate(1, 4, 0, 4),
+        getTemplate(2, 6, 0, 6));
+    generator.generateKeyEventTemplates(templates, group);
+    templates.get(0).setDuration(14);
+
+    //Act
+    generator.evict(strategy.getId());
+    Map<Status, LocalDate> dates = generator.generateKeyEventTemplates(templates, group);
+
+    //Assert
+    assertEquals(START.plusDays(14), dates.get(getStatus(4)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void generateKeyEventTemplates_templateLinkedToUnknownRel_exceptionThrown() {
+    //Arrange
+    List<StatusTemplate> templates = Arrays.asList(getTemplate(1, 4, 0, 4),
+        getTemplate(2, 5, 7, 5), getTemplate(3, 6, 0, 6));
+
+    //Act
+    generator.generateKeyEventTemplates(templates, group);
+  }
+
+  private StatusTemplate getTemplate(int order, int statusId, int duration, int rel) {
+    StatusTemplate template = new StatusTemplate();
+    template.setId(order);
+    template.setOrder(order);
+    template.setStatus(getStatus(statusId));
+    template.setDuration(duration);
+    template.setRel(rel);
+    template.setStrategy(strategy);
+    return template;
+  }
+
+  private static Status getStatus(int id) {
+    Status status = new Status();
+    status.setId(id);
+    status.setName("status " + id);
+    return status;
+  }
+}
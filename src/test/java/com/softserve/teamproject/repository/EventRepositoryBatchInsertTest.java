@@ -0,0 +1,136 @@
+package com.softserve.teamproject.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
+import com.softserve.teamproject.entity.Event;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.Room;
+import com.softserve.teamproject.service.ScheduleService;
+import com.softserve.teamproject.service.TestSchedule;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Compares the number of statements sent to the database for a 500-event paste. Saving every
+ * occurrence as an event sends a statement per row, the paste stores one recurring event per
+ * copied event. The statements are counted by the Hibernate statistics of the test profile.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventRepositoryBatchInsertTest {
+
+  private static final int EVENTS_COUNT = 500;
+  private static final int GROUP_ID = 5;
+  private static final int ROOM_ID = 2;
+  private static final int EVENT_TYPE_ID = 5;
+  private static final int PASTED_WEEKS = 50;
+  private static final int COPIED_EVENTS_COUNT = EVENTS_COUNT / PASTED_WEEKS;
+  private static final String TEACHER = "OlegShvets";
+
+  @Autowired
+  private EventRepository eventRepository;
+  @Autowired
+  private GroupRepository groupRepository;
+  @Autowired
+  private RoomRepository roomRepository;
+  @Autowired
+  private EventTypeRepository eventTypeRepository;
+  @Autowired
+  private RecurringEventRepository recurringEventRepository;
+  @Autowired
+  private ScheduleService scheduleService;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @TestSchedule
+  @Test
+  public void save_500Events_statementPerEventExpected() {
+    //Arrange
+    List<Event> events = getEvents();
+    long eventsBefore = eventRepository.count();
+    long statementsBefore = statistics.getPrepareStatementCount();
+
+    //Act
+    eventRepository.save(events);
+    eventRepository.flush();
+
+    //Assert
+    long statements = statistics.getPrepareStatementCount() - statementsBefore;
+    assertTrue(statements >= EVENTS_COUNT);
+    assertEquals(eventsBefore + EVENTS_COUNT, eventRepository.count());
+  }
+
+  @TestSchedule
+  @WithUserDetails(TEACHER)
+  @Test
+  public void copyPasteSchedule_500Occurrences_statementPerCopiedEventExpected() {
+    //Arrange
+    LocalDate today = LocalDate.now();
+    LocalDate pasteFillDate = today.plusWeeks(PASTED_WEEKS).minusDays(1);
+    LocalDate copyWeekDate = today.plusWeeks(PASTED_WEEKS + 10);
+    Group group = groupRepository.findOne(GROUP_ID);
+    Room room = roomRepository.findOne(ROOM_ID);
+    EventType eventType = eventTypeRepository.findOne(EVENT_TYPE_ID);
+    LocalDate monday = copyWeekDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    for (int i = 0; i < COPIED_EVENTS_COUNT; i++) {
+      LocalDateTime start = monday.plusDays(i % 5).atTime(10 + 3 * (i / 5), 0);
+      eventRepository.save(new Event(null, start, start.plusHours(2), room, group, eventType));
+    }
+    eventRepository.flush();
+    CopyPasteScheduleWrapper wrapper = new CopyPasteScheduleWrapper();
+    wrapper.setGroup(group);
+    wrapper.setCopyWeekDate(copyWeekDate);
+    wrapper.setPasteFillDate(pasteFillDate);
+    long statementsBefore = statistics.getPrepareStatementCount();
+
+    //Act
+    scheduleService.copyPasteSchedule(wrapper);
+    recurringEventRepository.flush();
+
+    //Assert
+    long statements = statistics.getPrepareStatementCount() - statementsBefore;
+    assertTrue(statements >= COPIED_EVENTS_COUNT);
+    assertTrue(statements < EVENTS_COUNT / 10);
+    assertEquals(EVENTS_COUNT,
+        scheduleService.getEventsByGroupId(GROUP_ID, today, pasteFillDate).size());
+  }
+
+  private List<Event> getEvents() {
+    Group group = groupRepository.findOne(GROUP_ID);
+    Room room = roomRepository.findOne(ROOM_ID);
+    EventType eventType = eventTypeRepository.findOne(EVENT_TYPE_ID);
+    LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0);
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < EVENTS_COUNT; i++) {
+      events.add(new Event(null, start.plusDays(i), start.plusDays(i).plusHours(2), room,
+          group, eventType));
+    }
+    return events;
+  }
+}
@@ -0,0 +1,166 @@
+package com.softserve.teamproject.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.softserve.teamproject.entity.assembler.EventResourceAssembler;
+import com.softserve.teamproject.entity.assembler.GroupResourceAssembler;
+import com.softserve.teamproject.entity.assembler.StudentResourceAssembler;
+import com.softserve.teamproject.entity.resource.GroupResource;
+import com.softserve.teamproject.service.TestStudent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Maps the listings to resources the way the services do and checks that the number of
+ * statements doesn't grow with the number of listed rows. The added rows reference locations,
+ * statuses, specializations, rooms and English levels that the first listing didn't load.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ListingStatementCountTest {
+
+  private static final String INSERT_GROUP = "insert into educational_group (name, location_id, "
+      + "start_date, finish_date, status_id, specialization_id, budget_owner_id) "
+      + "values (?, 3, '2017-06-01', '2017-09-01', ?, ?, 2)";
+  private static final String INSERT_EXPERT = "insert into expert (edu_group_id, expert_name) "
+      + "values (?, ?)";
+  private static final String INSERT_EVENT = "insert into event (start, end, group_id, "
+      + "event_type_id, room_id) values (?, ?, ?, ?, ?)";
+  private static final String INSERT_STUDENT = "insert into student (first_name, last_name, "
+      + "group_id, english_level_id, approved_by_expert_id) values (?, ?, ?, ?, ?)";
+  private static final List<Integer> GROUPS = Arrays.asList(1, 2, 5, 6);
+  private static final LocalDateTime START = LocalDateTime.of(2017, 7, 1, 0, 0);
+  private static final LocalDateTime FINISH = START.plusMonths(1);
+
+  @Autowired
+  private GroupRepository groupRepository;
+  @Autowired
+  private EventRepository eventRepository;
+  @Autowired
+  private StudentRepository studentRepository;
+  @Autowired
+  private GroupResourceAssembler groupResourceAssembler;
+  @Autowired
+  private EventResourceAssembler eventResourceAssembler;
+  @Autowired
+  private StudentResourceAssembler studentResourceAssembler;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @Before
+  public void setup() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @TestStudent
+  @Test
+  public void getUndeletedGroups_moreGroups_sameStatementCount() {
+    //Arrange
+    Supplier<Integer> listing = () -> {
+      List<GroupResource> resources = groupRepository.getUndeletedGroups().stream()
+          .map(groupResourceAssembler::toResource).collect(Collectors.toList());
+      resources.forEach(resource -> resource.getExperts().size());
+      return resources.size();
+    };
+    Counted before = count(listing);
+    insertRows();
+
+    //Act
+    Counted after = count(listing);
+
+    //Assert
+    assertTrue(after.rows > before.rows);
+    assertEquals(before.statements, after.statements);
+  }
+
+  @TestStudent
+  @Test
+  public void getEventsByGroupId_moreEvents_sameStatementCount() {
+    //Arrange
+    Supplier<Integer> listing = () -> eventRepository.getEventsByGroupId(GROUPS, START, FINISH)
+        .stream().map(eventResourceAssembler::toResource).collect(Collectors.toList()).size();
+    Counted before = count(listing);
+    insertRows();
+
+    //Act
+    Counted after = count(listing);
+
+    //Assert
+    assertTrue(after.rows > before.rows);
+    assertEquals(before.statements, after.statements);
+  }
+
+  @TestStudent
+  @Test
+  public void getStudentsAfter_moreStudents_sameStatementCount() {
+    //Arrange
+    Supplier<Integer> listing = () -> studentRepository.getStudentsAfter(null, 0, 50).stream()
+        .map(studentResourceAssembler::toResource).collect(Collectors.toList()).size();
+    Counted before = count(listing);
+    insertRows();
+
+    //Act
+    Counted after = count(listing);
+
+    //Assert
+    assertTrue(after.rows > before.rows);
+    assertEquals(before.statements, after.statements);
+  }
+
+  private Counted count(Supplier<Integer> listing) {
+    entityManager.clear();
+    long statementsBefore = statistics.getPrepareStatementCount();
+    int rows = listing.get();
+    return new Counted(rows, statistics.getPrepareStatementCount() - statementsBefore);
+  }
+
+  private void insertRows() {
+    jdbcTemplate.update("insert into room (`number`, location_id) values ('101', 3)");
+    jdbcTemplate.update(INSERT_GROUP, "OD-101", 2, 3);
+    jdbcTemplate.update(INSERT_GROUP, "OD-102", 5, 4);
+    jdbcTemplate.update(INSERT_EXPERT, 5, "Andriy Melnyk");
+    jdbcTemplate.update(INSERT_EXPERT, 6, "Olena Bondar");
+    jdbcTemplate.update(INSERT_EVENT, Timestamp.valueOf(START.plusDays(3)),
+        Timestamp.valueOf(START.plusDays(3).plusHours(2)), 5, 7, 3);
+    jdbcTemplate.update(INSERT_EVENT, Timestamp.valueOf(START.plusDays(4)),
+        Timestamp.valueOf(START.plusDays(4).plusHours(2)), 6, 6, null);
+    jdbcTemplate.update(INSERT_STUDENT, "Taras", "Koval", 5, 1, 2);
+    jdbcTemplate.update(INSERT_STUDENT, "Iryna", "Shevchuk", 6, 3, 3);
+  }
+
+  private static class Counted {
+
+    private final int rows;
+    private final long statements;
+
+    private Counted(int rows, long statements) {
+      this.rows = rows;
+      this.statements = statements;
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.softserve.teamproject.repository;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.service.TestSchedule;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Runs the queries of the custom repositories, explains every statement they send and checks
+ * that the queried table is read by an index. The database runs in MySQL compatibility mode.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.softserve.teamproject.repository.QueryPlanTest$RecordingStatementInspector"})
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+  private static final int GROUP_ID = 3;
+  private static final LocalDateTime START = LocalDateTime.of(2017, 7, 24, 0, 0);
+  private static final LocalDateTime FINISH = START.plusWeeks(1);
+
+  @Autowired
+  private EventRepository eventRepository;
+  @Autowired
+  private RecurringEventRepository recurringEventRepository;
+  @Autowired
+  private ScheduledTaskRepository scheduledTaskRepository;
+  @Autowired
+  private StudentRepository studentRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private GroupRepository groupRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @TestSchedule
+  @Test
+  public void eventQueries_explained_eventTableReadByIndex() {
+    //Arrange
+    List<Integer> groups = Arrays.asList(GROUP_ID, GROUP_ID + 1);
+    List<Integer> rooms = Arrays.asList(1, 2);
+
+    //Act
+    List<String> plans = explain(() -> {
+      eventRepository.getKeyEventsByGroupId(GROUP_ID);
+      eventRepository.getKeyEventsByGroupId(groups);
+      eventRepository.getEventsByGroupId(GROUP_ID);
+      eventRepository.getEventsByGroupId(GROUP_ID, START, FINISH);
+      eventRepository.getEventsByGroupId(groups, START, FINISH);
+      eventRepository.getEventsByTime(START, FINISH);
+      eventRepository.getCrossEvents(START, FINISH, 1);
+      eventRepository.getCrossEvents(START, FINISH, 1, 6);
+      eventRepository.getCrossEvents(START, FINISH, rooms);
+      eventRepository.getEventByEventTypeId(5, GROUP_ID);
+      eventRepository.getNotKeyEventsByGroupId(GROUP_ID, START, FINISH);
+      eventRepository.getScheduleVersionByGroupId(GROUP_ID);
+      eventRepository.getScheduleVersionByLocationId(1);
+      recurringEventRepository.getRecurringEventsByGroupId(GROUP_ID);
+      recurringEventRepository.getRecurringEventsByGroupId(groups, START, FINISH);
+      recurringEventRepository.getCrossRecurringEvents(START, FINISH, rooms);
+    });
+
+    //Assert
+    assertIndexesUsed(plans, "EVENT", "RECURRING_EVENT");
+  }
+
+  @TestSchedule
+  @Test
+  public void schedulerQueries_explained_taskTableReadByIndex() {
+    //Arrange
+    Group group = groupRepository.findOne(GROUP_ID);
+    LocalDate today = LocalDate.of(2017, 7, 24);
+
+    //Act
+    List<String> plans = explain(() -> {
+      scheduledTaskRepository.getOldTasks();
+      scheduledTaskRepository.getTasksByGroupId(group);
+      scheduledTaskRepository.getDuePartitions(today, 16);
+      scheduledTaskRepository.getDueTasks(today, Arrays.asList(1, 3), 16);
+    });
+
+    //Assert
+    assertIndexesUsed(plans, "TASK_SCHEDULER");
+  }
+
+  @TestSchedule
+  @Test
+  public void studentAndUserQueries_explained_tablesReadByIndex() {
+    //Act
+    List<String> plans = explain(() -> {
+      studentRepository.getStudentsByGroupId(GROUP_ID);
+      studentRepository.getStudentsAfter(null, 0, 10);
+      userRepository.getUserByNickName("OlegShvets");
+    });
+
+    //Assert
+    assertIndexesUsed(plans, "STUDENT", "USER");
+  }
+
+  private List<String> explain(Runnable queries) {
+    RecordingStatementInspector.STATEMENTS.clear();
+    queries.run();
+    List<String> statements = new ArrayList<>(RecordingStatementInspector.STATEMENTS);
+    List<String> plans = new ArrayList<>();
+    for (String statement : statements) {
+      plans.add(jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement)) {
+          ParameterMetaData parameters = explain.getParameterMetaData();
+          for (int i = 1; i <= parameters.getParameterCount(); i++) {
+            explain.setObject(i, null);
+          }
+          try (ResultSet plan = explain.executeQuery()) {
+            plan.next();
+            return plan.getString(1);
+          }
+        }
+      }));
+    }
+    return plans;
+  }
+
+  private void assertIndexesUsed(List<String> plans, String... tables) {
+    assertFalse(plans.isEmpty());
+    for (String table : tables) {
+      Pattern tableScan = Pattern.compile("PUBLIC\\." + table + "\\.tableScan");
+      boolean queried = false;
+      for (String plan : plans) {
+        queried |= plan.contains("PUBLIC." + table + " ");
+        assertFalse(plan, tableScan.matcher(plan).find());
+      }
+      assertTrue(table + " is not queried", queried);
+    }
+  }
+
+  /**
+   * Records the statements prepared by Hibernate.
+   */
+  public static class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = Collections
+        .synchronizedList(new ArrayList<>());
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.softserve.teamproject.repository;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.softserve.teamproject.entity.Room;
+import com.softserve.teamproject.entity.Status;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks that reference data is read from the second-level cache. The methods aren't
+ * transactional, so each repository call uses its own persistence context.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Sql("/test-data-group.sql")
+@Sql(scripts = "/test-clean-table.sql", executionPhase = AFTER_TEST_METHOD)
+public class ReferenceDataCacheTest {
+
+  private static final String ADMIN = "admin";
+
+  @Autowired
+  private RoomRepository roomRepository;
+  @Autowired
+  private StatusRepository statusRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private MockMvc mvc;
+
+  private SessionFactory sessionFactory;
+  private Statistics statistics;
+
+  @Before
+  public void setup() {
+    sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    sessionFactory.getCache().evictAllRegions();
+    statistics = sessionFactory.getStatistics();
+  }
+
+  @After
+  public void cleanCache() {
+    sessionFactory.getCache().evictAllRegions();
+  }
+
+  @Test
+  public void findOne_roomReadTwice_secondReadFromCache() {
+    //Arrange
+    final int ROOM_ID = 1;
+    roomRepository.findOne(ROOM_ID);
+    long statementsBefore = statistics.getPrepareStatementCount();
+    long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+    //Act
+    Room room = roomRepository.findOne(ROOM_ID);
+
+    //Assert
+    assertEquals(ROOM_ID, room.getId().intValue());
+    assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+    assertTrue(statistics.getSecondLevelCacheHitCount() > hitsBefore);
+  }
+
+  @Test
+  public void getStatusByName_readTwice_secondReadFromQueryCache() {
+    //Arrange
+    final String STATUS_NAME = "planned";
+    statusRepository.getStatusByName(STATUS_NAME);
+    long statementsBefore = statistics.getPrepareStatementCount();
+    long queryHitsBefore = statistics.getQueryCacheHitCount();
+
+    //Act
+    Status status = statusRepository.getStatusByName(STATUS_NAME);
+
+    //Assert
+    assertEquals(STATUS_NAME, status.getName());
+    assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+    assertEquals(queryHitsBefore + 1, statistics.getQueryCacheHitCount());
+  }
+
+  @WithMockUser(authorities = ADMIN)
+  @Test
+  public void getCacheStatistics_admin_entityRegionsReturned() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/cache/statistics";
+    final String EXPECTED_REGION = Status.class.getName();
+
+    //Act && Assert
+    mvc.perform(get(TESTED_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].region", hasItem(EXPECTED_REGION)));
+  }
+
+  @WithMockUser(authorities = ADMIN)
+  @Test
+  public void evictCache_notExistedRegion_badRequestStatus() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/cache";
+
+    //Act && Assert
+    mvc.perform(delete(TESTED_URL)
+        .param("region", "com.softserve.teamproject.entity.Unknown"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @WithMockUser(authorities = "teacher")
+  @Test
+  public void evictCache_notAdmin_forbiddenStatus() throws Exception {
+    //Arrange
+    final String TESTED_URL = "/cache";
+
+    //Act && Assert
+    mvc.perform(delete(TESTED_URL))
+        .andExpect(status().isForbidden());
+  }
+}
@@ -0,0 +1,163 @@
+package com.softserve.teamproject.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import com.softserve.teamproject.dto.CopyPasteJob;
+import com.softserve.teamproject.dto.CopyPasteJob.Status;
+import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
+import com.softserve.teamproject.entity.CopyPasteJobKey;
+import com.softserve.teamproject.repository.CopyPasteJobKeyRepository;
+import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.RecurringEventRepository;
+import com.softserve.teamproject.service.CopyPasteJobService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.persistence.EntityNotFoundException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * The methods aren't transactional, so the workers of the jobs see the test data.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("/test-data-schedule.sql")
+@Sql(scripts = "/test-clean-table.sql", executionPhase = AFTER_TEST_METHOD)
+public class CopyPasteJobServiceImplTest {
+
+  private static final String COORDINATOR = "DmytroPetin";
+  private static final int CURRENT_GROUP_ID = 3;
+  private static final long TIMEOUT_MILLIS = 10_000;
+
+  @Autowired
+  private CopyPasteJobService copyPasteJobService;
+  @Autowired
+  private GroupRepository groupRepository;
+  @Autowired
+  private RecurringEventRepository recurringEventRepository;
+  @Autowired
+  private CopyPasteJobKeyRepository jobKeyRepository;
+
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void submit_sameKeyTwice_eventsPastedOnce() throws InterruptedException {
+    //Arrange
+    final String KEY = "copy-paste-1";
+    CopyPasteScheduleWrapper wrapper = getCopyPasteWrapper(LocalDate.parse("2017-07-24"));
+
+    //Act
+    CopyPasteJob job = copyPasteJobService.submit(wrapper, KEY);
+    CopyPasteJob retried = copyPasteJobService.submit(wrapper, KEY);
+    waitUntilFinished(job);
+    int pastedCount = countGroupRecurringEvents();
+    CopyPasteJob retriedAfterDone = copyPasteJobService.submit(wrapper, KEY);
+
+    //Assert
+    assertEquals(job.getId(), retried.getId());
+    assertEquals(job.getId(), retriedAfterDone.getId());
+    assertEquals(Status.DONE, copyPasteJobService.getJob(job.getId()).getStatus());
+    assertEquals(1, pastedCount);
+    assertEquals(pastedCount, countGroupRecurringEvents());
+  }
+
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void submit_sameKeyAfterFailedJob_eventsPasted() throws InterruptedException {
+    //Arrange
+    final String KEY = "copy-paste-2";
+    CopyPasteJob failed = copyPasteJobService.submit(
+        getCopyPasteWrapper(LocalDate.parse("2017-01-02")), KEY);
+    waitUntilFinished(failed);
+
+    //Act
+    CopyPasteJob retried = copyPasteJobService.submit(
+        getCopyPasteWrapper(LocalDate.parse("2017-07-24")), KEY);
+    waitUntilFinished(retried);
+
+    //Assert
+    assertEquals(Status.FAILED, failed.getStatus());
+    assertNull(jobKeyRepository.findOne(failed.getId()).getIdempotencyKey());
+    assertNotEquals(failed.getId(), retried.getId());
+    assertEquals(Status.DONE, retried.getStatus());
+    assertEquals(1, countGroupRecurringEvents());
+  }
+
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void submit_keyOfJobOfOtherNode_storedJobReturned() {
+    //Arrange
+    final String KEY = "copy-paste-3";
+    final String JOB_ID = "job-of-other-node";
+    CopyPasteJobKey jobKey = new CopyPasteJobKey(JOB_ID, COORDINATOR, KEY);
+    jobKey.setStatus(Status.DONE);
+    jobKeyRepository.save(jobKey);
+
+    //Act
+    CopyPasteJob job = copyPasteJobService.submit(
+        getCopyPasteWrapper(LocalDate.parse("2017-07-24")), KEY);
+
+    //Assert
+    assertEquals(JOB_ID, job.getId());
+    assertEquals(Status.DONE, copyPasteJobService.getJob(JOB_ID).getStatus());
+    assertEquals(0, countGroupRecurringEvents());
+  }
+
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void submit_keyOfJobLostByStoppedNode_eventsPasted() throws InterruptedException {
+    //Arrange
+    final String KEY = "copy-paste-4";
+    final String JOB_ID = "job-of-stopped-node";
+    CopyPasteJobKey jobKey = new CopyPasteJobKey(JOB_ID, COORDINATOR, KEY);
+    jobKey.setStatus(Status.RUNNING);
+    jobKey.setUpdatedAt(LocalDateTime.now().minusDays(1));
+    jobKeyRepository.save(jobKey);
+
+    //Act
+    CopyPasteJob job = copyPasteJobService.submit(
+        getCopyPasteWrapper(LocalDate.parse("2017-07-24")), KEY);
+    waitUntilFinished(job);
+
+    //Assert
+    assertNotEquals(JOB_ID, job.getId());
+    assertNull(jobKeyRepository.findOne(JOB_ID));
+    assertEquals(Status.DONE, job.getStatus());
+    assertEquals(1, countGroupRecurringEvents());
+  }
+
+  @WithUserDetails(COORDINATOR)
+  @Test(expected = EntityNotFoundException.class)
+  public void getJob_unknownId_exceptionThrown() {
+    //Act
+    copyPasteJobService.getJob("unknown");
+  }
+
+  private CopyPasteScheduleWrapper getCopyPasteWrapper(LocalDate copyWeekDate) {
+    CopyPasteScheduleWrapper wrapper = new CopyPasteScheduleWrapper();
+    wrapper.setGroup(groupRepository.findOne(CURRENT_GROUP_ID));
+    wrapper.setCopyWeekDate(copyWeekDate);
+    wrapper.setPasteFillDate(LocalDate.now().plusWeeks(2));
+    return wrapper;
+  }
+
+  private void waitUntilFinished(CopyPasteJob job) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
+  private int countGroupRecurringEvents() {
+    return recurringEventRepository.getRecurringEventsByGroupId(CURRENT_GROUP_ID).size();
+  }
+}
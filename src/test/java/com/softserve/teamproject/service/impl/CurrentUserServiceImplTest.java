@@ -0,0 +1,107 @@
+package com.softserve.teamproject.service.impl;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softserve.teamproject.entity.User;
+import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.SecurityService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class CurrentUserServiceImplTest {
+
+  private static final String NICK_NAME = "DmytroPetin";
+  private static final int USER_ID = 3;
+
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private SecurityService securityService;
+
+  private CurrentUserServiceImpl currentUserService;
+  private User user;
+
+  @Before
+  public void init() {
+    MockitoAnnotations.initMocks(this);
+    user = new User();
+    user.setId(USER_ID);
+    user.setNickName(NICK_NAME);
+    when(userRepository.getUserByNickName(NICK_NAME)).thenReturn(user);
+    when(securityService.findLoggedInUsername()).thenReturn(NICK_NAME);
+    currentUserService = new CurrentUserServiceImpl();
+    currentUserService.setUserRepository(userRepository);
+    currentUserService.setSecurityService(securityService);
+  }
+
+  @After
+  public void cleanRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void getCurrentUser_sameRequest_userLoadedOnce() {
+    //Arrange
+    currentUserService.setTtlSeconds(0);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    //Act
+    currentUserService.getCurrentUser();
+    User actual = currentUserService.getCurrentUser();
+
+    //Assert
+    assertSame(user, actual);
+    verify(userRepository, times(1)).getUserByNickName(NICK_NAME);
+  }
+
+  @Test
+  public void getUser_withinTtl_userLoadedOnce() {
+    //Arrange
+    currentUserService.setTtlSeconds(30);
+
+    //Act
+    currentUserService.getUser(NICK_NAME);
+    User actual = currentUserService.getUser(NICK_NAME);
+
+    //Assert
+    assertSame(user, actual);
+    verify(userRepository, times(1)).getUserByNickName(NICK_NAME);
+  }
+
+  @Test
+  public void getUser_userEvicted_userLoadedAgain() {
+    //Arrange
+    currentUserService.setTtlSeconds(30);
+    currentUserService.getUser(NICK_NAME);
+
+    //Act
+    currentUserService.evict(USER_ID);
+    currentUserService.getUser(NICK_NAME);
+
+    //Assert
+    verify(userRepository, times(2)).getUserByNickName(NICK_NAME);
+  }
+
+  @Test
+  public void getUser_ttlDisabled_userLoadedEveryTime() {
+    //Arrange
+    currentUserService.setTtlSeconds(0);
+
+    //Act
+    currentUserService.getUser(NICK_NAME);
+    currentUserService.getUser(NICK_NAME);
+
+    //Assert
+    verify(userRepository, times(2)).getUserByNickName(NICK_NAME);
+  }
+}
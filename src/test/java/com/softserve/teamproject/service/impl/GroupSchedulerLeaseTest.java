@@ -0,0 +1,117 @@
+package com.softserve.teamproject.service.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import com.softserve.teamproject.TeamProjectDp115Application;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Starts two nodes on one database and checks that a due task is applied by the node holding the
+ * lease of its partition only, and that the other node takes the partition over once the lease
+ * expires.
+ */
+public class GroupSchedulerLeaseTest {
+
+  private static final ZonedDateTime NOW = LocalDate.of(2017, 9, 4).atTime(10, 0)
+      .atZone(ZoneId.systemDefault());
+  private static final long LEASE_SECONDS = 300;
+  private static final int GROUP_ID = 1;
+  private static final int IN_PROCESS = 4;
+  private static final int OFFERING = 5;
+
+  private ConfigurableApplicationContext nodeA;
+  private ConfigurableApplicationContext nodeB;
+  private JdbcTemplate jdbcTemplate;
+
+  @Before
+  public void startNodes() {
+    nodeA = startNode("node-a");
+    nodeB = startNode("node-b");
+    jdbcTemplate = nodeB.getBean(JdbcTemplate.class);
+    new ResourceDatabasePopulator(new ClassPathResource("test-data-schedule.sql"))
+        .execute(nodeB.getBean(DataSource.class));
+  }
+
+  @After
+  public void stopNodes() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  public void run_leaseOfNodeExpired_taskAppliedByAnotherNode() {
+    //Arrange
+    insertTask(IN_PROCESS);
+
+    //Act
+    run(nodeA, Duration.ZERO);
+
+    //Assert
+    assertEquals(IN_PROCESS, getGroupStatus());
+    assertEquals(0, getTasksCount());
+
+    //Arrange
+    insertTask(OFFERING);
+
+    //Act
+    run(nodeB, Duration.ofMinutes(1));
+
+    //Assert
+    assertEquals(IN_PROCESS, getGroupStatus());
+    assertEquals(1, getTasksCount());
+
+    //Arrange
+    nodeA.close();
+
+    //Act
+    run(nodeB, Duration.ofSeconds(LEASE_SECONDS).plusMinutes(1));
+
+    //Assert
+    assertEquals(OFFERING, getGroupStatus());
+    assertEquals(0, getTasksCount());
+  }
+
+  private static ConfigurableApplicationContext startNode(String nodeId) {
+    return new SpringApplicationBuilder(TeamProjectDp115Application.class)
+        .profiles("test")
+        .properties("server.port=0", "spring.jmx.enabled=false",
+            "spring.datasource.url=jdbc:h2:mem:lease;DB_CLOSE_ON_EXIT=FALSE",
+            "scheduler.node-id=" + nodeId, "scheduler.lease-seconds=" + LEASE_SECONDS)
+        .run();
+  }
+
+  private static void run(ConfigurableApplicationContext node, Duration sinceNow) {
+    GroupScheduler scheduler = node.getBean(GroupScheduler.class);
+    scheduler.setClock(Clock.fixed(NOW.plus(sinceNow).toInstant(), NOW.getZone()));
+    scheduler.run();
+  }
+
+  private void insertTask(int statusId) {
+    jdbcTemplate.update(
+        "insert into task_scheduler (date_Of_Update, group_id, status_id) values (?, ?, ?)",
+        Date.valueOf(NOW.toLocalDate()), GROUP_ID, statusId);
+  }
+
+  private int getGroupStatus() {
+    return jdbcTemplate.queryForObject(
+        "select status_id from educational_group where id = ?", Integer.class, GROUP_ID);
+  }
+
+  private int getTasksCount() {
+    return jdbcTemplate.queryForObject("select count(*) from task_scheduler", Integer.class);
+  }
+}
@@ -0,0 +1,162 @@
+package com.softserve.teamproject.service.impl;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.ScheduledTask;
+import com.softserve.teamproject.entity.Status;
+import com.softserve.teamproject.repository.ScheduledTaskRepository;
+import com.softserve.teamproject.repository.SchedulerLeaseRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class GroupSchedulerTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2017, 9, 4);
+  private static final int WAIT_MILLIS = 1000;
+  private static final int PARTITIONS = 4;
+  private static final String NODE_ID = "node-a";
+
+  @Mock
+  private ScheduledTaskRepository schedulerRepo;
+  @Mock
+  private SchedulerLeaseRepository leaseRepo;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private GroupScheduler scheduler;
+
+  @Before
+  public void init() {
+    MockitoAnnotations.initMocks(this);
+    scheduler = new GroupScheduler(schedulerRepo);
+    scheduler.setLeaseRepo(leaseRepo);
+    scheduler.setTransactionManager(transactionManager);
+    scheduler.setClock(getClock(TODAY));
+    scheduler.setNodeId(NODE_ID);
+    scheduler.setPartitionCount(PARTITIONS);
+    scheduler.setLeaseSeconds(300);
+  }
+
+  @After
+  public void stopScheduler() {
+    scheduler.stop();
+  }
+
+  @Test
+  public void start_dueTasksOfLeasedPartition_dueTasksAppliedInOneBatch() {
+    //Arrange
+    ScheduledTask inProcess = getTask(1, 1, 4, TODAY.minusDays(3));
+    ScheduledTask offering = getTask(2, 1, 5, TODAY);
+    ScheduledTask graduated = getTask(3, 1, 6, TODAY.plusDays(30));
+    when(schedulerRepo.findAll()).thenReturn(Arrays.asList(graduated, offering, inProcess));
+    when(schedulerRepo.getDuePartitions(TODAY, PARTITIONS))
+        .thenReturn(Collections.singletonList(1));
+    when(leaseRepo.claim(eq(1), eq(NODE_ID), any(LocalDateTime.class), any(LocalDateTime.class)))
+        .thenReturn(1);
+    when(schedulerRepo.getDueTasks(TODAY, Collections.singletonList(1), PARTITIONS))
+        .thenReturn(new ArrayList<>(Arrays.asList(offering, inProcess)));
+
+    //Act
+    scheduler.start();
+
+    //Assert
+    verify(schedulerRepo, timeout(WAIT_MILLIS)).applyTasks(Arrays.asList(inProcess, offering));
+  }
+
+  @Test
+  public void run_partitionLeasedByAnotherNode_tasksNotApplied() {
+    //Arrange
+    when(schedulerRepo.getDuePartitions(TODAY, PARTITIONS))
+        .thenReturn(Collections.singletonList(1));
+    when(leaseRepo.claim(eq(1), eq(NODE_ID), any(LocalDateTime.class), any(LocalDateTime.class)))
+        .thenReturn(0);
+    scheduler.start();
+
+    //Act
+    scheduler.run();
+
+    //Assert
+    verify(schedulerRepo, never())
+        .getDueTasks(any(LocalDate.class), anyCollectionOf(Integer.class), anyInt());
+    verify(schedulerRepo, never()).applyTasks(anyListOf(ScheduledTask.class));
+  }
+
+  @Test
+  public void clearTasks_taskOfGroupQueued_taskNotAppliedWhenDue() {
+    //Arrange
+    ScheduledTask future = getTask(1, 1, 6, TODAY.plusDays(1));
+    List<ScheduledTask> groupTasks = Collections.singletonList(future);
+    when(schedulerRepo.findAll()).thenReturn(groupTasks);
+    when(schedulerRepo.getTasksByGroupId(future.getGroup())).thenReturn(groupTasks);
+    when(schedulerRepo.getDuePartitions(future.getDayOfUpdate(), PARTITIONS))
+        .thenReturn(Collections.singletonList(1));
+    when(leaseRepo.claim(eq(1), eq(NODE_ID), any(LocalDateTime.class), any(LocalDateTime.class)))
+        .thenReturn(1);
+    when(schedulerRepo.getDueTasks(future.getDayOfUpdate(), Collections.singletonList(1),
+        PARTITIONS)).thenReturn(new ArrayList<>());
+    scheduler.start();
+
+    //Act
+    scheduler.clearTasks(future.getGroup());
+    scheduler.setClock(getClock(future.getDayOfUpdate()));
+    scheduler.run();
+
+    //Assert
+    verify(schedulerRepo).delete(groupTasks);
+    verify(schedulerRepo, never()).applyTasks(groupTasks);
+  }
+
+  @Test
+  public void start_noDueTasks_nothingApplied() {
+    //Arrange
+    List<ScheduledTask> tasks = Collections.singletonList(getTask(1, 1, 6, TODAY.plusDays(1)));
+    when(schedulerRepo.findAll()).thenReturn(tasks);
+
+    //Act
+    scheduler.start();
+
+    //Assert
+    verify(schedulerRepo, after(WAIT_MILLIS).never())
+        .applyTasks(anyListOf(ScheduledTask.class));
+  }
+
+  private static Clock getClock(LocalDate today) {
+    ZoneId zone = ZoneId.systemDefault();
+    return Clock.fixed(today.atTime(10, 0).atZone(zone).toInstant(), zone);
+  }
+
+  private static ScheduledTask getTask(int id, int groupId, int statusId, LocalDate day) {
+    Group group = new Group();
+    group.setId(groupId);
+    Status status = new Status();
+    status.setId(statusId);
+    ScheduledTask task = new ScheduledTask();
+    task.setId(id);
+    task.setGroup(group);
+    task.setUpdatedStatus(status);
+    task.setDayOfUpdate(day);
+    return task;
+  }
+}
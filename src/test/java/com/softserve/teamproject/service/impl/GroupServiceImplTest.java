@@ -17,6 +17,7 @@ import com.softserve.teamproject.repository.GroupRepository;
 import com.softserve.teamproject.repository.LocationRepository;
 import com.softserve.teamproject.repository.StatusRepository;
 import com.softserve.teamproject.repository.UserRepository;
+import com.softserve.teamproject.service.KeyDateWindowService;
 import com.softserve.teamproject.service.TestGroup;
 import com.softserve.teamproject.validation.GroupValidator;
 import java.util.ArrayList;
@@ -52,6 +53,8 @@ public class GroupServiceImplTest {
   private final String TEACHER_LOCATION_WITHOUT_GROUPS = "NoOlegShvets";
   @Mock
   GroupScheduler scheduler;
+  @Mock
+  KeyDateWindowService keyDateWindowService;
   @Spy
   private GroupResourceAssembler groupResourceAssembler;
   @Autowired
@@ -75,6 +78,7 @@ public class GroupServiceImplTest {
     doNothing().when(groupResourceAssembler).initLinks(any(), any());
     groupService.setGroupResourceAssembler(groupResourceAssembler);
     groupService.setScheduler(scheduler);
+    groupService.setKeyDateWindowService(keyDateWindowService);
   }
 
   @TestGroup
@@ -0,0 +1,76 @@
+package com.softserve.teamproject.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.softserve.teamproject.repository.GroupRepository;
+import com.softserve.teamproject.repository.KeyDateWindowRepository;
+import com.softserve.teamproject.service.KeyDateWindowService;
+import com.softserve.teamproject.service.TestSchedule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class KeyDateWindowServiceImplTest {
+
+  private static final int GROUP_ID = 5;
+  private static final int STRATEGY_ID = 1;
+  private static final int KEY_EVENT_TEMPLATES = 4;
+
+  @Autowired
+  private KeyDateWindowService keyDateWindowService;
+  @Autowired
+  private KeyDateWindowRepository windowRepository;
+  @Autowired
+  private GroupRepository groupRepository;
+
+  @TestSchedule
+  @Test
+  public void storeMissingWindows_groupsSavedBeforeWindows_windowsStored() {
+    //Arrange
+    int groups = groupRepository.getGroupsWithoutKeyDateWindows().size();
+    assertTrue(windowRepository.findByGroupId(GROUP_ID).isEmpty());
+
+    //Act
+    int stored = keyDateWindowService.storeMissingWindows();
+
+    //Assert
+    assertEquals(groups, stored);
+    assertEquals(KEY_EVENT_TEMPLATES, windowRepository.findByGroupId(GROUP_ID).size());
+    assertTrue(groupRepository.getGroupsWithoutKeyDateWindows().isEmpty());
+  }
+
+  @TestSchedule
+  @Test
+  public void storeMissingWindows_windowsStored_nothingStoredAgain() {
+    //Arrange
+    keyDateWindowService.storeMissingWindows();
+    long windows = windowRepository.count();
+
+    //Act
+    int stored = keyDateWindowService.storeMissingWindows();
+
+    //Assert
+    assertEquals(0, stored);
+    assertEquals(windows, windowRepository.count());
+  }
+
+  @TestSchedule
+  @Test
+  public void updateStrategyWindows_groupOfStrategy_windowsOfGroupStored() {
+    //Arrange
+    assertTrue(windowRepository.findByGroupId(GROUP_ID).isEmpty());
+
+    //Act
+    keyDateWindowService.updateStrategyWindows(STRATEGY_ID);
+
+    //Assert
+    assertEquals(KEY_EVENT_TEMPLATES, windowRepository.findByGroupId(GROUP_ID).size());
+  }
+}
@@ -2,20 +2,33 @@ package com.softserve.teamproject.service.impl;
 
 import static com.softserve.teamproject.utils.DateUtil.getWorkWeekOfDate;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.softserve.teamproject.dto.CopyPasteScheduleWrapper;
+import com.softserve.teamproject.dto.EventDto;
+import com.softserve.teamproject.entity.Event;
 import com.softserve.teamproject.entity.resource.EventResource;
 import com.softserve.teamproject.repository.EventRepository;
+import com.softserve.teamproject.repository.RecurringEventRepository;
 import com.softserve.teamproject.service.ScheduleService;
 import com.softserve.teamproject.service.TestSchedule;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -29,10 +42,15 @@ public class ScheduleServiceImplTest {
   private final static int FINISHED_GROUP_ID = 2;
   private final static int CURRENT_GROUP_ID = 3;
   private final static String TEACHER = "OlegShvets";
+  private final static String COORDINATOR = "LukasLukichich";
+  private final static String ALIEN_COORDINATOR = "DmytroPetin";
+  private final static int COPIED_EVENT_ID = 6;
 
   @Autowired
   private EventRepository eventRepository;
   @Autowired
+  private RecurringEventRepository recurringEventRepository;
+  @Autowired
   private ScheduleService scheduleService;
 
   @Before
@@ -104,4 +122,134 @@ public class ScheduleServiceImplTest {
     //Assert
     assertEquals(EXPECTED_SIZE, events.size());
   }
+
+  @TestSchedule
+  @WithUserDetails(TEACHER)
+  @Test
+  public void copyPasteSchedule_copyWeekAfterPasteStart_eventsPastedFromStartOfPaste() {
+    //Arrange
+    LocalDate today = LocalDate.now();
+    LocalDate copyWeekDate = today.plusWeeks(10);
+    LocalDate pasteFillDate = today.plusWeeks(3);
+    Event copied = eventRepository.findOne(COPIED_EVENT_ID);
+    LocalDateTime copiedStart = copyWeekDate.with(DayOfWeek.THURSDAY).atTime(18, 30);
+    eventRepository.save(new Event(null, copiedStart, copiedStart.plusMinutes(30),
+        copied.getRoom(), copied.getGroup(), copied.getEventType()));
+    CopyPasteScheduleWrapper wrapper = new CopyPasteScheduleWrapper();
+    wrapper.setGroup(copied.getGroup());
+    wrapper.setCopyWeekDate(copyWeekDate);
+    wrapper.setPasteFillDate(pasteFillDate);
+    List<LocalDate> expectedDates = new ArrayList<>();
+    for (LocalDate date = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.THURSDAY));
+        !date.isAfter(pasteFillDate); date = date.plusWeeks(1)) {
+      expectedDates.add(date);
+    }
+
+    //Act
+    Iterable<EventDto> conflicts = scheduleService.copyPasteSchedule(wrapper);
+
+    //Assert
+    assertFalse(conflicts.iterator().hasNext());
+    List<LocalDate> pastedDates = scheduleService
+        .getEventsByGroupId(copied.getGroup().getId(), today, pasteFillDate).stream()
+        .map(event -> event.getStart().toLocalDate())
+        .collect(Collectors.toList());
+    assertEquals(expectedDates, pastedDates);
+  }
+
+  @TestSchedule
+  @WithUserDetails(TEACHER)
+  @Test
+  public void copyPasteSchedule_pastedTwice_occurrencesOfFirstPasteConflict() {
+    //Arrange
+    LocalDate today = LocalDate.now();
+    CopyPasteScheduleWrapper wrapper = getCopyPasteWrapper(today.plusWeeks(3));
+    scheduleService.copyPasteSchedule(wrapper);
+    List<EventResource> pasted = scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, today,
+        wrapper.getPasteFillDate());
+
+    //Act
+    Iterable<EventDto> conflicts = scheduleService.copyPasteSchedule(wrapper);
+
+    //Assert
+    List<LocalDateTime> conflictStarts = new ArrayList<>();
+    conflicts.forEach(conflict -> conflictStarts.add(conflict.getStart()));
+    assertEquals(pasted.stream().map(EventResource::getStart).collect(Collectors.toList()),
+        conflictStarts);
+    assertEquals(1, recurringEventRepository.getRecurringEventsByGroupId(CURRENT_GROUP_ID)
+        .size());
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void overrideOccurrence_occurrenceMovedToMorning_storedEventReplacesOccurrence() {
+    //Arrange
+    LocalDate today = LocalDate.now();
+    CopyPasteScheduleWrapper wrapper = getCopyPasteWrapper(today.plusWeeks(3));
+    scheduleService.copyPasteSchedule(wrapper);
+    List<EventResource> pasted = scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, today,
+        wrapper.getPasteFillDate());
+    EventResource occurrence = pasted.get(1);
+    LocalDate date = occurrence.getStart().toLocalDate();
+    Event event = new Event();
+    event.setStart(date.atTime(10, 0));
+    event.setEnd(date.atTime(11, 0));
+
+    //Act
+    EventResource override = scheduleService.overrideOccurrence(
+        occurrence.getRecurringEventId(), date, event, () -> COORDINATOR);
+
+    //Assert
+    List<EventResource> events = scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, date,
+        date);
+    assertNull(occurrence.getEventId());
+    assertEquals(1, events.size());
+    assertEquals(override.getEventId(), events.get(0).getEventId());
+    assertEquals(date.atTime(10, 0), events.get(0).getStart());
+    assertEquals(pasted.size(), scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, today,
+        wrapper.getPasteFillDate()).size());
+  }
+
+  @TestSchedule
+  @WithUserDetails(COORDINATOR)
+  @Test
+  public void overrideOccurrence_coordinatorOfOtherLocation_occurrenceNotChanged() {
+    //Arrange
+    LocalDate today = LocalDate.now();
+    CopyPasteScheduleWrapper wrapper = getCopyPasteWrapper(today.plusWeeks(3));
+    scheduleService.copyPasteSchedule(wrapper);
+    EventResource occurrence = scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, today,
+        wrapper.getPasteFillDate()).get(1);
+    LocalDate date = occurrence.getStart().toLocalDate();
+    Event event = new Event();
+    event.setStart(date.atTime(10, 0));
+    event.setEnd(date.atTime(11, 0));
+
+    //Act
+    try {
+      scheduleService.overrideOccurrence(occurrence.getRecurringEventId(), date, event,
+          () -> ALIEN_COORDINATOR);
+      fail("The coordinator of other location mustn't override the occurrence");
+    } catch (AccessDeniedException e) {
+      // expected
+    }
+
+    //Assert
+    List<EventResource> events = scheduleService.getEventsByGroupId(CURRENT_GROUP_ID, date,
+        date);
+    assertEquals(1, events.size());
+    assertNull(events.get(0).getEventId());
+    assertEquals(occurrence.getStart(), events.get(0).getStart());
+    assertTrue(recurringEventRepository.findOne(occurrence.getRecurringEventId())
+        .getExceptions().isEmpty());
+  }
+
+  private CopyPasteScheduleWrapper getCopyPasteWrapper(LocalDate pasteFillDate) {
+    CopyPasteScheduleWrapper wrapper = new CopyPasteScheduleWrapper();
+    wrapper.setGroup(eventRepository.findOne(COPIED_EVENT_ID).getGroup());
+    wrapper.setCopyWeekDate(LocalDate.parse("2017-07-24"));
+    wrapper.setPasteFillDate(pasteFillDate);
+    return wrapper;
+  }
 }
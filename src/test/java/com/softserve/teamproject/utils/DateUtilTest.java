@@ -0,0 +1,70 @@
+package com.softserve.teamproject.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalField;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+import org.junit.Test;
+
+public class DateUtilTest {
+
+  private static final LocalDate START = LocalDate.of(2017, 1, 1);
+  private static final int DAYS = 366;
+
+  @Test
+  public void getMondayDateOfWeek_anyDayOfYear_sameAsWeekFieldsOfLocale() {
+    //Arrange
+    TemporalField dayOfWeek = WeekFields.of(Locale.forLanguageTag("ru")).dayOfWeek();
+
+    for (int i = 0; i < DAYS; i++) {
+      LocalDate date = START.plusDays(i);
+
+      //Act && Assert
+      assertEquals(date.with(dayOfWeek, 1), DateUtil.getMondayDateOfWeek(date));
+      assertEquals(date.with(dayOfWeek, 5), DateUtil.getFridayDateOfWeek(date));
+      assertEquals(date.with(dayOfWeek, 7), DateUtil.getSundayDateOfWeek(date));
+    }
+  }
+
+  @Test
+  public void getWorkWeekOfDate_sunday_mondayToFridayOfWeekExpected() {
+    //Act
+    List<LocalDate> week = DateUtil.getWorkWeekOfDate(LocalDate.of(2017, 9, 10));
+
+    //Assert
+    assertEquals(5, week.size());
+    assertEquals(LocalDate.of(2017, 9, 4), week.get(0));
+    assertEquals(LocalDate.of(2017, 9, 8), week.get(4));
+  }
+
+  @Test
+  public void isInWorkWeekOf_anyDayOfYear_sameAsWorkWeekContains() {
+    LocalDate weekDate = LocalDate.of(2017, 9, 6);
+    List<LocalDate> week = DateUtil.getWorkWeekOfDate(weekDate);
+
+    for (int i = 0; i < DAYS; i++) {
+      LocalDate date = START.plusDays(i);
+
+      //Act && Assert
+      assertEquals(week.contains(date), DateUtil.isInWorkWeekOf(date, weekDate));
+    }
+  }
+
+  @Test
+  public void isInRange_datesOnBounds_includedExpected() {
+    //Arrange
+    LocalDate start = LocalDate.of(2017, 9, 4);
+    LocalDate end = LocalDate.of(2017, 9, 8);
+
+    //Act && Assert
+    assertTrue(DateUtil.isInRange(start, start, end));
+    assertTrue(DateUtil.isInRange(end, start, end));
+    assertFalse(DateUtil.isInRange(start.minusDays(1), start, end));
+    assertFalse(DateUtil.isInRange(end.plusDays(1), start, end));
+  }
+}
@@ -0,0 +1,167 @@
+package com.softserve.teamproject.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class EntityMergerTest {
+
+  @Test
+  public void fillNullFields_targetWithNullFields_onlyNullFieldsFilledExpected() {
+    //Arrange
+    Entity target = new Entity(null, "target", null);
+    Entity source = new Entity(1, "source", 2);
+
+    //Act
+    Entity merged = EntityMerger.of(Entity.class).fillNullFields(target, source);
+
+    //Assert
+    assertSame(target, merged);
+    assertEquals(Integer.valueOf(1), target.id);
+    assertEquals("target", target.name);
+    assertEquals(Integer.valueOf(2), target.size);
+  }
+
+  @Test
+  public void fillNullFields_sourceWithNullFields_targetFieldsKeptExpected() {
+    //Arrange
+    Entity target = new Entity(1, "target", null);
+    Entity source = new Entity(null, null, null);
+
+    //Act
+    EntityMerger.of(Entity.class).fillNullFields(target, source);
+
+    //Assert
+    assertEquals(Integer.valueOf(1), target.id);
+    assertEquals("target", target.name);
+    assertNull(target.size);
+  }
+
+  @Test
+  public void fillMissingFields_zeroIsMissing_zeroAndNullFieldsFilledExpected() {
+    //Arrange
+    Entity target = new Entity(0, null, 3);
+    Entity source = new Entity(1, "source", 2);
+
+    //Act
+    EntityMerger.of(Entity.class).fillMissingFields(target, source,
+        value -> value == null || value.equals(0));
+
+    //Assert
+    assertEquals(Integer.valueOf(1), target.id);
+    assertEquals("source", target.name);
+    assertEquals(Integer.valueOf(3), target.size);
+  }
+
+  @Test
+  public void fillNullFields_fieldWithoutGetterAndSetter_fieldFilledExpected() {
+    //Arrange
+    Entity target = new Entity(1, "target", null);
+    Entity source = new Entity(1, "source", 2);
+
+    //Act
+    EntityMerger.of(Entity.class).fillNullFields(target, source);
+
+    //Assert
+    assertEquals(Integer.valueOf(2), target.size);
+  }
+
+  @Test
+  public void fillNullFields_finalField_fieldNotChangedExpected() {
+    //Arrange
+    Entity target = new Entity(1, null, 2);
+    Entity source = new Entity(1, "source", 2);
+
+    //Act
+    EntityMerger.of(Entity.class).fillNullFields(target, source);
+
+    //Assert
+    assertEquals("source", target.name);
+    assertNull(target.initialName);
+  }
+
+  @Test
+  public void fillNullFields_inheritedFields_onlyDeclaredFieldsFilledExpected() {
+    //Arrange
+    ChildEntity target = new ChildEntity(null, null, null);
+    ChildEntity source = new ChildEntity(1, "source", "child");
+
+    //Act
+    EntityMerger.of(ChildEntity.class).fillNullFields(target, source);
+
+    //Assert
+    assertNull(target.id);
+    assertNull(target.name);
+    assertEquals("child", target.description);
+  }
+
+  @Test
+  public void findNullField_nullFieldIgnored_nextNullFieldExpected() {
+    //Arrange
+    Entity entity = new Entity(null, "name", null);
+
+    //Act
+    String nullField = EntityMerger.of(Entity.class)
+        .findNullField(entity, Collections.singletonList("id"));
+
+    //Assert
+    assertEquals("size", nullField);
+  }
+
+  @Test
+  public void findNullField_allFieldsSetOrIgnored_nullExpected() {
+    //Arrange
+    Entity entity = new Entity(null, "name", null);
+
+    //Act
+    String nullField = EntityMerger.of(Entity.class)
+        .findNullField(entity, Arrays.asList("id", "size"));
+
+    //Assert
+    assertNull(nullField);
+  }
+
+  @Test
+  public void of_sameClass_sameMergerExpected() {
+    //Act&Assert
+    assertSame(EntityMerger.of(Entity.class), EntityMerger.of(Entity.class));
+  }
+
+  private static class Entity {
+
+    private final String initialName;
+    Integer id;
+    String name;
+    // has no getter and setter, the merger reads the field itself
+    private Integer size;
+
+    Entity(Integer id, String name, Integer size) {
+      this.id = id;
+      this.name = name;
+      this.size = size;
+      initialName = name;
+    }
+
+    public Integer getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  private static class ChildEntity extends Entity {
+
+    String description;
+
+    ChildEntity(Integer id, String name, String description) {
+      super(id, name, null);
+      this.description = description;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.softserve.teamproject.validation;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softserve.teamproject.dto.KeyDateDto;
+import com.softserve.teamproject.entity.EventType;
+import com.softserve.teamproject.entity.Group;
+import com.softserve.teamproject.entity.KeyDateWindow;
+import com.softserve.teamproject.entity.Role;
+import com.softserve.teamproject.entity.User;
+import com.softserve.teamproject.service.CurrentUserService;
+import com.softserve.teamproject.service.KeyDateWindowService;
+import com.softserve.teamproject.service.MessageByLocaleService;
+import java.time.LocalDate;
+import java.util.Collections;
+import javax.validation.ConstraintValidatorContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class KeyDatesValidatorTest {
+
+  private static final LocalDate MONDAY = LocalDate.of(2017, 5, 15);
+
+  @Mock
+  private KeyDateWindowService keyDateWindowService;
+  @Mock
+  private CurrentUserService currentUserService;
+  @Mock
+  private MessageByLocaleService messageByLocaleService;
+
+  private KeyDatesValidator validator;
+  private Group group;
+  private EventType eventType;
+
+  @Before
+  public void init() {
+    MockitoAnnotations.initMocks(this);
+    Role role = new Role();
+    role.setName("admin");
+    User user = new User();
+    user.setRole(role);
+    when(currentUserService.getCurrentUser()).thenReturn(user);
+    group = new Group();
+    group.setId(5);
+    group.setName("DP-118");
+    eventType = new EventType();
+    eventType.setId(1);
+    eventType.setName("Demo 1");
+    KeyDateWindow window = new KeyDateWindow();
+    window.setGroup(group);
+    window.setEventType(eventType);
+    window.setStartDate(MONDAY);
+    window.setEndDate(MONDAY.plusDays(4));
+    when(keyDateWindowService.getWindows(group))
+        .thenReturn(Collections.singletonList(window));
+    validator = new KeyDatesValidator();
+    validator.setKeyDateWindowService(keyDateWindowService);
+    validator.setCurrentUserService(currentUserService);
+    validator.setMessageByLocaleService(messageByLocaleService);
+    ReflectionTestUtils.setField(validator, "teacher", "teacher");
+    ReflectionTestUtils.setField(validator, "coordinator", "coordinator");
+  }
+
+  @After
+  public void cleanRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void isValid_keyDatesOfSameGroupInRequest_windowsReadOnce() {
+    //Arrange
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    ConstraintValidatorContext context = mock(ConstraintValidatorContext.class);
+
+    //Act
+    for (int i = 0; i < 3; i++) {
+      assertTrue(validator.isValid(getKeyDate(MONDAY.plusDays(i)), context));
+    }
+
+    //Assert
+    verify(keyDateWindowService, times(1)).getWindows(group);
+  }
+
+  @Test
+  public void isValid_keyDatesOutOfRequest_windowsReadForEachKeyDate() {
+    //Arrange
+    ConstraintValidatorContext context = mock(ConstraintValidatorContext.class);
+
+    //Act
+    for (int i = 0; i < 3; i++) {
+      assertTrue(validator.isValid(getKeyDate(MONDAY.plusDays(i)), context));
+    }
+
+    //Assert
+    verify(keyDateWindowService, times(3)).getWindows(group);
+  }
+
+  private KeyDateDto getKeyDate(LocalDate date) {
+    KeyDateDto keyDate = new KeyDateDto();
+    keyDate.setGroup(group);
+    keyDate.setEventType(eventType);
+    keyDate.setDate(date);
+    return keyDate;
+  }
+}
@@ -26,6 +26,7 @@ DELETE FROM event;
 ALTER TABLE event ALTER COLUMN id RESTART WITH 1;
 DELETE FROM event_type;
 ALTER TABLE event_type ALTER COLUMN id RESTART WITH 1;
+DELETE FROM student_attachment;
 DELETE FROM student;
 ALTER TABLE student ALTER COLUMN id RESTART WITH 1;
 DELETE FROM english_level;
@@ -38,5 +39,11 @@ DELETE FROM status_template;
 ALTER TABLE status_template ALTER COLUMN id RESTART WITH 1;
 DELETE FROM task_scheduler;
 ALTER TABLE task_scheduler ALTER COLUMN id RESTART WITH 1;
+DELETE FROM key_date_window;
+ALTER TABLE key_date_window ALTER COLUMN id RESTART WITH 1;
+DELETE FROM copy_paste_job_key;
+DELETE FROM recurring_event_exception;
+DELETE FROM recurring_event;
+ALTER TABLE recurring_event ALTER COLUMN id RESTART WITH 1;
 
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file